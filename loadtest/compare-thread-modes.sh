@@ -0,0 +1,32 @@
+#!/usr/bin/env bash
+# ============================================
+# Roda o mesmo perfil de carga nos dois modos de execução e imprime a comparação
+# Requer: jar empacotado (mvn package), k6, e as variáveis de banco/JWT da aplicação
+# ============================================
+set -euo pipefail
+
+cd "$(dirname "$0")"
+JAR=${JAR:-$(ls ../target/*.jar | grep -v original | head -n 1)}
+BASE_URL=${BASE_URL:-http://localhost:8080/api}
+: "${EMAIL:?EMAIL of the load user is required}"
+: "${PASSWORD:?PASSWORD of the load user is required}"
+
+mkdir -p results
+
+for mode in platform virtual; do
+    enabled=false
+    [ "$mode" = "virtual" ] && enabled=true
+
+    echo "▶️  Starting application (VIRTUAL_THREADS_ENABLED=$enabled)"
+    VIRTUAL_THREADS_ENABLED=$enabled java -jar "$JAR" > "results/$mode-app.log" 2>&1 &
+    app_pid=$!
+    trap 'kill $app_pid 2>/dev/null || true' EXIT
+
+    until curl -sf "$BASE_URL/actuator/health" > /dev/null; do sleep 2; done
+
+    k6 run --quiet -e BASE_URL="$BASE_URL" -e EMAIL="$EMAIL" -e PASSWORD="$PASSWORD" \
+        -e MODE="$mode" thread-modes.js
+
+    kill "$app_pid"
+    wait "$app_pid" 2>/dev/null || true
+done
@@ -0,0 +1,81 @@
+// ============================================
+// MUGEN RPG - Perfil de carga: threads de plataforma x threads virtuais
+// ============================================
+// Mesma carga (taxa de chegada fixa) nos mesmos endpoints de leitura, para comparar
+// vazão e p99 entre os dois modos. Endpoints de mutação ficam de fora (rate limit).
+//
+// Uso:
+//   k6 run -e BASE_URL=http://localhost:8080/api -e EMAIL=... -e PASSWORD=... -e MODE=virtual thread-modes.js
+// ============================================
+import http from 'k6/http';
+import { check, fail } from 'k6';
+import encoding from 'k6/encoding';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8080/api';
+const MODE = __ENV.MODE || 'unknown';
+const RATE = Number(__ENV.RATE || 200);          // requisições por segundo no platô
+const DURATION = __ENV.DURATION || '3m';
+const MAX_VUS = Number(__ENV.MAX_VUS || 2000);
+
+export const options = {
+    discardResponseBodies: true,
+    summaryTrendStats: ['avg', 'p(50)', 'p(95)', 'p(99)', 'max'],
+    scenarios: {
+        reads: {
+            executor: 'ramping-arrival-rate',
+            startRate: Math.max(1, Math.floor(RATE / 10)),
+            timeUnit: '1s',
+            preAllocatedVUs: Math.min(MAX_VUS, RATE),
+            maxVUs: MAX_VUS,
+            stages: [
+                { target: RATE, duration: '30s' },   // aquecimento (JIT, pool, caches)
+                { target: RATE, duration: DURATION }, // platô medido
+                { target: 0, duration: '10s' },
+            ],
+        },
+    },
+    tags: { mode: MODE },
+};
+
+export function setup() {
+    const login = http.post(`${BASE_URL}/auth/login`,
+        JSON.stringify({ email: __ENV.EMAIL, password: __ENV.PASSWORD }),
+        { headers: { 'Content-Type': 'application/json' }, responseType: 'text' });
+    if (login.status !== 200) {
+        fail(`login failed: ${login.status}`);
+    }
+    const token = login.json('access_token');
+    const headers = { Authorization: `Bearer ${token}` };
+
+    // Personagens do próprio usuário: inventário exige posse (hasPermission)
+    const userId = JSON.parse(encoding.b64decode(token.split('.')[1], 'rawurl', 's')).sub;
+    const characters = http.get(`${BASE_URL}/characters/owner/${userId}`, { headers, responseType: 'text' });
+    const owned = characters.json() || [];
+    if (owned.length === 0) {
+        fail('the load user needs at least one character');
+    }
+    return { headers, characterIds: owned.map((c) => c.id) };
+}
+
+export default function (data) {
+    const id = data.characterIds[Math.floor(Math.random() * data.characterIds.length)];
+    const params = { headers: data.headers };
+
+    const responses = http.batch([
+        ['GET', `${BASE_URL}/characters/${id}`, null, { ...params, tags: { name: 'character' } }],
+        ['GET', `${BASE_URL}/characters?page=0&size=20`, null, { ...params, tags: { name: 'characters' } }],
+        ['GET', `${BASE_URL}/characters/${id}/inventory`, null, { ...params, tags: { name: 'inventory' } }],
+    ]);
+    responses.forEach((res) => check(res, { 'status 200': (r) => r.status === 200 }));
+}
+
+export function handleSummary(data) {
+    const duration = data.metrics.http_req_duration.values;
+    const line = `${MODE}: ${data.metrics.http_reqs.values.rate.toFixed(1)} req/s, `
+        + `p50=${duration['p(50)'].toFixed(1)}ms p99=${duration['p(99)'].toFixed(1)}ms, `
+        + `failed=${(data.metrics.http_req_failed.values.rate * 100).toFixed(2)}%\n`;
+    return {
+        stdout: line,
+        [`results/${MODE}.json`]: JSON.stringify(data, null, 2),
+    };
+}
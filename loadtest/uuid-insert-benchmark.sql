@@ -0,0 +1,42 @@
+-- ============================================
+-- Benchmark de insert: chaves UUID v4 (aleatórias) x v7 (ordenadas no tempo)
+-- Uso: psql "$DATABASE_URL" -v rows=1000000 -f loadtest/uuid-insert-benchmark.sql
+-- Precisa da função uuid_generate_v7() (migration V9). Só cria tabelas temporárias.
+-- ============================================
+
+\set ON_ERROR_STOP on
+\if :{?rows}
+\else
+    \set rows 1000000
+\endif
+\timing on
+
+-- Pai (como character) e filho com FK indexada (como tp_transaction.character_id)
+CREATE TEMP TABLE bench_parent_v4 (id UUID PRIMARY KEY, created_at TIMESTAMP NOT NULL DEFAULT now());
+CREATE TEMP TABLE bench_parent_v7 (id UUID PRIMARY KEY, created_at TIMESTAMP NOT NULL DEFAULT now());
+CREATE TEMP TABLE bench_child_v4 (id BIGSERIAL PRIMARY KEY, parent_id UUID NOT NULL);
+CREATE TEMP TABLE bench_child_v7 (id BIGSERIAL PRIMARY KEY, parent_id UUID NOT NULL);
+CREATE INDEX ON bench_child_v4 (parent_id);
+CREATE INDEX ON bench_child_v7 (parent_id);
+
+\echo '--- insert pai v4'
+INSERT INTO bench_parent_v4 (id) SELECT gen_random_uuid() FROM generate_series(1, :rows);
+\echo '--- insert pai v7'
+INSERT INTO bench_parent_v7 (id) SELECT uuid_generate_v7() FROM generate_series(1, :rows);
+
+-- Filhos chegam na ordem de criação dos pais (personagens novos são os mais ativos)
+\echo '--- insert filho v4'
+INSERT INTO bench_child_v4 (parent_id) SELECT id FROM bench_parent_v4 ORDER BY created_at, ctid;
+\echo '--- insert filho v7'
+INSERT INTO bench_child_v7 (parent_id) SELECT id FROM bench_parent_v7 ORDER BY created_at, ctid;
+
+\timing off
+
+-- Índice menor e mais denso = menos páginas no cache e menos escrita (WAL) por insert
+SELECT c.relname                               AS indice,
+       pg_size_pretty(pg_relation_size(c.oid)) AS tamanho,
+       pg_relation_size(c.oid) / 8192          AS paginas
+FROM pg_class c
+WHERE c.relname IN ('bench_parent_v4_pkey', 'bench_parent_v7_pkey',
+                    'bench_child_v4_parent_id_idx', 'bench_child_v7_parent_id_idx')
+ORDER BY c.relname;
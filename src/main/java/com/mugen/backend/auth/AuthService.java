@@ -4,12 +4,17 @@ import com.mugen.backend.entity.Role;
 import com.mugen.backend.entity.User;
 import com.mugen.backend.repository.UserRepository;
 import com.mugen.backend.security.JwtTokenProvider;
+import com.mugen.backend.security.TokenRevocationService;
+import com.mugen.backend.security.VerifiedTokenCache;
+import com.mugen.backend.security.PrincipalCache;
+import com.mugen.backend.security.UserPrincipal;
 import com.mugen.backend.service.RoleService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 @Service
 @RequiredArgsConstructor
@@ -18,39 +23,70 @@ import org.springframework.transaction.annotation.Transactional;
 public class AuthService {
 
     private final UserRepository userRepository;
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordHashingService passwordHashingService;
     private final JwtTokenProvider jwtTokenProvider;
     private final RoleService roleService;
+    private final PrincipalCache principalCache;
+    private final LoginThrottle loginThrottle;
+    private final VerifiedTokenCache verifiedTokenCache;
+    private final TokenRevocationService tokenRevocationService;
+    private final TransactionTemplate transactionTemplate;
 
+    /**
+     * BCrypt roda antes da transação abrir: a conexão só é pega para gravar o usuário
+     * O email é checado de novo dentro da transação (outro cadastro pode ter entrado durante o hash)
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public void register(String email, String password, String displayName) {
         if (userRepository.existsByEmail(email)) {
             throw new IllegalArgumentException("Email already exists");
         }
 
-        User user = User.builder()
-                .email(email)
-                .displayName(displayName)
-                .passwordHash(passwordEncoder.encode(password))
-                .isActive(true)
-                .build();
+        String passwordHash = passwordHashingService.encode(password);
 
-        Role playerRole = roleService.findByName(String.valueOf(Role.RoleName.PLAYER))
-                .orElseThrow(() -> new IllegalStateException("PLAYER role not found"));
-        user.addRole(playerRole);
+        transactionTemplate.executeWithoutResult(status -> {
+            if (userRepository.existsByEmail(email)) {
+                throw new IllegalArgumentException("Email already exists");
+            }
 
-        userRepository.save(user);
+            User user = User.builder()
+                    .email(email)
+                    .displayName(displayName)
+                    .passwordHash(passwordHash)
+                    .isActive(true)
+                    .build();
+
+            Role playerRole = roleService.findByName(String.valueOf(Role.RoleName.PLAYER))
+                    .orElseThrow(() -> new IllegalStateException("PLAYER role not found"));
+            user.addRole(playerRole);
+
+            userRepository.save(user);
+        });
         log.info("User registered: {}", email);
     }
 
-    public String authenticate(String email, String password) {
-        User user = userRepository.findByEmailWithRoles(email)
-                .orElseThrow(() -> new IllegalArgumentException("Invalid credentials"));
+    /**
+     * Sem transação envolvendo o método: a conexão do pool não fica presa
+     * enquanto o BCrypt aguarda/roda no executor de hashing
+     * Email/IP em cooldown são rejeitados antes de qualquer consulta ou hash
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public String authenticate(String email, String password, String clientIp) {
+        loginThrottle.checkAllowed(email, clientIp);
 
-        if (!passwordEncoder.matches(password, user.getPasswordHash())) {
+        UserPrincipal user = principalCache.findByEmail(email).orElse(null);
+        if (user == null) {
+            loginThrottle.recordFailure(email, clientIp);
             throw new IllegalArgumentException("Invalid credentials");
         }
 
-        if (!user.getIsActive()) {
+        if (!passwordHashingService.matches(password, user.passwordHash())) {
+            loginThrottle.recordFailure(email, clientIp);
+            throw new IllegalArgumentException("Invalid credentials");
+        }
+        loginThrottle.recordSuccess(email);
+
+        if (!user.active()) {
             throw new IllegalArgumentException("User account is deactivated");
         }
 
@@ -59,4 +95,16 @@ public class AuthService {
 
         return token;
     }
+
+    /**
+     * Logout: revoga o token apresentado até o seu 'exp'
+     * Token inválido/expirado não tem o que revogar
+     */
+    public void logout(String token) {
+        verifiedTokenCache.resolve(token).ifPresent(principal -> {
+            tokenRevocationService.revokeToken(principal, "LOGOUT");
+            log.info("User logged out: {}", principal.userId());
+        });
+        verifiedTokenCache.evict(token);
+    }
 }
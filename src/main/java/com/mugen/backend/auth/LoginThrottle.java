@@ -0,0 +1,251 @@
+package com.mugen.backend.auth;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.mugen.backend.config.LoginThrottleProperties;
+import com.mugen.backend.exception.TooManyLoginAttemptsException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongSupplier;
+
+/**
+ * Throttle de força bruta no login
+ *
+ * Contadores de falhas em janela deslizante (aproximada por janela atual + anterior ponderada)
+ * por email e por IP de origem, num cache de tamanho fixo com descarte por inatividade.
+ * Ao passar do limite a chave fica bloqueada com cooldown exponencial, e novas tentativas
+ * são rejeitadas antes de qualquer consulta ao banco ou BCrypt.
+ */
+@Component
+@Slf4j
+public class LoginThrottle {
+
+    public enum Scope { EMAIL, IP }
+
+    /**
+     * Estado visível para administradores
+     */
+    public record Entry(Scope scope, String key, double recentFailures, int lockouts, long retryAfterSeconds) {
+    }
+
+    private final LoginThrottleProperties properties;
+    private final LongSupplier clock;
+    private final long windowMillis;
+    private final Cache<String, Window> windows;
+    private final Counter blockedEmail;
+    private final Counter blockedIp;
+
+    @Autowired
+    public LoginThrottle(LoginThrottleProperties properties, MeterRegistry meterRegistry) {
+        this(properties, meterRegistry, System::currentTimeMillis);
+    }
+
+    public LoginThrottle(LoginThrottleProperties properties, MeterRegistry meterRegistry, LongSupplier clock) {
+        this.properties = properties;
+        this.clock = clock;
+        this.windowMillis = TimeUnit.SECONDS.toMillis(properties.getWindowSeconds());
+
+        // Uma chave ociosa por mais que janela + cooldown máximo não tem mais o que lembrar
+        long idleSeconds = 2 * properties.getWindowSeconds() + properties.getMaxCooldownSeconds();
+        this.windows = Caffeine.newBuilder()
+                .maximumSize(properties.getMaxEntries())
+                .expireAfterAccess(Duration.ofSeconds(idleSeconds))
+                .build();
+
+        this.blockedEmail = Counter.builder("mugen.auth.login.throttled")
+                .description("Tentativas de login rejeitadas pelo throttle")
+                .tag("scope", "email")
+                .register(meterRegistry);
+        this.blockedIp = Counter.builder("mugen.auth.login.throttled")
+                .description("Tentativas de login rejeitadas pelo throttle")
+                .tag("scope", "ip")
+                .register(meterRegistry);
+        Gauge.builder("mugen.auth.login.throttle.entries", windows, Cache::estimatedSize)
+                .description("Emails/IPs acompanhados pelo throttle")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Rejeita (429) se o email ou o IP estiver em cooldown
+     * Só lê memória - chamado antes de qualquer trabalho de banco/hash
+     */
+    public void checkAllowed(String email, String clientIp) {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        long now = clock.getAsLong();
+
+        long emailWait = remainingCooldown(emailKey(email), now);
+        if (emailWait > 0) {
+            blockedEmail.increment();
+            throw new TooManyLoginAttemptsException(toSeconds(emailWait));
+        }
+
+        long ipWait = remainingCooldown(ipKey(clientIp), now);
+        if (ipWait > 0) {
+            blockedIp.increment();
+            throw new TooManyLoginAttemptsException(toSeconds(ipWait));
+        }
+    }
+
+    /**
+     * Conta uma falha (usuário inexistente ou senha errada) para email e IP
+     */
+    public void recordFailure(String email, String clientIp) {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        long now = clock.getAsLong();
+        recordFailure(emailKey(email), properties.getMaxFailuresPerEmail(), now);
+        recordFailure(ipKey(clientIp), properties.getMaxFailuresPerIp(), now);
+    }
+
+    /**
+     * Login correto zera o histórico do email
+     * O do IP é mantido: um atacante não deve conseguir limpá-lo logando na própria conta
+     */
+    public void recordSuccess(String email) {
+        windows.invalidate(emailKey(email));
+    }
+
+    /**
+     * Snapshot das chaves com falhas recentes ou em cooldown (bloqueadas primeiro)
+     */
+    public List<Entry> snapshot(int limit) {
+        long now = clock.getAsLong();
+        List<Entry> entries = new ArrayList<>();
+        windows.asMap().forEach((key, window) -> {
+            Entry entry = window.toEntry(key, now, windowMillis);
+            if (entry.retryAfterSeconds() > 0 || entry.recentFailures() > 0) {
+                entries.add(entry);
+            }
+        });
+        entries.sort(Comparator.comparingLong(Entry::retryAfterSeconds).reversed()
+                .thenComparing(Comparator.comparingDouble(Entry::recentFailures).reversed()));
+        return entries.size() > limit ? List.copyOf(entries.subList(0, limit)) : entries;
+    }
+
+    /**
+     * Remove o bloqueio de um email ou IP (ação de admin)
+     */
+    public boolean clear(Scope scope, String value) {
+        String key = scope == Scope.EMAIL ? emailKey(value) : ipKey(value);
+        return windows.asMap().remove(key) != null;
+    }
+
+    public long size() {
+        return windows.estimatedSize();
+    }
+
+    // ==================== MÉTODOS AUXILIARES ====================
+
+    private long remainingCooldown(String key, long now) {
+        Window window = windows.getIfPresent(key);
+        if (window == null) {
+            return 0;
+        }
+        window.lock.lock();
+        try {
+            return Math.max(0, window.blockedUntil - now);
+        } finally {
+            window.lock.unlock();
+        }
+    }
+
+    private void recordFailure(String key, int maxFailures, long now) {
+        // get é atômico por chave; o lock da janela serializa falhas simultâneas da mesma chave
+        // (ReentrantLock em vez de synchronized: não prende a carrier thread com threads virtuais)
+        Window window = windows.get(key, k -> new Window());
+        long cooldown = 0;
+        int lockouts;
+        window.lock.lock();
+        try {
+            window.roll(now, windowMillis);
+            window.currentCount++;
+            if (window.blockedUntil <= now && window.estimate(now, windowMillis) > maxFailures) {
+                cooldown = cooldownMillis(window.lockouts);
+                window.blockedUntil = now + cooldown;
+                window.lockouts++;
+            }
+            lockouts = window.lockouts;
+        } finally {
+            window.lock.unlock();
+        }
+
+        if (cooldown > 0) {
+            log.warn("🔒 Login throttled for {} during {}s (lockout #{})",
+                    key, TimeUnit.MILLISECONDS.toSeconds(cooldown), lockouts);
+        }
+    }
+
+    private long cooldownMillis(int previousLockouts) {
+        long base = TimeUnit.SECONDS.toMillis(properties.getBaseCooldownSeconds());
+        long max = TimeUnit.SECONDS.toMillis(properties.getMaxCooldownSeconds());
+        int shift = Math.min(previousLockouts, 30);
+        return Math.min(max, base << shift);
+    }
+
+    private static long toSeconds(long millis) {
+        return Math.max(1, (millis + 999) / 1000);
+    }
+
+    private static String emailKey(String email) {
+        return "email:" + (email == null ? "" : email.trim().toLowerCase(Locale.ROOT));
+    }
+
+    private static String ipKey(String clientIp) {
+        return "ip:" + (clientIp == null ? "unknown" : clientIp);
+    }
+
+    /**
+     * Janela atual + anterior; estimativa = anterior * fração restante + atual
+     */
+    private static final class Window {
+        private final ReentrantLock lock = new ReentrantLock();
+        private long windowStart;
+        private int previousCount;
+        private int currentCount;
+        private int lockouts;
+        private long blockedUntil;
+
+        private void roll(long now, long windowMillis) {
+            long start = now - Math.floorMod(now, windowMillis);
+            if (start == windowStart) {
+                return;
+            }
+            previousCount = start - windowStart == windowMillis ? currentCount : 0;
+            currentCount = 0;
+            windowStart = start;
+        }
+
+        private double estimate(long now, long windowMillis) {
+            double elapsed = (double) (now - windowStart) / windowMillis;
+            return previousCount * Math.max(0, 1 - elapsed) + currentCount;
+        }
+
+        private Entry toEntry(String key, long now, long windowMillis) {
+            lock.lock();
+            try {
+                roll(now, windowMillis);
+                Scope scope = key.startsWith("ip:") ? Scope.IP : Scope.EMAIL;
+                String value = key.substring(key.indexOf(':') + 1);
+                long wait = Math.max(0, blockedUntil - now);
+                return new Entry(scope, value, estimate(now, windowMillis), lockouts, wait > 0 ? toSeconds(wait) : 0);
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package com.mugen.backend.concurrency;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Executa o método na lane do personagem: mutações do mesmo personagem rodam em ordem,
+ * uma de cada vez; personagens diferentes rodam em paralelo
+ * key = expressão SpEL sobre os parâmetros que resolve o UUID do personagem
+ * Uso: @CharacterMutation(key = "#characterId") ou @CharacterMutation(key = "#request.characterId")
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface CharacterMutation {
+
+    String key() default "#characterId";
+}
@@ -0,0 +1,52 @@
+package com.mugen.backend.concurrency;
+
+import lombok.RequiredArgsConstructor;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.context.expression.MethodBasedEvaluationContext;
+import org.springframework.core.DefaultParameterNameDiscoverer;
+import org.springframework.core.Ordered;
+import org.springframework.core.ParameterNameDiscoverer;
+import org.springframework.core.annotation.Order;
+import org.springframework.expression.Expression;
+import org.springframework.expression.ExpressionParser;
+import org.springframework.expression.spel.standard.SpelExpressionParser;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Encaminha métodos @CharacterMutation para a lane do personagem
+ * Ordem mais externa: retry (@RetryOnConflict) e transação rodam dentro da lane
+ */
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@RequiredArgsConstructor
+public class CharacterMutationAspect {
+
+    private final CharacterMutationLanes lanes;
+
+    private final ExpressionParser parser = new SpelExpressionParser();
+    private final ParameterNameDiscoverer parameterNames = new DefaultParameterNameDiscoverer();
+    private final Map<String, Expression> expressions = new ConcurrentHashMap<>();
+
+    @Around("@annotation(mutation)")
+    public Object serialize(ProceedingJoinPoint joinPoint, CharacterMutation mutation) throws Throwable {
+        UUID characterId = resolveCharacterId(joinPoint, mutation);
+        // Sem id (ex: request inválido) o próprio método valida e falha
+        return lanes.execute(characterId, joinPoint::proceed);
+    }
+
+    private UUID resolveCharacterId(ProceedingJoinPoint joinPoint, CharacterMutation mutation) {
+        MethodSignature signature = (MethodSignature) joinPoint.getSignature();
+        MethodBasedEvaluationContext context = new MethodBasedEvaluationContext(
+                joinPoint.getTarget(), signature.getMethod(), joinPoint.getArgs(), parameterNames);
+        Object value = expressions.computeIfAbsent(mutation.key(), parser::parseExpression).getValue(context);
+        return value instanceof UUID uuid ? uuid : null;
+    }
+}
@@ -0,0 +1,183 @@
+package com.mugen.backend.concurrency;
+
+import com.mugen.backend.config.CharacterLaneProperties;
+import com.mugen.backend.exception.ServiceOverloadedException;
+import com.mugen.backend.logging.SqlStatementCounter;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.concurrent.DelegatingSecurityContextCallable;
+import org.springframework.stereotype.Component;
+
+import java.lang.reflect.UndeclaredThrowableException;
+import java.util.Arrays;
+import java.util.UUID;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Lanes de mutação por personagem
+ *
+ * hash(characterId) escolhe uma de N lanes; cada lane é uma única thread consumindo uma fila limitada.
+ * Escritas no mesmo personagem são aplicadas em ordem, sem esperar lock de linha no banco,
+ * e ocupam no máximo N conexões do pool. A thread da requisição espera o resultado.
+ *
+ * Só serializa dentro desta instância: com várias instâncias o @Version + @RetryOnConflict
+ * continua garantindo a correção (ver README da pasta).
+ */
+@Component
+@Slf4j
+public class CharacterMutationLanes {
+
+    /**
+     * Trabalho que pode lançar qualquer Throwable (ex: ProceedingJoinPoint::proceed)
+     */
+    @FunctionalInterface
+    public interface LaneTask<T> {
+        T run() throws Throwable;
+    }
+
+    // Lane da thread atual; chamadas aninhadas rodam direto (evita deadlock numa lane de uma thread)
+    private static final ThreadLocal<Integer> CURRENT_LANE = new ThreadLocal<>();
+
+    private final CharacterLaneProperties properties;
+    private final ThreadPoolExecutor[] lanes;
+    private final Timer waitTimer;
+    private final Counter rejectedCounter;
+
+    public CharacterMutationLanes(CharacterLaneProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.lanes = new ThreadPoolExecutor[Math.max(1, properties.getLanes())];
+        for (int i = 0; i < lanes.length; i++) {
+            String threadName = "character-lane-" + i;
+            lanes[i] = new ThreadPoolExecutor(
+                    1, 1, 0L, TimeUnit.MILLISECONDS,
+                    new LinkedBlockingQueue<>(properties.getQueueCapacity()),
+                    runnable -> {
+                        Thread thread = new Thread(runnable, threadName);
+                        thread.setDaemon(true);
+                        return thread;
+                    });
+        }
+
+        this.waitTimer = Timer.builder("mugen.character.lanes.wait")
+                .description("Tempo na fila da lane antes de a mutação começar")
+                .register(meterRegistry);
+        this.rejectedCounter = Counter.builder("mugen.character.lanes.rejected")
+                .description("Mutações rejeitadas por lane cheia ou espera esgotada")
+                .register(meterRegistry);
+        Gauge.builder("mugen.character.lanes.queued", this, CharacterMutationLanes::queued)
+                .description("Mutações aguardando em todas as lanes")
+                .register(meterRegistry);
+
+        log.info("Character mutation lanes started: {} lanes, queue capacity {} (enabled: {})",
+                lanes.length, properties.getQueueCapacity(), properties.isEnabled());
+    }
+
+    public <T> T execute(UUID characterId, LaneTask<T> task) throws Throwable {
+        if (!properties.isEnabled() || characterId == null || CURRENT_LANE.get() != null) {
+            return task.run();
+        }
+
+        int laneIndex = laneOf(characterId);
+        int[] sqlCounter = SqlStatementCounter.current();
+        long submittedAt = System.nanoTime();
+        DelegatingSecurityContextCallable<T> callable = new DelegatingSecurityContextCallable<>(() -> {
+            waitTimer.record(System.nanoTime() - submittedAt, TimeUnit.NANOSECONDS);
+            CURRENT_LANE.set(laneIndex);
+            SqlStatementCounter.bind(sqlCounter);
+            try {
+                return task.run();
+            } catch (Exception | Error e) {
+                throw e;
+            } catch (Throwable t) {
+                throw new UndeclaredThrowableException(t);
+            } finally {
+                CURRENT_LANE.remove();
+                SqlStatementCounter.unbind();
+            }
+        });
+
+        Future<T> future;
+        try {
+            future = lanes[laneIndex].submit(callable);
+        } catch (RejectedExecutionException e) {
+            log.warn("Character lane {} is full, rejecting mutation for {}", laneIndex, characterId);
+            throw overloaded();
+        }
+
+        try {
+            return await(future);
+        } catch (ExecutionException e) {
+            throw e.getCause();
+        }
+    }
+
+    public int laneOf(UUID characterId) {
+        int h = characterId.hashCode();
+        return Math.floorMod(h ^ (h >>> 16), lanes.length);
+    }
+
+    public int queued() {
+        return Arrays.stream(lanes).mapToInt(lane -> lane.getQueue().size()).sum();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        for (ThreadPoolExecutor lane : lanes) {
+            lane.shutdown();
+        }
+    }
+
+    // ==================== MÉTODOS AUXILIARES ====================
+
+    private <T> T await(Future<T> future) throws ExecutionException {
+        try {
+            return future.get(properties.getWaitTimeoutMs(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            // Ainda na fila: desiste sem efeito colateral. Já começou: espera terminar,
+            // para não responder erro sobre uma escrita que vai ser aplicada
+            if (future.cancel(false)) {
+                throw overloaded();
+            }
+            return awaitStarted(future);
+        } catch (CancellationException e) {
+            throw overloaded();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for character lane", e);
+        }
+    }
+
+    private static <T> T awaitStarted(Future<T> future) throws ExecutionException {
+        boolean interrupted = false;
+        try {
+            while (true) {
+                try {
+                    return future.get();
+                } catch (InterruptedException e) {
+                    interrupted = true;
+                }
+            }
+        } finally {
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    private ServiceOverloadedException overloaded() {
+        rejectedCounter.increment();
+        return new ServiceOverloadedException(
+                "Character is busy. Try again shortly.", properties.getRetryAfterSeconds());
+    }
+}
@@ -0,0 +1,31 @@
+package com.mugen.backend.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Filas de mutação por personagem (prefixo "character.mutation-lanes")
+ * Cada lane é uma thread com fila própria; no máximo "lanes" conexões do pool ficam com escritas
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "character.mutation-lanes")
+public class CharacterLaneProperties {
+
+    private boolean enabled = true;
+
+    private int lanes = 6;
+
+    /**
+     * Mutações aguardando por lane; acima disso a requisição recebe 503
+     */
+    private int queueCapacity = 256;
+
+    /**
+     * Tempo máximo esperando a vez na lane antes de desistir (se ainda não começou)
+     */
+    private long waitTimeoutMs = 5000;
+
+    private long retryAfterSeconds = 1;
+}
@@ -0,0 +1,42 @@
+package com.mugen.backend.config;
+
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Falha o boot quando as threads que seguram conexão por tempo indeterminado
+ * (lanes de mutação + executor do dashboard) ocupariam o pool inteiro do Hikari
+ * Sem essa folga, requisições comuns ficam esperando conexão até o connection-timeout
+ */
+@Slf4j
+@Component
+public class ConnectionBudgetCheck {
+
+    private final CharacterLaneProperties laneProperties;
+    private final DashboardProperties dashboardProperties;
+    private final int maximumPoolSize;
+
+    public ConnectionBudgetCheck(CharacterLaneProperties laneProperties,
+                                 DashboardProperties dashboardProperties,
+                                 @Value("${spring.datasource.hikari.maximum-pool-size:10}") int maximumPoolSize) {
+        this.laneProperties = laneProperties;
+        this.dashboardProperties = dashboardProperties;
+        this.maximumPoolSize = maximumPoolSize;
+    }
+
+    @PostConstruct
+    public void check() {
+        int lanes = laneProperties.isEnabled() ? laneProperties.getLanes() : 0;
+        int reserved = lanes + Math.max(1, dashboardProperties.getThreads());
+        if (reserved >= maximumPoolSize) {
+            throw new IllegalStateException(String.format(
+                    "character.mutation-lanes.lanes (%d) + character.dashboard.threads (%d) must be below "
+                            + "spring.datasource.hikari.maximum-pool-size (%d)",
+                    lanes, dashboardProperties.getThreads(), maximumPoolSize));
+        }
+        log.info("Connection budget: {} of {} pooled connections reserved for lanes and dashboard",
+                reserved, maximumPoolSize);
+    }
+}
@@ -0,0 +1,30 @@
+package com.mugen.backend.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Dashboard do personagem (prefixo "character.dashboard")
+ * Cada seção roda numa thread do executor e segura uma conexão do pool enquanto roda
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "character.dashboard")
+public class DashboardProperties {
+
+    /**
+     * Threads do executor; somado às lanes de mutação deve ficar abaixo do pool do Hikari (ver ConnectionBudgetCheck)
+     */
+    private int threads = 2;
+
+    /**
+     * Seções aguardando thread; acima disso a seção volta como indisponível
+     */
+    private int queueCapacity = 128;
+
+    /**
+     * Prazo de cada seção, contado a partir do início da requisição
+     */
+    private long sectionTimeoutMs = 2000;
+}
@@ -0,0 +1,41 @@
+package com.mugen.backend.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Configuração do throttle de login (prefixo "auth.login-throttle")
+ * Limites valem por janela deslizante de windowSeconds, separadamente por email e por IP
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "auth.login-throttle")
+public class LoginThrottleProperties {
+
+    private boolean enabled = true;
+
+    private long windowSeconds = 60;
+
+    /**
+     * Falhas toleradas por email dentro da janela
+     */
+    private int maxFailuresPerEmail = 5;
+
+    /**
+     * Falhas toleradas por IP dentro da janela (vários usuários podem dividir um IP)
+     */
+    private int maxFailuresPerIp = 20;
+
+    /**
+     * Primeiro bloqueio; cada bloqueio seguinte dobra até maxCooldownSeconds
+     */
+    private long baseCooldownSeconds = 30;
+
+    private long maxCooldownSeconds = 900;
+
+    /**
+     * Número máximo de chaves (emails + IPs) acompanhadas em memória
+     */
+    private long maxEntries = 100_000;
+}
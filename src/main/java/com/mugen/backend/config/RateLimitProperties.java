@@ -0,0 +1,39 @@
+package com.mugen.backend.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Configuração de rate limiting por grupo de rotas (prefixo "rate-limit")
+ * Paths são relativos ao context-path (/api) e aceitam padrões Ant com curingas (*, **)
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "rate-limit")
+public class RateLimitProperties {
+
+    private boolean enabled = true;
+
+    /**
+     * Buckets inativos há mais tempo que isso são descartados
+     */
+    private long idleEvictionSeconds = 600;
+
+    private long maxBuckets = 100_000;
+
+    private Map<String, Group> groups = new LinkedHashMap<>();
+
+    @Data
+    public static class Group {
+        private List<String> patterns = new ArrayList<>();
+        private String method = "POST";
+        private int capacity = 10;
+        private double refillPerSecond = 2.0;
+    }
+}
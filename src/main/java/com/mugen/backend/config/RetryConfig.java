@@ -0,0 +1,81 @@
+package com.mugen.backend.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.retry.RetryCallback;
+import org.springframework.retry.RetryContext;
+import org.springframework.retry.RetryListener;
+import org.springframework.retry.annotation.EnableRetry;
+
+/**
+ * Habilita @RetryOnConflict
+ * O advice de retry fica por FORA do @Transactional: cada tentativa roda numa transação nova
+ *
+ * Métricas:
+ * - mugen.concurrency.conflicts{operation}: cada conflito de versão detectado
+ * - mugen.concurrency.retry{operation,outcome=recovered|exhausted}: desfecho das chamadas que conflitaram
+ * Taxa de conflito = conflicts / contagem do timer @Timed da mesma operação
+ */
+@Configuration
+@EnableRetry(order = Ordered.LOWEST_PRECEDENCE - 1)
+@Slf4j
+public class RetryConfig {
+
+    @Bean
+    public RetryListener optimisticLockRetryListener(MeterRegistry meterRegistry) {
+        return new RetryListener() {
+
+            @Override
+            public <T, E extends Throwable> void onError(RetryContext context, RetryCallback<T, E> callback,
+                                                         Throwable throwable) {
+                if (throwable instanceof OptimisticLockingFailureException) {
+                    String operation = operationOf(context);
+                    log.debug("Optimistic lock conflict on {} (attempt {})", operation, context.getRetryCount());
+                    Counter.builder("mugen.concurrency.conflicts")
+                            .tag("operation", operation)
+                            .register(meterRegistry)
+                            .increment();
+                }
+            }
+
+            @Override
+            public <T, E extends Throwable> void close(RetryContext context, RetryCallback<T, E> callback,
+                                                       Throwable throwable) {
+                if (context.getRetryCount() == 0) {
+                    return;
+                }
+                boolean exhausted = throwable instanceof OptimisticLockingFailureException;
+                if (exhausted) {
+                    log.warn("Optimistic lock retries exhausted on {} after {} attempts",
+                            operationOf(context), context.getRetryCount());
+                }
+                Counter.builder("mugen.concurrency.retry")
+                        .tag("operation", operationOf(context))
+                        .tag("outcome", exhausted ? "exhausted" : "recovered")
+                        .register(meterRegistry)
+                        .increment();
+            }
+        };
+    }
+
+    /**
+     * "public ... com.mugen.backend.service.TPService.allocateAttribute(java.util.UUID,...)" -> "TPService.allocateAttribute"
+     */
+    private static String operationOf(RetryContext context) {
+        Object name = context.getAttribute(RetryContext.NAME);
+        if (name == null) {
+            return "unknown";
+        }
+        String signature = name.toString();
+        int paren = signature.indexOf('(');
+        String qualified = paren >= 0 ? signature.substring(0, paren) : signature;
+        int methodDot = qualified.lastIndexOf('.');
+        int classDot = methodDot > 0 ? qualified.lastIndexOf('.', methodDot - 1) : -1;
+        return qualified.substring(classDot + 1);
+    }
+}
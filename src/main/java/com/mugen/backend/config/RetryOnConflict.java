@@ -0,0 +1,31 @@
+package com.mugen.backend.config;
+
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.retry.annotation.Backoff;
+import org.springframework.retry.annotation.Retryable;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Reexecuta o método (em transação nova) quando o @Version detecta escrita concorrente
+ * Só faz sentido em métodos que abrem a própria transação: se o chamador já tem uma,
+ * o contexto de persistência dele continua com o estado antigo
+ * Configurável em concurrency.retry.* (application.yml)
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+@Retryable(
+        retryFor = OptimisticLockingFailureException.class,
+        maxAttemptsExpression = "${concurrency.retry.max-attempts:4}",
+        backoff = @Backoff(
+                delayExpression = "${concurrency.retry.initial-backoff-ms:20}",
+                maxDelayExpression = "${concurrency.retry.max-backoff-ms:200}",
+                multiplier = 2,
+                random = true))
+public @interface RetryOnConflict {
+}
@@ -0,0 +1,10 @@
+package com.mugen.backend.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+    // Habilita @Scheduled (ex: reconstrução do filtro de revogação de JWT)
+}
@@ -1,20 +1,36 @@
 package com.mugen.backend.config;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.mugen.backend.security.JwtAuthenticationFilter;
-import com.mugen.backend.security.JwtTokenProvider;
+import com.mugen.backend.security.RateLimitFilter;
+import com.mugen.backend.security.RateLimiter;
+import com.mugen.backend.security.TokenRevocationService;
+import com.mugen.backend.security.VerifiedTokenCache;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.core.annotation.Order;
 import org.springframework.http.HttpMethod;
+import org.springframework.security.access.PermissionEvaluator;
+import org.springframework.security.access.expression.method.DefaultMethodSecurityExpressionHandler;
+import org.springframework.security.access.expression.method.MethodSecurityExpressionHandler;
 import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.security.authentication.ProviderManager;
+import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
+import org.springframework.security.config.Customizer;
 import org.springframework.security.config.annotation.authentication.builders.AuthenticationManagerBuilder;
 import org.springframework.security.config.annotation.method.configuration.EnableMethodSecurity;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.http.SessionCreationPolicy;
+import org.springframework.security.core.userdetails.User;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.provisioning.InMemoryUserDetailsManager;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 import org.springframework.web.cors.CorsConfiguration;
@@ -24,21 +40,42 @@ import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
 import java.util.Arrays;
 
 @Configuration
+@Slf4j
 @EnableWebSecurity
 @EnableMethodSecurity(prePostEnabled = true)
 public class SecurityConfig {
 
     @Autowired
-    private JwtTokenProvider jwtTokenProvider;
+    private VerifiedTokenCache verifiedTokenCache;
 
     @Autowired
     private UserDetailsService userDetailsService;
 
+    @Autowired
+    private TokenRevocationService tokenRevocationService;
+
+    @Autowired
+    private RateLimiter rateLimiter;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
     @Bean
     public PasswordEncoder passwordEncoder() {
         return new BCryptPasswordEncoder();
     }
 
+    /**
+     * 🔑 hasPermission(...) em @PreAuthorize resolvido pelo índice de posse de personagens
+     * @Lazy: a infraestrutura de method security é criada cedo; o evaluator (e o repositório) não
+     */
+    @Bean
+    static MethodSecurityExpressionHandler methodSecurityExpressionHandler(@Lazy PermissionEvaluator permissionEvaluator) {
+        DefaultMethodSecurityExpressionHandler handler = new DefaultMethodSecurityExpressionHandler();
+        handler.setPermissionEvaluator(permissionEvaluator);
+        return handler;
+    }
+
     @Bean
     public AuthenticationManager authenticationManager(HttpSecurity http) throws Exception {
         AuthenticationManagerBuilder authBuilder = http.getSharedObject(AuthenticationManagerBuilder.class);
@@ -94,7 +131,11 @@ public class SecurityConfig {
                 "Authorization",
                 "X-Total-Count",
                 "X-Page-Number",
-                "X-Page-Size"
+                "X-Page-Size",
+                RateLimitFilter.HEADER_LIMIT,
+                RateLimitFilter.HEADER_REMAINING,
+                RateLimitFilter.HEADER_RESET,
+                "Retry-After"
         ));
 
         // Permitir credenciais (cookies, auth headers)
@@ -109,7 +150,42 @@ public class SecurityConfig {
         return source;
     }
 
+    /**
+     * 📈 /actuator/prometheus só para o scraper: HTTP Basic com credencial própria (role METRICS)
+     * Sem METRICS_SCRAPE_PASSWORD não há usuário e o endpoint responde 401 para todos
+     */
+    @Bean
+    @Order(1)
+    public SecurityFilterChain metricsScrapeFilterChain(
+            HttpSecurity http,
+            @Value("${metrics.scrape.username:prometheus}") String username,
+            @Value("${metrics.scrape.password:}") String password) throws Exception {
+        InMemoryUserDetailsManager scrapeUsers = new InMemoryUserDetailsManager();
+        if (password.isBlank()) {
+            log.warn("metrics.scrape.password not set: /actuator/prometheus is closed");
+        } else {
+            scrapeUsers.createUser(User.withUsername(username)
+                    .password(passwordEncoder().encode(password))
+                    .roles("METRICS")
+                    .build());
+        }
+        DaoAuthenticationProvider provider = new DaoAuthenticationProvider();
+        provider.setUserDetailsService(scrapeUsers);
+        provider.setPasswordEncoder(passwordEncoder());
+
+        http
+                .securityMatcher("/actuator/prometheus")
+                .csrf(csrf -> csrf.disable())
+                .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
+                .authenticationManager(new ProviderManager(provider))
+                .authorizeHttpRequests(authz -> authz.anyRequest().hasRole("METRICS"))
+                .httpBasic(Customizer.withDefaults());
+
+        return http.build();
+    }
+
     @Bean
+    @Order(2)
     public SecurityFilterChain filterChain(HttpSecurity http) throws Exception {
         http
                 // ✅ Habilitar CORS
@@ -126,6 +202,8 @@ public class SecurityConfig {
                         // Endpoints públicos
                         .requestMatchers(HttpMethod.POST, "/auth/**").permitAll()
                         .requestMatchers(HttpMethod.GET, "/health").permitAll()
+                        .requestMatchers(HttpMethod.GET, "/actuator/health", "/actuator/health/**").permitAll()
+                        .requestMatchers("/actuator/**").hasRole("ADMIN")
                         .requestMatchers(HttpMethod.GET, "/races").permitAll()
                         .requestMatchers(HttpMethod.GET, "/races/**").permitAll()
 
@@ -145,8 +223,14 @@ public class SecurityConfig {
 
                 // ✅ Adicionar filtro JWT
                 .addFilterBefore(
-                        new JwtAuthenticationFilter(jwtTokenProvider),
+                        new JwtAuthenticationFilter(verifiedTokenCache, tokenRevocationService),
                         UsernamePasswordAuthenticationFilter.class
+                )
+
+                // ✅ Rate limiting por usuário (precisa do usuário já autenticado pelo JWT)
+                .addFilterAfter(
+                        new RateLimitFilter(rateLimiter, objectMapper),
+                        JwtAuthenticationFilter.class
                 );
 
         return http.build();
@@ -39,7 +39,7 @@ public class AchievementController {
      */
     @GetMapping
     public ResponseEntity<List<Achievement>> getAllAchievements() {
-        log.info("GET /achievements - Fetching all achievements");
+        log.debug("GET /achievements - Fetching all achievements");
         List<Achievement> achievements = achievementService.getAllAchievements();
         return ResponseEntity.ok(achievements);
     }
@@ -49,7 +49,7 @@ public class AchievementController {
      */
     @GetMapping("/active")
     public ResponseEntity<List<Achievement>> getActiveAchievements() {
-        log.info("GET /achievements/active - Fetching active achievements");
+        log.debug("GET /achievements/active - Fetching active achievements");
         List<Achievement> achievements = achievementService.getAllActiveAchievements();
         return ResponseEntity.ok(achievements);
     }
@@ -59,7 +59,7 @@ public class AchievementController {
      */
     @GetMapping("/category/{category}")
     public ResponseEntity<List<Achievement>> getAchievementsByCategory(@PathVariable String category) {
-        log.info("GET /achievements/category/{} - Fetching", category);
+        log.debug("GET /achievements/category/{} - Fetching", category);
         List<Achievement> achievements = achievementService.getAchievementsByCategory(category);
         return ResponseEntity.ok(achievements);
     }
@@ -69,7 +69,7 @@ public class AchievementController {
      */
     @GetMapping("/{id}")
     public ResponseEntity<Achievement> getAchievementById(@PathVariable Integer id) {
-        log.info("GET /achievements/{} - Fetching", id);
+        log.debug("GET /achievements/{} - Fetching", id);
         Achievement achievement = achievementService.getAchievementById(id);
         return ResponseEntity.ok(achievement);
     }
@@ -79,7 +79,7 @@ public class AchievementController {
      */
     @GetMapping("/key/{keyName}")
     public ResponseEntity<Achievement> getAchievementByKeyName(@PathVariable String keyName) {
-        log.info("GET /achievements/key/{} - Fetching", keyName);
+        log.debug("GET /achievements/key/{} - Fetching", keyName);
         Achievement achievement = achievementService.getAchievementByKeyName(keyName)
                 .orElseThrow(() -> new IllegalArgumentException("Achievement not found: " + keyName));
         return ResponseEntity.ok(achievement);
@@ -116,7 +116,7 @@ public class AchievementController {
      */
     @GetMapping("/character/{characterId}")
     public ResponseEntity<List<CharacterAchievement>> getCharacterAchievements(@PathVariable UUID characterId) {
-        log.info("GET /achievements/character/{} - Fetching achievements", characterId);
+        log.debug("GET /achievements/character/{} - Fetching achievements", characterId);
         List<CharacterAchievement> achievements = achievementService.getCharacterAchievements(characterId);
         return ResponseEntity.ok(achievements);
     }
@@ -128,7 +128,7 @@ public class AchievementController {
     public ResponseEntity<List<CharacterAchievement>> getCharacterAchievementsByCategory(
             @PathVariable UUID characterId,
             @PathVariable String category) {
-        log.info("GET /achievements/character/{}/category/{} - Fetching", characterId, category);
+        log.debug("GET /achievements/character/{}/category/{} - Fetching", characterId, category);
         List<CharacterAchievement> achievements =
                 achievementService.getCharacterAchievementsByCategory(characterId, category);
         return ResponseEntity.ok(achievements);
@@ -180,7 +180,7 @@ public class AchievementController {
      */
     @GetMapping("/character/{characterId}/count")
     public ResponseEntity<Integer> countCharacterAchievements(@PathVariable UUID characterId) {
-        log.info("GET /achievements/character/{}/count - Counting", characterId);
+        log.debug("GET /achievements/character/{}/count - Counting", characterId);
         Integer count = achievementService.countCharacterAchievements(characterId);
         return ResponseEntity.ok(count);
     }
@@ -190,7 +190,7 @@ public class AchievementController {
      */
     @GetMapping("/character/{characterId}/tp")
     public ResponseEntity<Integer> getTotalAchievementTP(@PathVariable UUID characterId) {
-        log.info("GET /achievements/character/{}/tp - Fetching total TP", characterId);
+        log.debug("GET /achievements/character/{}/tp - Fetching total TP", characterId);
         Integer totalTP = achievementService.getTotalAchievementTP(characterId);
         return ResponseEntity.ok(totalTP);
     }
@@ -202,7 +202,7 @@ public class AchievementController {
     public ResponseEntity<Boolean> hasAchievement(
             @PathVariable UUID characterId,
             @PathVariable Integer achievementId) {
-        log.info("GET /achievements/character/{}/has/{} - Checking", characterId, achievementId);
+        log.debug("GET /achievements/character/{}/has/{} - Checking", characterId, achievementId);
         boolean has = achievementService.hasAchievement(characterId, achievementId);
         return ResponseEntity.ok(has);
     }
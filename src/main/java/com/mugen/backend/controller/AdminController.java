@@ -3,6 +3,7 @@ package com.mugen.backend.controller;
 import com.mugen.backend.dto.AdminStatsDTO;
 import com.mugen.backend.dto.CharacterBasicDTO;
 import com.mugen.backend.dto.PlayerDetailDTO;
+import com.mugen.backend.dto.PlayerSearchHit;
 import com.mugen.backend.dto.PlayerSummaryDTO;
 import com.mugen.backend.entity.User;
 import com.mugen.backend.entity.character.Character;
@@ -16,6 +17,7 @@ import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import java.util.List;
@@ -38,7 +40,7 @@ public class AdminController {
     @GetMapping
     @PreAuthorize("hasRole('ADMIN')")
     public ResponseEntity<List<PlayerSummaryDTO>> getAllPlayers() {
-        log.info("Fetching all players for admin panel");
+        log.debug("Fetching all players for admin panel");
 
         try {
             List<User> users = userService.findAllPlayers();
@@ -47,7 +49,7 @@ public class AdminController {
                     .map(this::convertToPlayerSummary)
                     .collect(Collectors.toList());
 
-            log.info("Successfully fetched {} players", playerSummaries.size());
+            log.debug("Successfully fetched {} players", playerSummaries.size());
             return ResponseEntity.ok(playerSummaries);
         } catch (Exception e) {
             log.error("Error fetching players", e);
@@ -55,6 +57,19 @@ public class AdminController {
         }
     }
 
+    /**
+     * Buscar players por nome de exibição sem carregar a lista inteira (ADMIN only)
+     * GET /admin/players/search?q=ana&limit=20
+     */
+    @GetMapping("/search")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<List<PlayerSearchHit>> searchPlayers(
+            @RequestParam String q,
+            @RequestParam(defaultValue = "20") int limit) {
+        log.debug("Searching players: '{}'", q);
+        return ResponseEntity.ok(userService.searchPlayers(q, limit));
+    }
+
     /**
      * Obter detalhes completos de um player específico (ADMIN only)
      * GET /api/v1/admin/players/{userId}
@@ -62,11 +77,11 @@ public class AdminController {
     @GetMapping("/{userId}")
     @PreAuthorize("hasRole('ADMIN')")
     public ResponseEntity<PlayerDetailDTO> getPlayerDetail(@PathVariable UUID userId) {
-        log.info("Fetching player details for userId: {}", userId);
+        log.debug("Fetching player details for userId: {}", userId);
 
         return userService.findById(userId)
                 .map(user -> {
-                    log.info("Player found: {}", user.getDisplayName());
+                    log.debug("Player found: {}", user.getDisplayName());
                     List<Character> characters = characterService.findByUserId(userId);
                     return ResponseEntity.ok(convertToPlayerDetail(user, characters));
                 })
@@ -83,7 +98,7 @@ public class AdminController {
     @GetMapping("/stats/summary")
     @PreAuthorize("hasRole('ADMIN')")
     public ResponseEntity<AdminStatsDTO> getAdminStats() {
-        log.info("Fetching admin statistics");
+        log.debug("Fetching admin statistics");
 
         try {
             List<User> allUsers = userService.findAllPlayers();
@@ -101,7 +116,7 @@ public class AdminController {
                     .averageCharactersPerPlayer(totalPlayers > 0 ? totalCharacters / totalPlayers : 0)
                     .build();
 
-            log.info("Admin stats: {} total players, {} characters", totalPlayers, totalCharacters);
+            log.debug("Admin stats: {} total players, {} characters", totalPlayers, totalCharacters);
             return ResponseEntity.ok(stats);
         } catch (Exception e) {
             log.error("Error fetching admin stats", e);
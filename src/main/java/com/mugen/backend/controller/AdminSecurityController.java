@@ -0,0 +1,48 @@
+package com.mugen.backend.controller;
+
+import com.mugen.backend.auth.LoginThrottle;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+import java.util.Map;
+
+@RestController
+@RequestMapping("/admin/security")
+@RequiredArgsConstructor
+@Slf4j
+@PreAuthorize("hasRole('ADMIN')")
+public class AdminSecurityController {
+
+    private final LoginThrottle loginThrottle;
+
+    /**
+     * Emails/IPs com falhas recentes ou em cooldown (ADMIN only)
+     * GET /admin/security/login-throttle?limit=100
+     */
+    @GetMapping("/login-throttle")
+    public ResponseEntity<Map<String, Object>> getLoginThrottle(
+            @RequestParam(defaultValue = "100") int limit) {
+        List<LoginThrottle.Entry> entries = loginThrottle.snapshot(Math.max(1, Math.min(limit, 1000)));
+        return ResponseEntity.ok(Map.of(
+                "tracked", loginThrottle.size(),
+                "entries", entries
+        ));
+    }
+
+    /**
+     * Remove o bloqueio de um email ou IP (ADMIN only)
+     * DELETE /admin/security/login-throttle/{scope}/{value}
+     */
+    @DeleteMapping("/login-throttle/{scope}/{value}")
+    public ResponseEntity<Map<String, Object>> clearLoginThrottle(
+            @PathVariable LoginThrottle.Scope scope,
+            @PathVariable String value) {
+        boolean cleared = loginThrottle.clear(scope, value);
+        log.info("Login throttle cleared for {} {}: {}", scope, value, cleared);
+        return ResponseEntity.ok(Map.of("cleared", cleared));
+    }
+}
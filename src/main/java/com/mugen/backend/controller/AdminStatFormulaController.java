@@ -0,0 +1,66 @@
+package com.mugen.backend.controller;
+
+import com.mugen.backend.dto.character.UpdateStatFormulaDTO;
+import com.mugen.backend.formula.FormulaParser;
+import com.mugen.backend.formula.StatFormulas.Stat;
+import com.mugen.backend.service.StatFormulaService;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+@RestController
+@RequestMapping("/admin/stat-formulas")
+@RequiredArgsConstructor
+@Slf4j
+@PreAuthorize("hasRole('ADMIN')")
+public class AdminStatFormulaController {
+
+    private final StatFormulaService statFormulaService;
+
+    /**
+     * Fórmulas ativas e as padrão (ADMIN only)
+     * GET /admin/stat-formulas
+     */
+    @GetMapping
+    public ResponseEntity<Map<String, Object>> getFormulas() {
+        Map<String, String> active = new LinkedHashMap<>();
+        Map<String, String> defaults = new LinkedHashMap<>();
+        statFormulaService.getActiveFormulas().forEach((stat, expression) -> active.put(stat.key(), expression));
+        for (Stat stat : Stat.values()) {
+            defaults.put(stat.key(), stat.defaultExpression());
+        }
+        return ResponseEntity.ok(Map.of(
+                "formulas", active,
+                "defaults", defaults,
+                "variables", FormulaParser.VARIABLES
+        ));
+    }
+
+    /**
+     * Troca a fórmula de um stat; inválida → 400 e nada muda (ADMIN only)
+     * PUT /admin/stat-formulas/{stat}
+     */
+    @PutMapping("/{stat}")
+    public ResponseEntity<Map<String, Object>> updateFormula(
+            @PathVariable String stat,
+            @Valid @RequestBody UpdateStatFormulaDTO request) {
+        statFormulaService.updateFormula(stat, request.getExpression(), request.getDescription());
+        return getFormulas();
+    }
+
+    /**
+     * Volta o stat para a fórmula padrão (ADMIN only)
+     * DELETE /admin/stat-formulas/{stat}
+     */
+    @DeleteMapping("/{stat}")
+    public ResponseEntity<Map<String, Object>> resetFormula(@PathVariable String stat) {
+        statFormulaService.resetFormula(stat);
+        return getFormulas();
+    }
+}
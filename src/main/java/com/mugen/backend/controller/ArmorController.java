@@ -39,10 +39,10 @@ public class ArmorController {
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "10") int size
     ) {
-        log.info("📋 GET /armors - Listando armaduras (página: {}, tamanho: {})", page, size);
+        log.debug("📋 GET /armors - Listando armaduras (página: {}, tamanho: {})", page, size);
         Pageable pageable = PageRequest.of(page, size);
         Page<ArmorDTO> armors = armorService.getActiveArmors(pageable);
-        log.info("✅ {} armaduras encontradas", armors.getTotalElements());
+        log.debug("✅ {} armaduras encontradas", armors.getTotalElements());
         return ResponseEntity.ok(armors);
     }
 
@@ -52,9 +52,9 @@ public class ArmorController {
      */
     @GetMapping("/{id}")
     public ResponseEntity<ArmorDTO> getArmorById(@PathVariable Integer id) {
-        log.info("🔍 GET /armors/{} - Buscando armadura", id);
+        log.debug("🔍 GET /armors/{} - Buscando armadura", id);
         ArmorDTO armor = armorService.getArmorById(id);
-        log.info("✅ Armadura encontrada: {}", armor.getName());
+        log.debug("✅ Armadura encontrada: {}", armor.getName());
         return ResponseEntity.ok(armor);
     }
 
@@ -64,9 +64,9 @@ public class ArmorController {
      */
     @GetMapping("/type/{type}")
     public ResponseEntity<List<ArmorDTO>> getArmorsByType(@PathVariable String type) {
-        log.info("🔍 GET /armors/type/{} - Filtrando por tipo", type);
+        log.debug("🔍 GET /armors/type/{} - Filtrando por tipo", type);
         List<ArmorDTO> armors = armorService.getArmorsByType(type);
-        log.info("✅ {} armaduras encontradas para tipo: {}", armors.size(), type);
+        log.debug("✅ {} armaduras encontradas para tipo: {}", armors.size(), type);
         return ResponseEntity.ok(armors);
     }
 
@@ -76,9 +76,9 @@ public class ArmorController {
      */
     @GetMapping("/rarity/{rarity}")
     public ResponseEntity<List<ArmorDTO>> getArmorsByRarity(@PathVariable String rarity) {
-        log.info("🔍 GET /armors/rarity/{} - Filtrando por raridade", rarity);
+        log.debug("🔍 GET /armors/rarity/{} - Filtrando por raridade", rarity);
         List<ArmorDTO> armors = armorService.getArmorsByRarity(rarity);
-        log.info("✅ {} armaduras encontradas para raridade: {}", armors.size(), rarity);
+        log.debug("✅ {} armaduras encontradas para raridade: {}", armors.size(), rarity);
         return ResponseEntity.ok(armors);
     }
 
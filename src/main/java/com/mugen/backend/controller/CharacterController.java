@@ -1,8 +1,17 @@
 package com.mugen.backend.controller;
 
+import com.mugen.backend.dto.CursorPage;
 import com.mugen.backend.dto.achievement.AwardTPRequest;
+import com.mugen.backend.dto.character.CharacterBatchRequest;
+import com.mugen.backend.dto.character.CharacterBatchResponse;
+import com.mugen.backend.dto.character.CharacterDashboard;
 import com.mugen.backend.dto.character.CharacterDTO;
+import com.mugen.backend.dto.character.CharacterDetailView;
+import com.mugen.backend.dto.character.CharacterSearchHit;
 import com.mugen.backend.dto.character.CharacterStats;
+import com.mugen.backend.dto.character.CharacterStatsBatchResponse;
+import com.mugen.backend.dto.character.CharacterSummaryView;
+import com.mugen.backend.dto.character.EffectiveCharacterSheet;
 import com.mugen.backend.dto.character.UpdateCharacterDTO;
 import com.mugen.backend.dto.character.UpdateCharacterNameDTO;
 import com.mugen.backend.dto.tp.*;
@@ -23,7 +32,9 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.bind.annotation.*;
 
@@ -47,7 +58,10 @@ import java.util.UUID;
 public class CharacterController {
 
     private final CharacterService characterService;
-    private final CharacterStatService statService;
+    private final CharacterStatsCache statsCache;
+    private final CharacterDashboardService dashboardService;
+    private final CharacterSheetService sheetService;
+    private final BuildOptimizerService buildOptimizerService;
     private final TPService tpService;
     private final TransformationService transformationService;
     private final ExperienceService experienceService;
@@ -69,6 +83,16 @@ public class CharacterController {
         return (String) authentication.getPrincipal();
     }
 
+    /**
+     * ADMIN e MASTER enxergam qualquer personagem (mesma regra do CharacterPermissionEvaluator)
+     */
+    private boolean canAccessAnyCharacter() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        return authentication.getAuthorities().stream()
+                .map(GrantedAuthority::getAuthority)
+                .anyMatch(authority -> authority.equals("ROLE_ADMIN") || authority.equals("ROLE_MASTER"));
+    }
+
     // ==================== 1️⃣ CRUD BÁSICO ====================
 
     /**
@@ -87,19 +111,35 @@ public class CharacterController {
      * GET /api/characters/{id}
      * Buscar personagem por ID
      */
+    @PreAuthorize("hasPermission(#id, 'Character', 'OWNER')")
     @GetMapping("/{id}")
-    public ResponseEntity<Character> getCharacter(@PathVariable UUID id) {
+    public ResponseEntity<CharacterDetailView> getCharacter(@PathVariable UUID id) {
         String userId = getAuthenticatedUserId();
         log.debug("✅ User {} requesting character: {}", userId, id);
-        return characterService.findByIdWithFullDetails(id)
+        return characterService.getCharacterDetail(id)
                 .map(ResponseEntity::ok)
                 .orElse(ResponseEntity.notFound().build());
     }
 
+    /**
+     * POST /api/characters/batch
+     * Buscar vários personagens numa chamada (party, sessão do mestre)
+     * Ids inexistentes ou de outros usuários voltam em missing/forbidden em vez de falhar a requisição
+     */
+    @PostMapping("/batch")
+    public ResponseEntity<CharacterBatchResponse> getCharactersBatch(@Valid @RequestBody CharacterBatchRequest request) {
+        String userId = getAuthenticatedUserId();
+        log.debug("✅ User {} requesting {} characters in batch", userId, request.getIds().size());
+        CharacterBatchResponse response = characterService.getCharacterDetails(
+                request.getIds(), UUID.fromString(userId), canAccessAnyCharacter());
+        return ResponseEntity.ok(response);
+    }
+
     /**
      * PUT /api/characters/{id}
      * Atualizar personagem completo
      */
+    @PreAuthorize("hasPermission(#id, 'Character', 'OWNER')")
     @PutMapping("/{id}")
     public ResponseEntity<Character> updateCharacter(
             @PathVariable UUID id,
@@ -114,6 +154,7 @@ public class CharacterController {
      * DELETE /api/characters/{id}
      * Deletar personagem (hard delete)
      */
+    @PreAuthorize("hasPermission(#id, 'Character', 'OWNER')")
     @DeleteMapping("/{id}")
     public ResponseEntity<Void> deleteCharacter(@PathVariable UUID id) {
         String userId = getAuthenticatedUserId();
@@ -130,11 +171,12 @@ public class CharacterController {
      * GET /api/characters/{characterId}/transformations/available
      * Listar transformações disponíveis para desbloquear
      */
+    @PreAuthorize("hasPermission(#characterId, 'Character', 'OWNER')")
     @GetMapping("/{characterId}/transformations/available")
     public ResponseEntity<List<Transformation>> getAvailableTransformations(
             @PathVariable UUID characterId) {
         String userId = getAuthenticatedUserId();
-        log.info("✅ User {} getting available transformations for character {}", userId, characterId);
+        log.debug("✅ User {} getting available transformations for character {}", userId, characterId);
         List<Transformation> transformations = transformationService.getAvailableTransformations(characterId);
         return ResponseEntity.ok(transformations);
     }
@@ -143,6 +185,7 @@ public class CharacterController {
      * POST /api/characters/{characterId}/transformations/{transformationId}
      * Desbloquear transformação para personagem
      */
+    @PreAuthorize("hasPermission(#characterId, 'Character', 'OWNER')")
     @PostMapping("/{characterId}/transformations/{transformationId}")
     public ResponseEntity<CharacterTransformation> unlockTransformation(
             @PathVariable UUID characterId,
@@ -157,11 +200,12 @@ public class CharacterController {
      * GET /api/characters/{characterId}/transformations
      * Listar todas as transformações do personagem
      */
+    @PreAuthorize("hasPermission(#characterId, 'Character', 'OWNER')")
     @GetMapping("/{characterId}/transformations")
     public ResponseEntity<List<CharacterTransformation>> getCharacterTransformations(
             @PathVariable UUID characterId) {
         String userId = getAuthenticatedUserId();
-        log.info("✅ User {} getting transformations for character {}", userId, characterId);
+        log.debug("✅ User {} getting transformations for character {}", userId, characterId);
         List<CharacterTransformation> transformations = transformationService.getCharacterTransformations(characterId);
         return ResponseEntity.ok(transformations);
     }
@@ -170,11 +214,12 @@ public class CharacterController {
      * GET /api/characters/{characterId}/transformations/unlocked
      * Listar apenas transformações desbloqueadas
      */
+    @PreAuthorize("hasPermission(#characterId, 'Character', 'OWNER')")
     @GetMapping("/{characterId}/transformations/unlocked")
     public ResponseEntity<List<CharacterTransformation>> getUnlockedTransformations(
             @PathVariable UUID characterId) {
         String userId = getAuthenticatedUserId();
-        log.info("✅ User {} getting unlocked transformations for character {}", userId, characterId);
+        log.debug("✅ User {} getting unlocked transformations for character {}", userId, characterId);
         List<CharacterTransformation> transformations = transformationService.getUnlockedTransformations(characterId);
         return ResponseEntity.ok(transformations);
     }
@@ -183,12 +228,13 @@ public class CharacterController {
      * GET /api/characters/{characterId}/transformations/{transformationId}/unlocked
      * Verificar se personagem tem transformação específica desbloqueada
      */
+    @PreAuthorize("hasPermission(#characterId, 'Character', 'OWNER')")
     @GetMapping("/{characterId}/transformations/{transformationId}/unlocked")
     public ResponseEntity<Boolean> hasUnlockedTransformation(
             @PathVariable UUID characterId,
             @PathVariable Integer transformationId) {
         String userId = getAuthenticatedUserId();
-        log.info("✅ User {} checking transformation {} for character {}", userId, transformationId, characterId);
+        log.debug("✅ User {} checking transformation {} for character {}", userId, transformationId, characterId);
         boolean unlocked = transformationService.hasUnlockedTransformation(characterId, transformationId);
         return ResponseEntity.ok(unlocked);
     }
@@ -199,6 +245,7 @@ public class CharacterController {
      * POST /api/characters/{characterId}/skills/{skillId}
      * Adicionar skill ao personagem
      */
+    @PreAuthorize("hasPermission(#characterId, 'Character', 'OWNER')")
     @PostMapping("/{characterId}/skills/{skillId}")
     public ResponseEntity<CharacterSkill> addSkillToCharacter(
             @PathVariable UUID characterId,
@@ -213,10 +260,11 @@ public class CharacterController {
      * GET /api/characters/{characterId}/skills
      * Listar skills do personagem
      */
+    @PreAuthorize("hasPermission(#characterId, 'Character', 'OWNER')")
     @GetMapping("/{characterId}/skills")
     public ResponseEntity<List<CharacterSkill>> getCharacterSkills(@PathVariable UUID characterId) {
         String userId = getAuthenticatedUserId();
-        log.info("✅ User {} getting skills for character {}", userId, characterId);
+        log.debug("✅ User {} getting skills for character {}", userId, characterId);
         List<CharacterSkill> skills = characterService.getCharacterSkills(characterId);
         return ResponseEntity.ok(skills);
     }
@@ -225,6 +273,7 @@ public class CharacterController {
      * DELETE /api/characters/{characterId}/skills/{skillId}
      * Remover skill do personagem
      */
+    @PreAuthorize("hasPermission(#characterId, 'Character', 'OWNER')")
     @DeleteMapping("/{characterId}/skills/{skillId}")
     public ResponseEntity<Void> removeSkillFromCharacter(
             @PathVariable UUID characterId,
@@ -241,12 +290,54 @@ public class CharacterController {
      * GET /api/characters/{id}/stats
      * Calcular stats finais do personagem
      */
+    @PreAuthorize("hasPermission(#id, 'Character', 'OWNER')")
     @GetMapping("/{id}/stats")
     public ResponseEntity<CharacterStats> getCharacterStats(@PathVariable UUID id) {
         String userId = getAuthenticatedUserId();
         log.debug("✅ User {} calculating stats for character: {}", userId, id);
-        return characterService.findByIdWithFullDetails(id)
-                .map(statService::calculateStats)
+        return statsCache.get(id)
+                .map(ResponseEntity::ok)
+                .orElse(ResponseEntity.notFound().build());
+    }
+
+    /**
+     * GET /api/characters/{id}/sheet
+     * Ficha efetiva: atributos base + equipamento, modificadores e stats finais numa única visão
+     */
+    @PreAuthorize("hasPermission(#id, 'Character', 'OWNER')")
+    @GetMapping("/{id}/sheet")
+    public ResponseEntity<EffectiveCharacterSheet> getCharacterSheet(@PathVariable UUID id) {
+        String userId = getAuthenticatedUserId();
+        log.debug("✅ User {} loading effective sheet for character: {}", userId, id);
+        return sheetService.getSheet(id)
+                .map(ResponseEntity::ok)
+                .orElse(ResponseEntity.notFound().build());
+    }
+
+    /**
+     * POST /api/characters/stats/batch
+     * Stats de vários personagens numa chamada (mesmas regras de acesso do POST /characters/batch)
+     */
+    @PostMapping("/stats/batch")
+    public ResponseEntity<CharacterStatsBatchResponse> getCharacterStatsBatch(@Valid @RequestBody CharacterBatchRequest request) {
+        String userId = getAuthenticatedUserId();
+        log.debug("✅ User {} calculating stats for {} characters", userId, request.getIds().size());
+        CharacterStatsBatchResponse response = characterService.getCharacterStats(
+                request.getIds(), UUID.fromString(userId), canAccessAnyCharacter());
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * GET /api/characters/{id}/dashboard
+     * Tela do personagem numa chamada: detalhe, stats, inventário, equipamento, XP, TP e achievements
+     * Seções que falharem vêm null e listadas em "unavailable"
+     */
+    @PreAuthorize("hasPermission(#id, 'Character', 'OWNER')")
+    @GetMapping("/{id}/dashboard")
+    public ResponseEntity<CharacterDashboard> getCharacterDashboard(@PathVariable UUID id) {
+        String userId = getAuthenticatedUserId();
+        log.debug("✅ User {} loading dashboard for character: {}", userId, id);
+        return dashboardService.getDashboard(id)
                 .map(ResponseEntity::ok)
                 .orElse(ResponseEntity.notFound().build());
     }
@@ -257,6 +348,7 @@ public class CharacterController {
      * PATCH /api/characters/{id}/name
      * Atualizar apenas o nome do personagem
      */
+    @PreAuthorize("hasPermission(#id, 'Character', 'OWNER')")
     @PatchMapping("/{id}/name")
     public ResponseEntity<Character> updateCharacterName(
             @PathVariable UUID id,
@@ -271,6 +363,7 @@ public class CharacterController {
      * PATCH /api/characters/{id}/deactivate
      * Desativar personagem (soft delete)
      */
+    @PreAuthorize("hasPermission(#id, 'Character', 'OWNER')")
     @PatchMapping("/{id}/deactivate")
     public ResponseEntity<Character> deactivateCharacter(@PathVariable UUID id) {
         String userId = getAuthenticatedUserId();
@@ -287,29 +380,56 @@ public class CharacterController {
      * Listar todos os personagens com paginação
      */
     @GetMapping
-    public ResponseEntity<Page<Character>> getAllCharacters(
+    public ResponseEntity<Page<CharacterSummaryView>> getAllCharacters(
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "10") int size,
             @RequestParam(defaultValue = "name") String sortBy,
             @RequestParam(defaultValue = "ASC") String sortDirection) {
         String userId = getAuthenticatedUserId();
-        log.info("✅ User {} requesting characters (page: {}, size: {}, sortBy: {}, direction: {})",
+        log.debug("✅ User {} requesting characters (page: {}, size: {}, sortBy: {}, direction: {})",
                 userId, page, size, sortBy, sortDirection);
         Sort.Direction direction = Sort.Direction.fromString(sortDirection);
         Pageable pageable = PageRequest.of(page, size, Sort.by(direction, sortBy));
-        Page<Character> characters = characterService.getAllCharacters(pageable);
+        Page<CharacterSummaryView> characters = characterService.getCharacterSummaries(pageable);
         return ResponseEntity.ok(characters);
     }
 
+    /**
+     * GET /api/characters?cursor=&size=20
+     * Listar personagens por cursor (mais recentes primeiro); cursor vazio = primeira página
+     * Custo constante em qualquer profundidade (sem OFFSET)
+     */
+    @GetMapping(params = "cursor")
+    public ResponseEntity<CursorPage<CharacterSummaryView>> getCharactersByCursor(
+            @RequestParam String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        String userId = getAuthenticatedUserId();
+        log.debug("✅ User {} requesting characters by cursor (size: {})", userId, size);
+        return ResponseEntity.ok(characterService.getCharacterSummariesByCursor(cursor, size));
+    }
+
+    /**
+     * GET /api/characters/search?q=gok&limit=20
+     * Buscar personagens por nome (prefixo e aproximada, ranqueados)
+     */
+    @GetMapping("/search")
+    public ResponseEntity<List<CharacterSearchHit>> searchCharacters(
+            @RequestParam String q,
+            @RequestParam(defaultValue = "20") int limit) {
+        String userId = getAuthenticatedUserId();
+        log.debug("✅ User {} searching characters: '{}'", userId, q);
+        return ResponseEntity.ok(characterService.searchCharacters(q, limit));
+    }
+
     /**
      * GET /api/characters/owner/{ownerId}
      * Listar personagens de um usuário (sem paginação)
      */
     @GetMapping("/owner/{ownerId}")
-    public ResponseEntity<List<Character>> getCharactersByOwnerId(@PathVariable UUID ownerId) {
+    public ResponseEntity<List<CharacterSummaryView>> getCharactersByOwnerId(@PathVariable UUID ownerId) {
         String userId = getAuthenticatedUserId();
-        log.info("✅ User {} getting characters by owner id: {}", userId, ownerId);
-        List<Character> characters = characterService.getCharactersByOwner(ownerId);
+        log.debug("✅ User {} getting characters by owner id: {}", userId, ownerId);
+        List<CharacterSummaryView> characters = characterService.getCharacterSummariesByOwner(ownerId);
         return ResponseEntity.ok(characters);
     }
 
@@ -325,7 +445,7 @@ public class CharacterController {
             @RequestParam(defaultValue = "name") String sortBy,
             @RequestParam(defaultValue = "ASC") String sortDirection) {
         String userId = getAuthenticatedUserId();
-        log.info("✅ User {} requesting paginated characters by owner id: {}", userId, ownerId);
+        log.debug("✅ User {} requesting paginated characters by owner id: {}", userId, ownerId);
         Sort.Direction direction = Sort.Direction.fromString(sortDirection);
         Pageable pageable = PageRequest.of(page, size, Sort.by(direction, sortBy));
         Page<Character> characters = characterService.getCharactersByOwnerPaginated(ownerId, pageable);
@@ -339,7 +459,7 @@ public class CharacterController {
     @GetMapping("/owner/{ownerId}/count")
     public ResponseEntity<Long> countCharactersByOwnerId(@PathVariable UUID ownerId) {
         String userId = getAuthenticatedUserId();
-        log.info("✅ User {} counting characters by owner id: {}", userId, ownerId);
+        log.debug("✅ User {} counting characters by owner id: {}", userId, ownerId);
         long count = characterService.countByOwnerId(ownerId);
         return ResponseEntity.ok(count);
     }
@@ -351,7 +471,7 @@ public class CharacterController {
     @GetMapping("/{id}/exists")
     public ResponseEntity<Boolean> characterExists(@PathVariable UUID id) {
         String userId = getAuthenticatedUserId();
-        log.info("✅ User {} checking if character exists: {}", userId, id);
+        log.debug("✅ User {} checking if character exists: {}", userId, id);
         boolean exists = characterService.characterExists(id);
         return ResponseEntity.ok(exists);
     }
@@ -362,6 +482,7 @@ public class CharacterController {
      * POST /api/characters/{id}/allocate-attribute
      * Alocar pontos em um atributo (gastar TP)
      */
+    @PreAuthorize("hasPermission(#id, 'Character', 'OWNER')")
     @PostMapping("/{id}/allocate-attribute")
     public ResponseEntity<Character> allocateAttribute(
             @PathVariable UUID id,
@@ -374,6 +495,39 @@ public class CharacterController {
         return ResponseEntity.ok(updated);
     }
 
+    /**
+     * POST /api/characters/{id}/allocate-attributes
+     * Alocar pontos em vários atributos numa transação; quoteOnly=true só devolve o custo
+     */
+    @PreAuthorize("hasPermission(#id, 'Character', 'OWNER')")
+    @PostMapping("/{id}/allocate-attributes")
+    public ResponseEntity<AttributeAllocation> allocateAttributes(
+            @PathVariable UUID id,
+            @Valid @RequestBody AllocateAttributesRequest request) {
+        String userId = getAuthenticatedUserId();
+        if (request.isQuoteOnly()) {
+            log.debug("✅ User {} quoting allocation {} for character {}", userId, request.getPoints(), id);
+            return ResponseEntity.ok(tpService.quoteAttributes(id, request.getPoints()));
+        }
+        log.info("✅ User {} allocating {} for character {}", userId, request.getPoints(), id);
+        User mockUser = User.builder().id(UUID.fromString(userId)).build();
+        return ResponseEntity.ok(tpService.allocateAttributes(id, request.getPoints(), mockUser));
+    }
+
+    /**
+     * POST /api/characters/{id}/optimize-build
+     * Melhor distribuição de um orçamento de TP entre os atributos, dados pesos por stat (não aloca nada)
+     */
+    @PreAuthorize("hasPermission(#id, 'Character', 'OWNER')")
+    @PostMapping("/{id}/optimize-build")
+    public ResponseEntity<BuildOptimization> optimizeBuild(
+            @PathVariable UUID id,
+            @Valid @RequestBody OptimizeBuildRequest request) {
+        String userId = getAuthenticatedUserId();
+        log.debug("✅ User {} optimizing build for character {} with budget {}", userId, id, request.getBudget());
+        return ResponseEntity.ok(buildOptimizerService.optimize(id, request));
+    }
+
     /**
      * POST /api/characters/{id}/award-tp
      * Conceder TP ao personagem
@@ -398,10 +552,11 @@ public class CharacterController {
      * GET /api/characters/{id}/tp-summary
      * Obter resumo de TP do personagem
      */
+    @PreAuthorize("hasPermission(#id, 'Character', 'OWNER')")
     @GetMapping("/{id}/tp-summary")
     public ResponseEntity<TPSummary> getTPSummary(@PathVariable UUID id) {
         String userId = getAuthenticatedUserId();
-        log.info("✅ User {} getting TP summary for character {}", userId, id);
+        log.debug("✅ User {} getting TP summary for character {}", userId, id);
         TPSummary summary = tpService.getTPSummary(id);
         return ResponseEntity.ok(summary);
     }
@@ -446,10 +601,11 @@ public class CharacterController {
      * GET /api/characters/{id}/tp-history
      * Obter histórico de transações de TP do personagem
      */
+    @PreAuthorize("hasPermission(#id, 'Character', 'OWNER')")
     @GetMapping("/{id}/tp-history")
     public ResponseEntity<List<TPTransaction>> getTPHistory(@PathVariable UUID id) {
         String userId = getAuthenticatedUserId();
-        log.info("✅ User {} getting TP history for character {}", userId, id);
+        log.debug("✅ User {} getting TP history for character {}", userId, id);
         if (!characterService.characterExists(id)) {
             return ResponseEntity.notFound().build();
         }
@@ -463,6 +619,7 @@ public class CharacterController {
      * POST /api/characters/{characterId}/gain-exp
      * Ganhar experiência (calcula level up automático)
      */
+    @PreAuthorize("hasPermission(#characterId, 'Character', 'OWNER')")
     @PostMapping("/{characterId}/gain-exp")
     public ResponseEntity<Character> gainExperience(
             @PathVariable UUID characterId,
@@ -478,10 +635,11 @@ public class CharacterController {
      * GET /api/characters/{characterId}/level-progress
      * Obter progresso de XP para o próximo level
      */
+    @PreAuthorize("hasPermission(#characterId, 'Character', 'OWNER')")
     @GetMapping("/{characterId}/level-progress")
     public ResponseEntity<ExperienceService.LevelProgress> getLevelProgress(@PathVariable UUID characterId) {
         String userId = getAuthenticatedUserId();
-        log.info("✅ User {} getting level progress for character {}", userId, characterId);
+        log.debug("✅ User {} getting level progress for character {}", userId, characterId);
         ExperienceService.LevelProgress progress = experienceService.getLevelProgress(characterId);
         return ResponseEntity.ok(progress);
     }
@@ -498,7 +656,7 @@ public class CharacterController {
         if (start < 1 || end > 100 || start > end) {
             return ResponseEntity.badRequest().build();
         }
-        log.info("✅ User {} getting experience table from level {} to {}", userId, start, end);
+        log.debug("✅ User {} getting experience table from level {} to {}", userId, start, end);
         List<ExperienceTable> table = new ArrayList<>();
         for (int level = start; level <= end; level++) {
             long expRequired = experienceService.getExpRequiredForLevel(level);
@@ -512,10 +670,11 @@ public class CharacterController {
      * GET /api/characters/{characterId}/exp-info
      * Informações completas de experiência do personagem
      */
+    @PreAuthorize("hasPermission(#characterId, 'Character', 'OWNER')")
     @GetMapping("/{characterId}/exp-info")
     public ResponseEntity<ExperienceInfo> getExperienceInfo(@PathVariable UUID characterId) {
         String userId = getAuthenticatedUserId();
-        log.info("✅ User {} getting experience info for character {}", userId, characterId);
+        log.debug("✅ User {} getting experience info for character {}", userId, characterId);
         Character character = characterService.getCharacterById(characterId);
         ExperienceService.LevelProgress progress = experienceService.getLevelProgress(characterId);
         long totalExp = experienceService.getTotalExpForLevel(character.getLevel());
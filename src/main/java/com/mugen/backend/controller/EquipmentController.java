@@ -40,7 +40,7 @@ public class EquipmentController {
     public ResponseEntity<CharacterEquipment> getEquipment(
             @PathVariable UUID characterId
     ) {
-        log.info("[EQUIPMENT] GET - Obtendo equipamento do personagem: {}", characterId);
+        log.debug("[EQUIPMENT] GET - Obtendo equipamento do personagem: {}", characterId);
         CharacterEquipment equipment = equipmentService.getCharacterEquipment(characterId);
         return ResponseEntity.ok(equipment);
     }
@@ -138,7 +138,7 @@ public class EquipmentController {
     public ResponseEntity<EquipmentStatsDTO> getEquipmentStats(
             @PathVariable UUID characterId
     ) {
-        log.info("[EQUIPMENT] GET STATS - Calculando stats de equipamento para: {}", characterId);
+        log.debug("[EQUIPMENT] GET STATS - Calculando stats de equipamento para: {}", characterId);
         EquipmentStatsDTO stats = equipmentService.getEquipmentStats(characterId);
         return ResponseEntity.ok(stats);
     }
@@ -151,7 +151,7 @@ public class EquipmentController {
     public ResponseEntity<EquipmentBonusesDTO> getEquipmentBonuses(
             @PathVariable UUID characterId
     ) {
-        log.info("[EQUIPMENT] GET BONUSES - Obtendo bônus de equipamento para: {}", characterId);
+        log.debug("[EQUIPMENT] GET BONUSES - Obtendo bônus de equipamento para: {}", characterId);
         EquipmentBonusesDTO bonuses = equipmentService.getEquipmentBonuses(characterId);
         return ResponseEntity.ok(bonuses);
     }
@@ -13,6 +13,7 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
@@ -27,9 +28,11 @@ import java.util.UUID;
  * 3. 🛡️ ARMADURAS (Comprar, Vender, Listar)
  * 4. 🧱 MATERIAIS (Comprar, Vender, Listar)
  * 5. ⚙️ EQUIPAMENTO (Equipar, Desequipar, Stats)
+ * 🔒 Todos os endpoints exigem ser dono do personagem (ou ADMIN/MASTER)
  */
 @RestController
 @RequestMapping("/characters/{characterId}/inventory")
+@PreAuthorize("hasPermission(#characterId, 'Character', 'OWNER')")
 @RequiredArgsConstructor
 @Slf4j
 public class InventoryController {
@@ -45,7 +48,7 @@ public class InventoryController {
      */
     @GetMapping
     public ResponseEntity<InventoryInfoDTO> getInventory(@PathVariable UUID characterId) {
-        log.info("Getting inventory for character {}", characterId);
+        log.debug("Getting inventory for character {}", characterId);
         InventoryInfoDTO inventory = inventoryService.getInventoryInfo(characterId);
         return ResponseEntity.ok(inventory);
     }
@@ -56,7 +59,7 @@ public class InventoryController {
      */
     @GetMapping("/info")
     public ResponseEntity<InventoryInfoDTO> getInventoryInfo(@PathVariable UUID characterId) {
-        log.info("Getting detailed inventory info for character {}", characterId);
+        log.debug("Getting detailed inventory info for character {}", characterId);
         InventoryInfoDTO info = inventoryService.getInventoryInfo(characterId);
         return ResponseEntity.ok(info);
     }
@@ -67,7 +70,7 @@ public class InventoryController {
      */
     @GetMapping("/weight")
     public ResponseEntity<InventoryWeightDTO> getInventoryWeight(@PathVariable UUID characterId) {
-        log.info("Getting inventory weight for character {}", characterId);
+        log.debug("Getting inventory weight for character {}", characterId);
         Inventory inventory = inventoryService.getInventory(characterId);
         
         InventoryWeightDTO weight = InventoryWeightDTO.builder()
@@ -87,7 +90,7 @@ public class InventoryController {
      */
     @GetMapping("/weapons")
     public ResponseEntity<List<InventoryItemDTO>> getWeapons(@PathVariable UUID characterId) {
-        log.info("Getting weapons for character {}", characterId);
+        log.debug("Getting weapons for character {}", characterId);
         List<InventoryItemDTO> weapons = inventoryService.getCharacterWeapons(characterId);
         return ResponseEntity.ok(weapons);
     }
@@ -100,7 +103,7 @@ public class InventoryController {
     public ResponseEntity<InventoryItemDTO> getWeapon(
             @PathVariable UUID characterId,
             @PathVariable Integer weaponId) {
-        log.info("Getting weapon {} for character {}", weaponId, characterId);
+        log.debug("Getting weapon {} for character {}", weaponId, characterId);
         InventoryItemDTO weapon = inventoryService.getWeaponFromInventory((long) weaponId);
         return ResponseEntity.ok(weapon);
     }
@@ -139,7 +142,7 @@ public class InventoryController {
      */
     @GetMapping("/armors")
     public ResponseEntity<List<InventoryItemDTO>> getArmors(@PathVariable UUID characterId) {
-        log.info("Getting armors for character {}", characterId);
+        log.debug("Getting armors for character {}", characterId);
         List<InventoryItemDTO> armors = inventoryService.getCharacterArmors(characterId);
         return ResponseEntity.ok(armors);
     }
@@ -152,7 +155,7 @@ public class InventoryController {
     public ResponseEntity<InventoryItemDTO> getArmor(
             @PathVariable UUID characterId,
             @PathVariable Integer armorId) {
-        log.info("Getting armor {} for character {}", armorId, characterId);
+        log.debug("Getting armor {} for character {}", armorId, characterId);
         InventoryItemDTO armor = inventoryService.getArmorFromInventory((long) armorId);
         return ResponseEntity.ok(armor);
     }
@@ -192,7 +195,7 @@ public class InventoryController {
      */
     @GetMapping("/materials")
     public ResponseEntity<List<InventoryItemDTO>> getMaterials(@PathVariable UUID characterId) {
-        log.info("Getting materials for character {}", characterId);
+        log.debug("Getting materials for character {}", characterId);
         List<InventoryItemDTO> materials = inventoryService.getCharacterMaterials(characterId);
         return ResponseEntity.ok(materials);
     }
@@ -205,7 +208,7 @@ public class InventoryController {
     public ResponseEntity<InventoryItemDTO> getMaterial(
             @PathVariable UUID characterId,
             @PathVariable Integer materialId) {
-        log.info("Getting material {} for character {}", materialId, characterId);
+        log.debug("Getting material {} for character {}", materialId, characterId);
         InventoryItemDTO material = inventoryService.getMaterialFromInventory(materialId);
         return ResponseEntity.ok(material);
     }
@@ -218,7 +221,7 @@ public class InventoryController {
      */
     @GetMapping("/equipment")
     public ResponseEntity<CharacterEquipment> getEquipment(@PathVariable UUID characterId) {
-        log.info("Getting equipment for character {}", characterId);
+        log.debug("Getting equipment for character {}", characterId);
         CharacterEquipment equipment = equipmentService.getCharacterEquipment(characterId);
         return ResponseEntity.ok(equipment);
     }
@@ -255,7 +258,7 @@ public class InventoryController {
      */
     @GetMapping("/equipment/stats")
     public ResponseEntity<EquipmentStatsDTO> getEquipmentStats(@PathVariable UUID characterId) {
-        log.info("Calculating equipment stats for character {}", characterId);
+        log.debug("Calculating equipment stats for character {}", characterId);
         EquipmentStatsDTO stats = equipmentService.calculateEquipmentStats(characterId);
         return ResponseEntity.ok(stats);
     }
@@ -266,7 +269,7 @@ public class InventoryController {
      */
     @GetMapping("/equipment/bonuses")
     public ResponseEntity<EquipmentBonusesDTO> getEquipmentBonuses(@PathVariable UUID characterId) {
-        log.info("Getting equipment bonuses for character {}", characterId);
+        log.debug("Getting equipment bonuses for character {}", characterId);
         EquipmentBonusesDTO bonuses = equipmentService.getEquipmentBonuses(characterId);
         return ResponseEntity.ok(bonuses);
     }
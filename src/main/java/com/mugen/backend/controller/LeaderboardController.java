@@ -0,0 +1,54 @@
+package com.mugen.backend.controller;
+
+import com.mugen.backend.dto.leaderboard.LeaderboardPosition;
+import com.mugen.backend.leaderboard.LeaderboardService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+import java.util.UUID;
+
+@RestController
+@RequestMapping("/leaderboard")
+@RequiredArgsConstructor
+@Slf4j
+public class LeaderboardController {
+
+    private final LeaderboardService leaderboardService;
+
+    /**
+     * Top N global, ou de uma raça
+     * GET /api/leaderboard/top?limit=10&raceId=1
+     */
+    @GetMapping("/top")
+    public ResponseEntity<List<LeaderboardPosition>> getTop(
+            @RequestParam(defaultValue = "10") int limit,
+            @RequestParam(required = false) Integer raceId) {
+        return ResponseEntity.ok(leaderboardService.top(raceId, limit));
+    }
+
+    /**
+     * Posição do personagem (global ou dentro da raça)
+     * GET /api/leaderboard/characters/{characterId}?byRace=false
+     */
+    @GetMapping("/characters/{characterId}")
+    public ResponseEntity<LeaderboardPosition> getRank(
+            @PathVariable UUID characterId,
+            @RequestParam(defaultValue = "false") boolean byRace) {
+        return ResponseEntity.ok(leaderboardService.rankOf(characterId, byRace));
+    }
+
+    /**
+     * Posições ao redor do personagem
+     * GET /api/leaderboard/characters/{characterId}/around?radius=5&byRace=false
+     */
+    @GetMapping("/characters/{characterId}/around")
+    public ResponseEntity<List<LeaderboardPosition>> getAround(
+            @PathVariable UUID characterId,
+            @RequestParam(defaultValue = "5") int radius,
+            @RequestParam(defaultValue = "false") boolean byRace) {
+        return ResponseEntity.ok(leaderboardService.around(characterId, byRace, radius));
+    }
+}
@@ -34,10 +34,10 @@ public class MaterialController {
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "10") int size
     ) {
-        log.info("📋 GET /materials - Listando materiais (página: {}, tamanho: {})", page, size);
+        log.debug("📋 GET /materials - Listando materiais (página: {}, tamanho: {})", page, size);
         Pageable pageable = PageRequest.of(page, size);
         Page<MaterialDTO> materials = materialService.getActiveMaterials(pageable);
-        log.info("✅ {} materiais encontrados", materials.getTotalElements());
+        log.debug("✅ {} materiais encontrados", materials.getTotalElements());
         return ResponseEntity.ok(materials);
     }
 
@@ -47,9 +47,9 @@ public class MaterialController {
      */
     @GetMapping("/{id}")
     public ResponseEntity<MaterialDTO> getMaterialById(@PathVariable Integer id) {
-        log.info("🔍 GET /materials/{} - Buscando material", id);
+        log.debug("🔍 GET /materials/{} - Buscando material", id);
         MaterialDTO material = materialService.getMaterialById(id);
-        log.info("✅ Material encontrado: {}", material.getName());
+        log.debug("✅ Material encontrado: {}", material.getName());
         return ResponseEntity.ok(material);
     }
 
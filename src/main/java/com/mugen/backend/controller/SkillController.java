@@ -38,7 +38,7 @@ public class SkillController {
      */
     @GetMapping
     public ResponseEntity<List<Skill>> getAllSkills() {
-        log.info("Request to get all skills");
+        log.debug("Request to get all skills");
         List<Skill> skills = skillService.getAllSkills();
         return ResponseEntity.ok(skills);
     }
@@ -49,7 +49,7 @@ public class SkillController {
      */
     @GetMapping("/active")
     public ResponseEntity<List<Skill>> getActiveSkills() {
-        log.info("Request to get active skills");
+        log.debug("Request to get active skills");
         List<Skill> skills = skillService.getActiveSkills();
         return ResponseEntity.ok(skills);
     }
@@ -60,7 +60,7 @@ public class SkillController {
      */
     @GetMapping("/{id}")
     public ResponseEntity<Skill> getSkillById(@PathVariable Integer id) {
-        log.info("Request to get skill by id: {}", id);
+        log.debug("Request to get skill by id: {}", id);
         Skill skill = skillService.getSkillById(id);
         return ResponseEntity.ok(skill);
     }
@@ -71,7 +71,7 @@ public class SkillController {
      */
     @GetMapping("/type/{type}")
     public ResponseEntity<List<Skill>> getSkillsByType(@PathVariable String type) {
-        log.info("Request to get skills by type: {}", type);
+        log.debug("Request to get skills by type: {}", type);
         List<Skill> skills = skillService.getSkillsByType(type);
         return ResponseEntity.ok(skills);
     }
@@ -82,7 +82,7 @@ public class SkillController {
      */
     @GetMapping("/search")
     public ResponseEntity<List<Skill>> searchSkillsByName(@RequestParam String name) {
-        log.info("Request to search skills by name: {}", name);
+        log.debug("Request to search skills by name: {}", name);
         List<Skill> skills = skillService.getSkillsByName(name);
         return ResponseEntity.ok(skills);
     }
@@ -93,7 +93,7 @@ public class SkillController {
      */
     @GetMapping("/ordered-by-cost")
     public ResponseEntity<List<Skill>> getSkillsOrderedByCost() {
-        log.info("Request to get skills ordered by cost");
+        log.debug("Request to get skills ordered by cost");
         List<Skill> skills = skillService.getSkillsOrderedByCost();
         return ResponseEntity.ok(skills);
     }
@@ -39,10 +39,10 @@ public class WeaponController {
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "10") int size
     ) {
-        log.info("📋 GET /weapons - Listando armas (página: {}, tamanho: {})", page, size);
+        log.debug("📋 GET /weapons - Listando armas (página: {}, tamanho: {})", page, size);
         Pageable pageable = PageRequest.of(page, size);
         Page<WeaponDTO> weapons = weaponService.getActiveWeapons(pageable);
-        log.info("✅ {} armas encontradas", weapons.getTotalElements());
+        log.debug("✅ {} armas encontradas", weapons.getTotalElements());
         return ResponseEntity.ok(weapons);
     }
 
@@ -52,9 +52,9 @@ public class WeaponController {
      */
     @GetMapping("/{id}")
     public ResponseEntity<WeaponDTO> getWeaponById(@PathVariable Integer id) {
-        log.info("🔍 GET /weapons/{} - Buscando arma", id);
+        log.debug("🔍 GET /weapons/{} - Buscando arma", id);
         WeaponDTO weapon = weaponService.getWeaponById(id);
-        log.info("✅ Arma encontrada: {}", weapon.getName());
+        log.debug("✅ Arma encontrada: {}", weapon.getName());
         return ResponseEntity.ok(weapon);
     }
 
@@ -64,9 +64,9 @@ public class WeaponController {
      */
     @GetMapping("/primary-type/{type}")
     public ResponseEntity<List<WeaponDTO>> getWeaponsByPrimaryType(@PathVariable String type) {
-        log.info("🔍 GET /weapons/primary-type/{} - Filtrando por tipo", type);
+        log.debug("🔍 GET /weapons/primary-type/{} - Filtrando por tipo", type);
         List<WeaponDTO> weapons = weaponService.getWeaponsByPrimaryType(type);
-        log.info("✅ {} armas encontradas para tipo: {}", weapons.size(), type);
+        log.debug("✅ {} armas encontradas para tipo: {}", weapons.size(), type);
         return ResponseEntity.ok(weapons);
     }
 
@@ -76,9 +76,9 @@ public class WeaponController {
      */
     @GetMapping("/element/{element}")
     public ResponseEntity<List<WeaponDTO>> getWeaponsByElement(@PathVariable String element) {
-        log.info("🔍 GET /weapons/element/{} - Filtrando por elemento", element);
+        log.debug("🔍 GET /weapons/element/{} - Filtrando por elemento", element);
         List<WeaponDTO> weapons = weaponService.getWeaponsByElement(element);
-        log.info("✅ {} armas encontradas para elemento: {}", weapons.size(), element);
+        log.debug("✅ {} armas encontradas para elemento: {}", weapons.size(), element);
         return ResponseEntity.ok(weapons);
     }
 
@@ -88,9 +88,9 @@ public class WeaponController {
      */
     @GetMapping("/rarity/{rarity}")
     public ResponseEntity<List<WeaponDTO>> getWeaponsByRarity(@PathVariable String rarity) {
-        log.info("🔍 GET /weapons/rarity/{} - Filtrando por raridade", rarity);
+        log.debug("🔍 GET /weapons/rarity/{} - Filtrando por raridade", rarity);
         List<WeaponDTO> weapons = weaponService.getWeaponsByRarity(rarity);
-        log.info("✅ {} armas encontradas para raridade: {}", weapons.size(), rarity);
+        log.debug("✅ {} armas encontradas para raridade: {}", weapons.size(), rarity);
         return ResponseEntity.ok(weapons);
     }
 
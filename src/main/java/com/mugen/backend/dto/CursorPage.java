@@ -0,0 +1,10 @@
+package com.mugen.backend.dto;
+
+import java.util.List;
+
+/**
+ * Página de paginação por cursor (keyset)
+ * nextCursor é opaco para o cliente: basta reenviá-lo para buscar a próxima página
+ */
+public record CursorPage<T>(List<T> items, String nextCursor, boolean hasMore) {
+}
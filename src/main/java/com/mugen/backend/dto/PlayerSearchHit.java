@@ -0,0 +1,22 @@
+package com.mugen.backend.dto;
+
+import java.util.UUID;
+
+/**
+ * Resultado da busca de players por nome de exibição (projeção da query nativa)
+ * Usado em: GET /admin/players/search
+ */
+public interface PlayerSearchHit {
+
+    UUID getUserId();
+
+    String getDisplayName();
+
+    String getEmail();
+
+    Long getCharacterCount();
+
+    Boolean getPrefixMatch();
+
+    Double getScore();
+}
@@ -0,0 +1,27 @@
+package com.mugen.backend.dto.character;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * DTO para buscar vários personagens de uma vez
+ * POST /characters/batch
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CharacterBatchRequest {
+
+    @NotEmpty(message = "Informe ao menos um id")
+    @Size(max = 50, message = "Máximo 50 personagens por requisição")
+    private List<@NotNull UUID> ids;
+}
@@ -0,0 +1,11 @@
+package com.mugen.backend.dto.character;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Resultado de POST /characters/batch
+ * characters vem na ordem da requisição; missing = não existe; forbidden = existe, mas não é do usuário
+ */
+public record CharacterBatchResponse(List<CharacterDetailView> characters, List<UUID> missing, List<UUID> forbidden) {
+}
@@ -0,0 +1,30 @@
+package com.mugen.backend.dto.character;
+
+import com.mugen.backend.dto.achievement.CharacterAchievementDTO;
+import com.mugen.backend.dto.equipment.EquipmentStatsDTO;
+import com.mugen.backend.dto.inventory.InventoryInfoDTO;
+import com.mugen.backend.dto.tp.TPSummary;
+import com.mugen.backend.service.ExperienceService;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Tela do personagem numa única resposta: GET /characters/{id}/dashboard
+ * Seções que falharam ou estouraram o prazo vêm null, com o motivo em unavailable (seção → motivo)
+ */
+public record CharacterDashboard(
+        CharacterDetailView character,
+        ExperienceService.LevelProgress levelProgress,
+        CharacterStats stats,
+        InventoryInfoDTO inventory,
+        EquipmentStatsDTO equipment,
+        TPSummary tpSummary,
+        List<CharacterAchievementDTO> achievements,
+        Map<String, String> unavailable
+) {
+
+    public boolean isComplete() {
+        return unavailable.isEmpty();
+    }
+}
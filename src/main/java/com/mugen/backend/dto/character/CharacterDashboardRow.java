@@ -0,0 +1,26 @@
+package com.mugen.backend.dto.character;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+/**
+ * O que as seções do dashboard precisam do personagem, resolvido numa query antes do fan-out
+ * inventoryId é null quando o personagem não tem inventário
+ */
+public record CharacterDashboardRow(
+        UUID id,
+        Long inventoryId,
+        Integer str,
+        Integer dex,
+        Integer con,
+        Integer wil,
+        Integer mnd,
+        Integer spi,
+        BigDecimal raceModifier,
+        BigDecimal transformationMultiplier
+) {
+
+    public CharacterStatInput toStatInput() {
+        return new CharacterStatInput(id, str, dex, con, wil, mnd, spi, raceModifier, transformationMultiplier);
+    }
+}
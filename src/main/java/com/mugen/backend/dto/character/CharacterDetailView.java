@@ -0,0 +1,56 @@
+package com.mugen.backend.dto.character;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Projeção de detalhe do personagem
+ * Uma query para personagem + dono + raça + atributos + transformação ativa,
+ * e uma query para cada coleção (skills, transformações): 3 SQL, não importa o tamanho das coleções
+ */
+public record CharacterDetailView(
+        UUID id,
+        UUID ownerId,
+        String ownerDisplayName,
+        String name,
+        Integer raceId,
+        String raceName,
+        Integer level,
+        Long exp,
+        Integer tp,
+        Boolean isActive,
+        Integer activeTransformationId,
+        String activeTransformationName,
+        Integer str,
+        Integer dex,
+        Integer con,
+        Integer wil,
+        Integer mnd,
+        Integer spi,
+        LocalDateTime createdAt,
+        LocalDateTime updatedAt,
+        List<CharacterSkillView> skills,
+        List<CharacterTransformationView> transformations
+) {
+
+    /**
+     * Usado pela constructor expression da query (coleções vêm depois)
+     */
+    public CharacterDetailView(UUID id, UUID ownerId, String ownerDisplayName, String name,
+                               Integer raceId, String raceName, Integer level, Long exp, Integer tp,
+                               Boolean isActive, Integer activeTransformationId, String activeTransformationName,
+                               Integer str, Integer dex, Integer con, Integer wil, Integer mnd, Integer spi,
+                               LocalDateTime createdAt, LocalDateTime updatedAt) {
+        this(id, ownerId, ownerDisplayName, name, raceId, raceName, level, exp, tp, isActive,
+                activeTransformationId, activeTransformationName, str, dex, con, wil, mnd, spi,
+                createdAt, updatedAt, List.of(), List.of());
+    }
+
+    public CharacterDetailView withCollections(List<CharacterSkillView> skills,
+                                               List<CharacterTransformationView> transformations) {
+        return new CharacterDetailView(id, ownerId, ownerDisplayName, name, raceId, raceName, level, exp, tp,
+                isActive, activeTransformationId, activeTransformationName, str, dex, con, wil, mnd, spi,
+                createdAt, updatedAt, List.copyOf(skills), List.copyOf(transformations));
+    }
+}
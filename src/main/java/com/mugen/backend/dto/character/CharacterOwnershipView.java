@@ -0,0 +1,9 @@
+package com.mugen.backend.dto.character;
+
+import java.util.UUID;
+
+/**
+ * Projeção mínima (id do personagem → id do dono) usada para aquecer o índice de posse
+ */
+public record CharacterOwnershipView(UUID characterId, UUID ownerId) {
+}
@@ -0,0 +1,23 @@
+package com.mugen.backend.dto.character;
+
+import java.util.UUID;
+
+/**
+ * Resultado da busca de personagens por nome (projeção da query nativa)
+ * prefixMatch = nome começa com o termo; score = similaridade de trigramas (0..1)
+ * Sem o dono: qualquer usuário autenticado busca, e o id do dono não deve vazar
+ */
+public interface CharacterSearchHit {
+
+    UUID getId();
+
+    String getName();
+
+    String getRaceName();
+
+    Integer getLevel();
+
+    Boolean getPrefixMatch();
+
+    Double getScore();
+}
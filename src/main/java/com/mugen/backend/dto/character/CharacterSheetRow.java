@@ -0,0 +1,39 @@
+package com.mugen.backend.dto.character;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+/**
+ * Tudo que a ficha efetiva precisa, numa linha: personagem + raça + atributos
+ * + transformação ativa + arma e armadura equipadas (bônus)
+ * Campos de transformação/arma/armadura vêm null quando não há
+ */
+public record CharacterSheetRow(
+        UUID characterId,
+        Integer raceId,
+        String raceName,
+        BigDecimal raceModifier,
+        Integer str,
+        Integer dex,
+        Integer con,
+        Integer wil,
+        Integer mnd,
+        Integer spi,
+        Integer transformationId,
+        String transformationName,
+        BigDecimal transformationMultiplier,
+        Integer weaponId,
+        String weaponName,
+        Integer weaponStrBonus,
+        Integer weaponDexBonus,
+        Integer weaponConBonus,
+        Integer weaponWilBonus,
+        Integer weaponMndBonus,
+        Integer weaponSpiBonus,
+        Integer armorId,
+        String armorName,
+        Integer armorStrBonus,
+        Integer armorDexBonus,
+        Integer armorConBonus
+) {
+}
@@ -0,0 +1,15 @@
+package com.mugen.backend.dto.character;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Skill com o id do personagem, para carregar as skills de vários personagens numa query
+ */
+public record CharacterSkillRow(UUID characterId, Integer skillId, String name, Integer currentLevel,
+                                LocalDateTime learnedAt) {
+
+    public CharacterSkillView toView() {
+        return new CharacterSkillView(skillId, name, currentLevel, learnedAt);
+    }
+}
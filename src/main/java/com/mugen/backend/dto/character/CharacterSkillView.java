@@ -0,0 +1,9 @@
+package com.mugen.backend.dto.character;
+
+import java.time.LocalDateTime;
+
+/**
+ * Skill aprendida, como exibida no detalhe do personagem
+ */
+public record CharacterSkillView(Integer skillId, String name, Integer currentLevel, LocalDateTime learnedAt) {
+}
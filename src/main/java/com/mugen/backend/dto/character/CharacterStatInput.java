@@ -0,0 +1,21 @@
+package com.mugen.backend.dto.character;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+/**
+ * Entrada do cálculo de stats sem carregar entidades: atributos + modificadores
+ * transformationMultiplier é null quando não há transformação ativa
+ */
+public record CharacterStatInput(
+        UUID id,
+        Integer str,
+        Integer dex,
+        Integer con,
+        Integer wil,
+        Integer mnd,
+        Integer spi,
+        BigDecimal raceModifier,
+        BigDecimal transformationMultiplier
+) {
+}
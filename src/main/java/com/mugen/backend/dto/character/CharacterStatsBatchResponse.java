@@ -0,0 +1,12 @@
+package com.mugen.backend.dto.character;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Resultado de POST /characters/stats/batch
+ * stats vem na ordem da requisição; missing = não existe; forbidden = existe, mas não é do usuário
+ */
+public record CharacterStatsBatchResponse(Map<UUID, CharacterStats> stats, List<UUID> missing, List<UUID> forbidden) {
+}
@@ -0,0 +1,22 @@
+package com.mugen.backend.dto.character;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Projeção de listagem: só as colunas exibidas em listas de personagens
+ * Preenchida direto pela query (sem entidade, sem lazy loading na serialização)
+ */
+public record CharacterSummaryView(
+        UUID id,
+        UUID ownerId,
+        String name,
+        Integer raceId,
+        String raceName,
+        Integer level,
+        Long exp,
+        Integer tp,
+        Boolean isActive,
+        LocalDateTime createdAt
+) {
+}
@@ -0,0 +1,15 @@
+package com.mugen.backend.dto.character;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Transformação com o id do personagem, para carregar as de vários personagens numa query
+ */
+public record CharacterTransformationRow(UUID characterId, Integer transformationId, String name, Boolean unlocked,
+                                         LocalDateTime unlockedAt) {
+
+    public CharacterTransformationView toView() {
+        return new CharacterTransformationView(transformationId, name, unlocked, unlockedAt);
+    }
+}
@@ -0,0 +1,10 @@
+package com.mugen.backend.dto.character;
+
+import java.time.LocalDateTime;
+
+/**
+ * Transformação do personagem, como exibida no detalhe
+ */
+public record CharacterTransformationView(Integer transformationId, String name, Boolean unlocked,
+                                          LocalDateTime unlockedAt) {
+}
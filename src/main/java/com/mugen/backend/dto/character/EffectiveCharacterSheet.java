@@ -0,0 +1,44 @@
+package com.mugen.backend.dto.character;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+/**
+ * Ficha efetiva do personagem: GET /characters/{id}/sheet
+ * Pipeline: atributos-base → + bônus de equipamento → modificador da raça
+ * → multiplicador da transformação → stats derivados
+ */
+public record EffectiveCharacterSheet(
+        UUID characterId,
+        Integer raceId,
+        String raceName,
+        BigDecimal raceModifier,
+        Integer transformationId,
+        String transformationName,
+        BigDecimal transformationMultiplier,
+        Integer weaponId,
+        String weaponName,
+        Integer armorId,
+        String armorName,
+        Attributes base,
+        Attributes equipmentBonus,
+        Attributes effective,
+        DerivedStats stats
+) {
+
+    public record Attributes(int str, int dex, int con, int wil, int mnd, int spi) {
+    }
+
+    public record DerivedStats(
+            double meleeDamage,
+            double kiPower,
+            double speed,
+            double physicalDefense,
+            double kiDefense,
+            double mentalDefense,
+            int maxHp,
+            int maxKi,
+            double actionTime
+    ) {
+    }
+}
@@ -0,0 +1,21 @@
+package com.mugen.backend.dto.character;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class UpdateStatFormulaDTO {
+
+    @NotBlank(message = "Expression is required")
+    @Size(max = 500, message = "Expression must have at most 500 characters")
+    private String expression;
+
+    private String description;
+}
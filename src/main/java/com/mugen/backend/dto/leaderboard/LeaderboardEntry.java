@@ -0,0 +1,16 @@
+package com.mugen.backend.dto.leaderboard;
+
+import java.util.Comparator;
+import java.util.UUID;
+
+/**
+ * Personagem como visto pelo leaderboard
+ * Ordem: level DESC, exp DESC, id ASC (id desempata para a chave ser única)
+ */
+public record LeaderboardEntry(UUID characterId, String name, Integer raceId, Integer level, Long exp) {
+
+    public static final Comparator<LeaderboardEntry> RANKING = Comparator
+            .comparing(LeaderboardEntry::level, Comparator.reverseOrder())
+            .thenComparing(LeaderboardEntry::exp, Comparator.reverseOrder())
+            .thenComparing(LeaderboardEntry::characterId);
+}
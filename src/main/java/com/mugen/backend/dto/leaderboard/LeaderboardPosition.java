@@ -0,0 +1,14 @@
+package com.mugen.backend.dto.leaderboard;
+
+import java.util.UUID;
+
+/**
+ * Linha do leaderboard com a posição (1 = primeiro)
+ */
+public record LeaderboardPosition(int rank, UUID characterId, String name, Integer raceId, Integer level, Long exp) {
+
+    public static LeaderboardPosition of(int rank, LeaderboardEntry entry) {
+        return new LeaderboardPosition(rank, entry.characterId(), entry.name(), entry.raceId(),
+                entry.level(), entry.exp());
+    }
+}
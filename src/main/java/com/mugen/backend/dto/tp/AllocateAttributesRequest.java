@@ -0,0 +1,32 @@
+package com.mugen.backend.dto.tp;
+
+import jakarta.validation.constraints.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+
+/**
+ * DTO para alocar pontos em vários atributos numa transação só
+ * POST /characters/{id}/allocate-attributes
+ * Ex: {"points": {"STR": 5, "CON": 3}, "quoteOnly": true}
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AllocateAttributesRequest {
+
+    @NotEmpty(message = "Informe ao menos um atributo")
+    private Map<
+            @Pattern(regexp = "^(STR|DEX|CON|WIL|MND|SPI)$",
+                    message = "Atributo inválido. Válidos: STR, DEX, CON, WIL, MND, SPI") String,
+            @NotNull(message = "Pontos é obrigatório")
+            @Min(value = 1, message = "Mínimo 1 ponto")
+            @Max(value = 120, message = "Máximo 120 pontos por atributo") Integer> points;
+
+    // true = só calcula o custo, sem gastar TP
+    private boolean quoteOnly;
+}
@@ -0,0 +1,22 @@
+package com.mugen.backend.dto.tp;
+
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Orçamento (ou resultado) de uma alocação em vários atributos
+ * applied = false: só cotação; remainingTP é o saldo que sobraria
+ */
+public record AttributeAllocation(
+        UUID characterId,
+        Map<String, Line> attributes,
+        int totalCost,
+        int currentTP,
+        int remainingTP,
+        boolean affordable,
+        boolean applied
+) {
+
+    public record Line(int from, int to, int points, int cost) {
+    }
+}
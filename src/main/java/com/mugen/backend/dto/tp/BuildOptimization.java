@@ -0,0 +1,25 @@
+package com.mugen.backend.dto.tp;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Resultado do otimizador de build (nada é alocado)
+ * allocation: pontos a somar por atributo; statGains: variação de cada stat derivado
+ * score: soma ponderada dos ganhos (pesos do request)
+ * exact: false quando algum stat com peso lê mais de um atributo (listados em approximatedStats);
+ * nesse caso a distribuição é uma aproximação, não necessariamente a melhor
+ */
+public record BuildOptimization(
+        UUID characterId,
+        int budget,
+        int tpCost,
+        Map<String, Integer> allocation,
+        Map<String, Integer> resultingAttributes,
+        Map<String, Double> statGains,
+        double score,
+        boolean exact,
+        List<String> approximatedStats
+) {
+}
@@ -0,0 +1,31 @@
+package com.mugen.backend.dto.tp;
+
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+
+/**
+ * DTO do otimizador de build
+ * POST /characters/{id}/optimize-build
+ * weights: peso por stat derivado (melee_damage, ki_power, speed, physical_defense, ki_defense,
+ * mental_defense, max_hp, max_ki, action_time; camelCase também é aceito)
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class OptimizeBuildRequest {
+
+    @NotNull(message = "Orçamento de TP é obrigatório")
+    @Min(value = 1, message = "Mínimo 1 TP")
+    private Integer budget;
+
+    @NotEmpty(message = "Informe ao menos um peso")
+    private Map<String, Double> weights;
+}
@@ -0,0 +1,38 @@
+package com.mugen.backend.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.annotations.UpdateTimestamp;
+import org.hibernate.type.SqlTypes;
+
+import java.time.Instant;
+
+/**
+ * Configuração global (tabela config): chave → valor JSON
+ * Ex.: max_attribute_value, starting_tp, stat_formula.*
+ */
+@Entity
+@Table(name = "config")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ConfigEntry {
+
+    @Id
+    @Column(name = "`key`", length = 120)
+    private String key;
+
+    @Column(name = "value_json", nullable = false, columnDefinition = "jsonb")
+    @JdbcTypeCode(SqlTypes.JSON)
+    private String valueJson;
+
+    @Column(columnDefinition = "TEXT")
+    private String description;
+
+    @UpdateTimestamp
+    @Column(name = "updated_at")
+    private Instant updatedAt;
+}
@@ -3,7 +3,10 @@ package com.mugen.backend.entity;
 import com.mugen.backend.entity.character.Character;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
 
+import java.util.Map;
 import java.util.UUID;
 
 @Entity
@@ -38,6 +41,10 @@ public class TPTransaction extends BaseEntity {
     @Column(name = "created_by")
     private UUID createdBy; // ID do usuário que criou (mestre ou sistema)
 
+    @Column(columnDefinition = "jsonb")
+    @JdbcTypeCode(SqlTypes.JSON)
+    private Map<String, Object> metadata; // Ex: detalhamento por atributo de uma alocação múltipla
+
     // Métodos auxiliares
     public boolean isEarned() {
         return amount != null && amount > 0;
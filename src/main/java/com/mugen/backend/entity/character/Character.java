@@ -5,6 +5,7 @@ import com.mugen.backend.entity.BaseEntity;
 import com.mugen.backend.entity.Race;
 import com.mugen.backend.entity.Transformation;
 import com.mugen.backend.entity.User;
+import com.mugen.backend.entity.id.GeneratedUuid7;
 import com.mugen.backend.entity.inventory.Inventory;
 import jakarta.persistence.*;
 import lombok.*;
@@ -23,7 +24,7 @@ import java.util.UUID;
 public class Character extends BaseEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.AUTO)
+    @GeneratedUuid7
     @Column(name = "id", columnDefinition = "UUID")
     private UUID id;
 
@@ -59,6 +60,11 @@ public class Character extends BaseEntity {
     @Builder.Default
     private Boolean isActive = true;
 
+    // Concorrência otimista: UPDATE ... WHERE version = ? (ver V8)
+    @Version
+    @Column(name = "version", nullable = false)
+    private Long version;
+
     // ✅ CORRIGIDO: Adicionado @JsonIgnoreProperties para evitar recursão infinita
     @OneToOne(mappedBy = "character", cascade = CascadeType.ALL, orphanRemoval = true)
     @JsonIgnoreProperties({"character"})
@@ -51,6 +51,11 @@ public class CharacterAttribute extends BaseEntity {
     @Builder.Default
     private Integer spi = 0;
 
+    // Concorrência otimista: UPDATE ... WHERE version = ? (ver V8)
+    @Version
+    @Column(name = "version", nullable = false)
+    private Long version;
+
     // Validation
     public boolean isValidAttributeValue(Integer value) {
         return value >= 0 && value <= 120;
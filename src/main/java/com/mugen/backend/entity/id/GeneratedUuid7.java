@@ -0,0 +1,17 @@
+package com.mugen.backend.entity.id;
+
+import org.hibernate.annotations.IdGeneratorType;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Chave primária UUIDv7 gerada pela aplicação (substitui @GeneratedValue)
+ */
+@IdGeneratorType(Uuid7Generator.class)
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.FIELD, ElementType.METHOD})
+public @interface GeneratedUuid7 {
+}
@@ -47,6 +47,11 @@ public class Inventory {
     @Column(name = "total_value", columnDefinition = "BIGINT DEFAULT 0")
     private Long totalValue;        // Valor total em TP dos items
 
+    // Concorrência otimista: UPDATE ... WHERE version = ? (ver V8)
+    @Version
+    @Column(name = "version", nullable = false)
+    private Long version;
+
     // ==================== RELACIONAMENTOS COM ITEMS ====================
     
     @OneToMany(mappedBy = "inventory", cascade = CascadeType.ALL, orphanRemoval = true)
@@ -1,6 +1,8 @@
 package com.mugen.backend.exception;
 
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.AccessDeniedException;
@@ -273,7 +275,54 @@ public class GlobalExceptionHandler {
         );
     }
 
-    // ==================== 7️⃣ GENERIC EXCEPTIONS ====================
+    // ==================== 7️⃣ CAPACITY EXCEPTIONS ====================
+
+    /**
+     * 503 - Recurso saturado (ex: fila de hashing de senha cheia)
+     */
+    @ExceptionHandler(ServiceOverloadedException.class)
+    public ResponseEntity<ErrorResponse> handleServiceOverloaded(
+            ServiceOverloadedException ex, WebRequest request) {
+        log.warn("❌ Service overloaded: {}", ex.getMessage());
+        return withRetryAfter(buildErrorResponse(
+                HttpStatus.SERVICE_UNAVAILABLE,
+                "SERVICE_OVERLOADED",
+                ex.getMessage(),
+                request
+        ), ex.getRetryAfterSeconds());
+    }
+
+    /**
+     * 429 - Email ou IP em cooldown após muitas falhas de login
+     */
+    @ExceptionHandler(TooManyLoginAttemptsException.class)
+    public ResponseEntity<ErrorResponse> handleTooManyLoginAttempts(
+            TooManyLoginAttemptsException ex, WebRequest request) {
+        log.warn("❌ Login throttled: {}", ex.getMessage());
+        return withRetryAfter(buildErrorResponse(
+                HttpStatus.TOO_MANY_REQUESTS,
+                "TOO_MANY_LOGIN_ATTEMPTS",
+                ex.getMessage(),
+                request
+        ), ex.getRetryAfterSeconds());
+    }
+
+    /**
+     * 409 - Escrita concorrente no mesmo personagem; retries automáticos esgotados
+     */
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    public ResponseEntity<ErrorResponse> handleOptimisticLockingFailure(
+            OptimisticLockingFailureException ex, WebRequest request) {
+        log.warn("❌ Concurrent modification: {}", ex.getMessage());
+        return withRetryAfter(buildErrorResponse(
+                HttpStatus.CONFLICT,
+                "CONCURRENT_MODIFICATION",
+                "Resource was modified concurrently. Please retry.",
+                request
+        ), 1);
+    }
+
+    // ==================== 8️⃣ GENERIC EXCEPTIONS ====================
 
     /**
      * 500 - Erro inesperado (catch-all)
@@ -312,6 +361,15 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(status).body(response);
     }
 
+    /**
+     * Adiciona o header Retry-After (em segundos) à resposta de erro
+     */
+    private ResponseEntity<ErrorResponse> withRetryAfter(ResponseEntity<ErrorResponse> response, long retryAfterSeconds) {
+        return ResponseEntity.status(response.getStatusCode())
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds))
+                .body(response.getBody());
+    }
+
     /**
      * ✅ Extrai o path da requisição
      */
@@ -0,0 +1,19 @@
+package com.mugen.backend.exception;
+
+/**
+ * Lançada quando um recurso limitado (ex: fila de hashing) está saturado
+ * Mapeada para 503 com header Retry-After
+ */
+public class ServiceOverloadedException extends RuntimeException {
+
+    private final long retryAfterSeconds;
+
+    public ServiceOverloadedException(String message, long retryAfterSeconds) {
+        super(message);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+}
@@ -0,0 +1,19 @@
+package com.mugen.backend.exception;
+
+/**
+ * Lançada quando um email ou IP excedeu as tentativas de login da janela
+ * Mapeada para 429 com header Retry-After
+ */
+public class TooManyLoginAttemptsException extends RuntimeException {
+
+    private final long retryAfterSeconds;
+
+    public TooManyLoginAttemptsException(long retryAfterSeconds) {
+        super("Too many login attempts. Try again in " + retryAfterSeconds + "s");
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+}
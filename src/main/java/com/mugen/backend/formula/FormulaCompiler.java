@@ -0,0 +1,197 @@
+package com.mugen.backend.formula;
+
+import com.mugen.backend.formula.FormulaParser.Binary;
+import com.mugen.backend.formula.FormulaParser.Call;
+import com.mugen.backend.formula.FormulaParser.Neg;
+import com.mugen.backend.formula.FormulaParser.Node;
+import com.mugen.backend.formula.FormulaParser.Num;
+import com.mugen.backend.formula.FormulaParser.Var;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.Collections;
+
+/**
+ * Compila a árvore do parser num MethodHandle do tipo (str, dex, con, wil, mnd, spi, race, transform) → double
+ *
+ * Cada nó vira um combinador de java.lang.invoke; subárvores sem variáveis são dobradas em constante.
+ * Quando o handle final é constante para o JIT (ver StatFormulas), ele é inlinado como código escrito à mão.
+ */
+public final class FormulaCompiler {
+
+    public static final MethodType FORMULA_TYPE =
+            MethodType.methodType(double.class, Collections.nCopies(FormulaParser.VARIABLES.size(), double.class));
+
+    private static final MethodType BINARY_TYPE = MethodType.methodType(double.class, double.class, double.class);
+    private static final MethodType UNARY_TYPE = MethodType.methodType(double.class, double.class);
+
+    private static final MethodHandle ADD;
+    private static final MethodHandle SUB;
+    private static final MethodHandle MUL;
+    private static final MethodHandle DIV;
+    private static final MethodHandle NEG;
+    private static final MethodHandle POW;
+    private static final MethodHandle MIN;
+    private static final MethodHandle MAX;
+    private static final MethodHandle FLOOR;
+    private static final MethodHandle SQRT;
+
+    static {
+        try {
+            MethodHandles.Lookup lookup = MethodHandles.lookup();
+            ADD = lookup.findStatic(FormulaCompiler.class, "add", BINARY_TYPE);
+            SUB = lookup.findStatic(FormulaCompiler.class, "sub", BINARY_TYPE);
+            MUL = lookup.findStatic(FormulaCompiler.class, "mul", BINARY_TYPE);
+            DIV = lookup.findStatic(FormulaCompiler.class, "div", BINARY_TYPE);
+            NEG = lookup.findStatic(FormulaCompiler.class, "neg", UNARY_TYPE);
+            POW = lookup.findStatic(Math.class, "pow", BINARY_TYPE);
+            MIN = lookup.findStatic(Math.class, "min", BINARY_TYPE);
+            MAX = lookup.findStatic(Math.class, "max", BINARY_TYPE);
+            FLOOR = lookup.findStatic(Math.class, "floor", UNARY_TYPE);
+            SQRT = lookup.findStatic(Math.class, "sqrt", UNARY_TYPE);
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    private FormulaCompiler() {
+    }
+
+    public static MethodHandle compile(String expression) {
+        return compile(FormulaParser.parse(expression));
+    }
+
+    public static MethodHandle compile(Node node) {
+        Node folded = fold(node);
+        if (folded instanceof Num num) {
+            return MethodHandles.dropArguments(
+                    MethodHandles.constant(double.class, num.value()), 0, FORMULA_TYPE.parameterList());
+        }
+        if (folded instanceof Var variable) {
+            return MethodHandles.permuteArguments(MethodHandles.identity(double.class), FORMULA_TYPE, variable.index());
+        }
+        if (folded instanceof Neg neg) {
+            return MethodHandles.filterReturnValue(compile(neg.operand()), NEG);
+        }
+        if (folded instanceof Binary binary) {
+            return combine(operator(binary.operator()), compile(binary.left()), compile(binary.right()));
+        }
+        Call call = (Call) folded;
+        return switch (call.function()) {
+            case "min" -> combine(MIN, compile(call.arguments().get(0)), compile(call.arguments().get(1)));
+            case "max" -> combine(MAX, compile(call.arguments().get(0)), compile(call.arguments().get(1)));
+            case "floor" -> MethodHandles.filterReturnValue(compile(call.arguments().get(0)), FLOOR);
+            case "sqrt" -> MethodHandles.filterReturnValue(compile(call.arguments().get(0)), SQRT);
+            default -> throw new IllegalArgumentException("Unknown function '" + call.function() + "'");
+        };
+    }
+
+    /**
+     * Interpretador de referência (sem compilação); usado na dobra de constantes e em testes
+     */
+    public static double evaluate(Node node, double[] variables) {
+        if (node instanceof Num num) {
+            return num.value();
+        }
+        if (node instanceof Var variable) {
+            return variables[variable.index()];
+        }
+        if (node instanceof Neg neg) {
+            return -evaluate(neg.operand(), variables);
+        }
+        if (node instanceof Binary binary) {
+            double left = evaluate(binary.left(), variables);
+            double right = evaluate(binary.right(), variables);
+            return switch (binary.operator()) {
+                case '+' -> left + right;
+                case '-' -> left - right;
+                case '*' -> left * right;
+                case '/' -> left / right;
+                case '^' -> Math.pow(left, right);
+                default -> throw new IllegalArgumentException("Unknown operator '" + binary.operator() + "'");
+            };
+        }
+        Call call = (Call) node;
+        double first = evaluate(call.arguments().get(0), variables);
+        return switch (call.function()) {
+            case "min" -> Math.min(first, evaluate(call.arguments().get(1), variables));
+            case "max" -> Math.max(first, evaluate(call.arguments().get(1), variables));
+            case "floor" -> Math.floor(first);
+            case "sqrt" -> Math.sqrt(first);
+            default -> throw new IllegalArgumentException("Unknown function '" + call.function() + "'");
+        };
+    }
+
+    // ==================== MÉTODOS AUXILIARES ====================
+
+    /**
+     * f(x) = op(left(x), right(x)): os dois lados recebem as mesmas 8 variáveis
+     */
+    private static MethodHandle combine(MethodHandle operator, MethodHandle left, MethodHandle right) {
+        int arity = FORMULA_TYPE.parameterCount();
+        MethodHandle spread = MethodHandles.collectArguments(operator, 0, left);   // (8 vars, right) → double
+        spread = MethodHandles.collectArguments(spread, arity, right);            // (8 vars, 8 vars) → double
+
+        int[] reorder = new int[arity * 2];
+        for (int i = 0; i < arity; i++) {
+            reorder[i] = i;
+            reorder[arity + i] = i;
+        }
+        return MethodHandles.permuteArguments(spread, FORMULA_TYPE, reorder);
+    }
+
+    private static Node fold(Node node) {
+        if (node instanceof Num || node instanceof Var) {
+            return node;
+        }
+        return hasVariables(node) ? node : new Num(evaluate(node, null));
+    }
+
+    private static boolean hasVariables(Node node) {
+        if (node instanceof Var) {
+            return true;
+        }
+        if (node instanceof Num) {
+            return false;
+        }
+        if (node instanceof Neg neg) {
+            return hasVariables(neg.operand());
+        }
+        if (node instanceof Binary binary) {
+            return hasVariables(binary.left()) || hasVariables(binary.right());
+        }
+        return ((Call) node).arguments().stream().anyMatch(FormulaCompiler::hasVariables);
+    }
+
+    private static MethodHandle operator(char operator) {
+        return switch (operator) {
+            case '+' -> ADD;
+            case '-' -> SUB;
+            case '*' -> MUL;
+            case '/' -> DIV;
+            case '^' -> POW;
+            default -> throw new IllegalArgumentException("Unknown operator '" + operator + "'");
+        };
+    }
+
+    private static double add(double a, double b) {
+        return a + b;
+    }
+
+    private static double sub(double a, double b) {
+        return a - b;
+    }
+
+    private static double mul(double a, double b) {
+        return a * b;
+    }
+
+    private static double div(double a, double b) {
+        return a / b;
+    }
+
+    private static double neg(double a) {
+        return -a;
+    }
+}
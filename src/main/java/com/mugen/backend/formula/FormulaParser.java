@@ -0,0 +1,226 @@
+package com.mugen.backend.formula;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Parser de fórmulas de stats (descida recursiva)
+ *
+ * Gramática:
+ *   expr    := term (('+' | '-') term)*
+ *   term    := unary (('*' | '/') unary)*
+ *   unary   := '-' unary | power
+ *   power   := primary ('^' unary)?
+ *   primary := número | variável | função '(' expr (',' expr)* ')' | '(' expr ')'
+ *
+ * Variáveis: str, dex, con, wil, mnd, spi, race (modificador da raça), transform (multiplicador).
+ * Funções: min(a, b), max(a, b), floor(a), sqrt(a). Erros viram IllegalArgumentException (400).
+ */
+public final class FormulaParser {
+
+    public static final List<String> VARIABLES = List.of("str", "dex", "con", "wil", "mnd", "spi", "race", "transform");
+    public static final int MAX_LENGTH = 500;
+    private static final int MAX_DEPTH = 64;
+
+    public sealed interface Node permits Num, Var, Neg, Binary, Call {
+    }
+
+    public record Num(double value) implements Node {
+    }
+
+    /**
+     * index = posição em VARIABLES
+     */
+    public record Var(int index) implements Node {
+    }
+
+    public record Neg(Node operand) implements Node {
+    }
+
+    public record Binary(char operator, Node left, Node right) implements Node {
+    }
+
+    public record Call(String function, List<Node> arguments) implements Node {
+    }
+
+    private final String input;
+    private int pos;
+    private int depth;
+
+    private FormulaParser(String input) {
+        this.input = input;
+    }
+
+    public static Node parse(String expression) {
+        if (expression == null || expression.isBlank()) {
+            throw new IllegalArgumentException("Formula must not be empty");
+        }
+        if (expression.length() > MAX_LENGTH) {
+            throw new IllegalArgumentException("Formula must have at most " + MAX_LENGTH + " characters");
+        }
+
+        FormulaParser parser = new FormulaParser(expression);
+        Node node = parser.expression();
+        parser.skipSpaces();
+        if (parser.pos < parser.input.length()) {
+            throw parser.error("Unexpected '" + parser.input.charAt(parser.pos) + "'");
+        }
+        return node;
+    }
+
+    // ==================== GRAMÁTICA ====================
+
+    private Node expression() {
+        enter();
+        Node node = term();
+        while (true) {
+            char c = peek();
+            if (c == '+' || c == '-') {
+                pos++;
+                node = new Binary(c, node, term());
+            } else {
+                leave();
+                return node;
+            }
+        }
+    }
+
+    private Node term() {
+        Node node = unary();
+        while (true) {
+            char c = peek();
+            if (c == '*' || c == '/') {
+                pos++;
+                node = new Binary(c, node, unary());
+            } else {
+                return node;
+            }
+        }
+    }
+
+    private Node unary() {
+        if (peek() == '-') {
+            pos++;
+            enter();
+            Node operand = unary();
+            leave();
+            return new Neg(operand);
+        }
+        return power();
+    }
+
+    private Node power() {
+        Node base = primary();
+        if (peek() == '^') {
+            pos++;
+            // Associativo à direita: 2^3^2 = 2^(3^2)
+            return new Binary('^', base, unary());
+        }
+        return base;
+    }
+
+    private Node primary() {
+        char c = peek();
+        if (c == '(') {
+            pos++;
+            Node inner = expression();
+            expect(')');
+            return inner;
+        }
+        if (Character.isDigit(c) || c == '.') {
+            return number();
+        }
+        if (Character.isLetter(c)) {
+            return identifier();
+        }
+        throw error(c == 0 ? "Unexpected end of formula" : "Unexpected '" + c + "'");
+    }
+
+    private Node number() {
+        int start = pos;
+        while (pos < input.length() && (Character.isDigit(input.charAt(pos)) || input.charAt(pos) == '.')) {
+            pos++;
+        }
+        String literal = input.substring(start, pos);
+        try {
+            return new Num(Double.parseDouble(literal));
+        } catch (NumberFormatException e) {
+            throw error("Invalid number '" + literal + "'");
+        }
+    }
+
+    private Node identifier() {
+        int start = pos;
+        while (pos < input.length() && (Character.isLetterOrDigit(input.charAt(pos)) || input.charAt(pos) == '_')) {
+            pos++;
+        }
+        String name = input.substring(start, pos).toLowerCase(Locale.ROOT);
+
+        if (peek() == '(') {
+            pos++;
+            List<Node> arguments = new ArrayList<>();
+            arguments.add(expression());
+            while (peek() == ',') {
+                pos++;
+                arguments.add(expression());
+            }
+            expect(')');
+            checkArity(name, arguments.size(), start);
+            return new Call(name, List.copyOf(arguments));
+        }
+
+        int index = VARIABLES.indexOf(name);
+        if (index < 0) {
+            throw new IllegalArgumentException("Unknown variable '" + name + "' at position " + start
+                    + ". Valid variables are: " + String.join(", ", VARIABLES));
+        }
+        return new Var(index);
+    }
+
+    // ==================== MÉTODOS AUXILIARES ====================
+
+    private void checkArity(String function, int arguments, int at) {
+        int expected = switch (function) {
+            case "min", "max" -> 2;
+            case "floor", "sqrt" -> 1;
+            default -> throw new IllegalArgumentException("Unknown function '" + function + "' at position " + at);
+        };
+        if (arguments != expected) {
+            throw new IllegalArgumentException(String.format(
+                    "Function '%s' takes %d argument(s), got %d", function, expected, arguments));
+        }
+    }
+
+    private char peek() {
+        skipSpaces();
+        return pos < input.length() ? input.charAt(pos) : 0;
+    }
+
+    private void skipSpaces() {
+        while (pos < input.length() && Character.isWhitespace(input.charAt(pos))) {
+            pos++;
+        }
+    }
+
+    private void expect(char expected) {
+        if (peek() != expected) {
+            throw error("Expected '" + expected + "'");
+        }
+        pos++;
+    }
+
+    private void enter() {
+        if (++depth > MAX_DEPTH) {
+            throw error("Formula is nested too deeply");
+        }
+    }
+
+    private void leave() {
+        depth--;
+    }
+
+    private IllegalArgumentException error(String message) {
+        return new IllegalArgumentException(message + " at position " + pos + " in formula: " + input);
+    }
+}
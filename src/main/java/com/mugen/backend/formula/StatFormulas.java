@@ -0,0 +1,255 @@
+package com.mugen.backend.formula;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.invoke.MutableCallSite;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Fórmulas ativas dos stats derivados, compiladas num único kernel trocável em tempo de execução
+ *
+ * As 9 fórmulas viram um MethodHandle (double[] out, int offset, str, dex, con, wil, mnd, spi, race, transform)V
+ * instalado num MutableCallSite. O JIT trata o alvo como constante e inlina a árvore inteira; ao trocar
+ * as fórmulas (install) o call site é invalidado e o código é recompilado com o novo alvo.
+ * A troca é atômica: todas as fórmulas novas entram juntas ou nenhuma entra.
+ */
+@Slf4j
+public final class StatFormulas {
+
+    /**
+     * Ordem = índice do stat no vetor de saída (ver StatKernel)
+     */
+    public enum Stat {
+        MELEE_DAMAGE("melee_damage", "str * 2.5 * race * transform"),
+        KI_POWER("ki_power", "wil * 5.2 * race * transform"),
+        SPEED("speed", "100 + dex * transform"),
+        PHYSICAL_DEFENSE("physical_defense", "con * 1.8 * race"),
+        KI_DEFENSE("ki_defense", "spi * 2.0 * race"),
+        MENTAL_DEFENSE("mental_defense", "mnd * 1.5 * race"),
+        MAX_HP("max_hp", "con * 20"),
+        MAX_KI("max_ki", "spi * 40"),
+        ACTION_TIME("action_time", "con * 3.5");
+
+        private final String key;
+        private final String defaultExpression;
+
+        Stat(String key, String defaultExpression) {
+            this.key = key;
+            this.defaultExpression = defaultExpression;
+        }
+
+        public String key() {
+            return key;
+        }
+
+        public String defaultExpression() {
+            return defaultExpression;
+        }
+
+        public static Optional<Stat> fromKey(String key) {
+            return Arrays.stream(values()).filter(stat -> stat.key.equalsIgnoreCase(key)).findFirst();
+        }
+    }
+
+    public static final MethodType KERNEL_TYPE = MethodType.methodType(void.class, double[].class, int.class)
+            .appendParameterTypes(Collections.nCopies(FormulaParser.VARIABLES.size(), double.class));
+
+    private static final MutableCallSite SITE = new MutableCallSite(KERNEL_TYPE);
+    private static final MethodHandle KERNEL = SITE.dynamicInvoker();
+    private static final MethodHandle ARRAY_SETTER = MethodHandles.arrayElementSetter(double[].class);
+    private static final MethodHandle ADD_INT;
+
+    // Pontos de amostra da validação: faixa dos atributos (0..120) e modificadores reais
+    private static final double[] SAMPLE_ATTRIBUTES = {0, 1, 50, 120};
+    private static final double[] SAMPLE_RACE = {1.0, 1.3};
+    private static final double[] SAMPLE_TRANSFORM = {1.0, 10.0};
+
+    private static volatile Map<Stat, String> active = Map.of();
+    private static volatile Set<Stat> multiAttribute = Set.of();
+
+    static {
+        try {
+            ADD_INT = MethodHandles.lookup().findStatic(StatFormulas.class, "addInt",
+                    MethodType.methodType(int.class, int.class, int.class));
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+        install(Map.of());
+    }
+
+    private StatFormulas() {
+    }
+
+    /**
+     * Calcula os 9 stats em out[offset..] com as fórmulas ativas
+     */
+    public static void compute(double[] out, int offset,
+                               double str, double dex, double con, double wil, double mnd, double spi,
+                               double race, double transform) {
+        try {
+            KERNEL.invokeExact(out, offset, str, dex, con, wil, mnd, spi, race, transform);
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new IllegalStateException("Stat kernel failed", e);
+        }
+    }
+
+    /**
+     * Compila e instala as fórmulas; stats ausentes usam a expressão padrão
+     * Se qualquer fórmula for inválida nada é trocado (IllegalArgumentException)
+     */
+    public static synchronized void install(Map<Stat, String> expressions) {
+        Map<Stat, String> resolved = new EnumMap<>(Stat.class);
+        for (Stat stat : Stat.values()) {
+            resolved.put(stat, expressions.getOrDefault(stat, stat.defaultExpression()));
+        }
+        if (resolved.equals(active)) {
+            return;
+        }
+
+        // Compila tudo antes de tocar no call site
+        MethodHandle kernel = null;
+        Set<Stat> coupled = EnumSet.noneOf(Stat.class);
+        Stat[] stats = Stat.values();
+        for (int i = stats.length - 1; i >= 0; i--) {
+            FormulaParser.Node node = parse(stats[i], resolved.get(stats[i]));
+            MethodHandle step = step(stats[i], compile(stats[i], node));
+            kernel = kernel == null ? step : MethodHandles.foldArguments(kernel, step);
+            if (attributeCount(node) > 1) {
+                coupled.add(stats[i]);
+            }
+        }
+
+        SITE.setTarget(kernel);
+        MutableCallSite.syncAll(new MutableCallSite[]{SITE});
+        active = Collections.unmodifiableMap(resolved);
+        multiAttribute = Collections.unmodifiableSet(coupled);
+        log.info("Stat formulas installed: {}", active);
+    }
+
+    /**
+     * Só valida (parse, resultado finito nas amostras e compilação), sem instalar
+     */
+    public static void validate(Stat stat, String expression) {
+        compile(stat, parse(stat, expression));
+    }
+
+    public static Map<Stat, String> active() {
+        return active;
+    }
+
+    /**
+     * Stats cuja fórmula ativa lê mais de um atributo (ex: "str * 2 + dex")
+     * Race e transform não contam: são constantes para um personagem
+     */
+    public static Set<Stat> multiAttributeStats() {
+        return multiAttribute;
+    }
+
+    // ==================== MÉTODOS AUXILIARES ====================
+
+    private static FormulaParser.Node parse(Stat stat, String expression) {
+        try {
+            FormulaParser.Node node = FormulaParser.parse(expression);
+            requireFinite(node);
+            return node;
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid formula for " + stat.key() + ": " + e.getMessage(), e);
+        }
+    }
+
+    private static MethodHandle compile(Stat stat, FormulaParser.Node node) {
+        try {
+            return FormulaCompiler.compile(node);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid formula for " + stat.key() + ": " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Quantos atributos distintos (str..spi) a fórmula lê
+     */
+    private static int attributeCount(FormulaParser.Node node) {
+        BitSet variables = new BitSet();
+        collectVariables(node, variables);
+        return variables.get(0, FormulaParser.VARIABLES.indexOf("race")).cardinality();
+    }
+
+    private static void collectVariables(FormulaParser.Node node, BitSet variables) {
+        if (node instanceof FormulaParser.Var variable) {
+            variables.set(variable.index());
+        } else if (node instanceof FormulaParser.Neg neg) {
+            collectVariables(neg.operand(), variables);
+        } else if (node instanceof FormulaParser.Binary binary) {
+            collectVariables(binary.left(), variables);
+            collectVariables(binary.right(), variables);
+        } else if (node instanceof FormulaParser.Call call) {
+            call.arguments().forEach(argument -> collectVariables(argument, variables));
+        }
+    }
+
+    /**
+     * Rejeita fórmula que dá NaN/Infinity em algum ponto da grade de amostras (ex: 100 / str, sqrt(str - 200))
+     * Cada atributo varia de forma independente, então também pega combinações como sqrt(str - dex)
+     */
+    private static void requireFinite(FormulaParser.Node node) {
+        int attributes = FormulaParser.VARIABLES.size() - 2;
+        int samples = SAMPLE_ATTRIBUTES.length;
+        int combinations = (int) Math.pow(samples, attributes);
+        double[] variables = new double[FormulaParser.VARIABLES.size()];
+
+        for (int combination = 0; combination < combinations; combination++) {
+            int rest = combination;
+            for (int i = 0; i < attributes; i++) {
+                variables[i] = SAMPLE_ATTRIBUTES[rest % samples];
+                rest /= samples;
+            }
+            for (double race : SAMPLE_RACE) {
+                for (double transform : SAMPLE_TRANSFORM) {
+                    variables[attributes] = race;
+                    variables[attributes + 1] = transform;
+                    double result = FormulaCompiler.evaluate(node, variables);
+                    if (!Double.isFinite(result)) {
+                        throw new IllegalArgumentException("Formula yields " + result + " for "
+                                + describe(variables));
+                    }
+                }
+            }
+        }
+    }
+
+    private static String describe(double[] variables) {
+        StringBuilder description = new StringBuilder();
+        for (int i = 0; i < variables.length; i++) {
+            if (i > 0) {
+                description.append(", ");
+            }
+            description.append(FormulaParser.VARIABLES.get(i)).append('=').append(variables[i]);
+        }
+        return description.toString();
+    }
+
+    /**
+     * (out, offset, 8 vars) → out[offset + ordinal] = formula(8 vars)
+     */
+    private static MethodHandle step(Stat stat, MethodHandle formula) {
+        MethodHandle setter = MethodHandles.filterArguments(ARRAY_SETTER, 1,
+                MethodHandles.insertArguments(ADD_INT, 1, stat.ordinal()));
+        return MethodHandles.collectArguments(setter, 2, formula);
+    }
+
+    private static int addInt(int offset, int index) {
+        return offset + index;
+    }
+}
@@ -0,0 +1,266 @@
+package com.mugen.backend.leaderboard;
+
+import com.mugen.backend.dto.leaderboard.LeaderboardEntry;
+import com.mugen.backend.dto.leaderboard.LeaderboardPosition;
+import com.mugen.backend.entity.character.Character;
+import com.mugen.backend.exception.CharacterNotFoundException;
+import com.mugen.backend.repository.CharacterRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Stream;
+
+/**
+ * Leaderboards em memória (global e por raça) mantidos incrementalmente
+ *
+ * Reconstruído na inicialização com uma varredura em streaming; depois disso cada mudança
+ * de level/exp é aplicada após o commit da transação. Mudanças que chegam durante a varredura
+ * ficam num diário e são reaplicadas sobre a estrutura nova antes da troca. Top-N, posição e "ao redor de mim"
+ * custam O(log n) em vez de um ORDER BY sobre a tabela inteira.
+ * Só personagens ativos participam.
+ */
+@Service
+@Slf4j
+public class LeaderboardService {
+
+    public static final int MAX_TOP = 100;
+    public static final int MAX_RADIUS = 25;
+
+    private static final IndexedSkipList<LeaderboardEntry> EMPTY = newBoard();
+
+    private final CharacterRepository characterRepository;
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    // Protegidos pelo lock
+    private Map<UUID, LeaderboardEntry> entries = new HashMap<>();
+    private IndexedSkipList<LeaderboardEntry> global = newBoard();
+    private Map<Integer, IndexedSkipList<LeaderboardEntry>> byRace = new HashMap<>();
+    // Não nulo só durante rebuild(): última mudança por personagem (valor null = removido)
+    private Map<UUID, LeaderboardEntry> changesDuringRebuild;
+
+    public LeaderboardService(CharacterRepository characterRepository) {
+        this.characterRepository = characterRepository;
+    }
+
+    /**
+     * Varredura única em streaming (fetch size limitado), sem carregar entidades
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void rebuild() {
+        Map<UUID, LeaderboardEntry> freshEntries = new HashMap<>();
+        IndexedSkipList<LeaderboardEntry> freshGlobal = newBoard();
+        Map<Integer, IndexedSkipList<LeaderboardEntry>> freshByRace = new HashMap<>();
+
+        // Diário aberto antes da query: o que a varredura não enxergar é reaplicado na troca
+        Map<UUID, LeaderboardEntry> journal = new LinkedHashMap<>();
+        lock.writeLock().lock();
+        try {
+            changesDuringRebuild = journal;
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        try {
+            try (Stream<LeaderboardEntry> rows = characterRepository.streamLeaderboardEntries()) {
+                rows.forEach(entry -> attach(entry, freshEntries, freshGlobal, freshByRace));
+            }
+
+            lock.writeLock().lock();
+            try {
+                journal.forEach((characterId, entry) -> {
+                    detach(characterId, freshEntries, freshGlobal, freshByRace);
+                    if (entry != null) {
+                        attach(entry, freshEntries, freshGlobal, freshByRace);
+                    }
+                });
+                entries = freshEntries;
+                global = freshGlobal;
+                byRace = freshByRace;
+            } finally {
+                lock.writeLock().unlock();
+            }
+        } finally {
+            lock.writeLock().lock();
+            try {
+                changesDuringRebuild = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+        log.info("Leaderboard rebuilt with {} characters across {} races ({} changes replayed)",
+                freshEntries.size(), freshByRace.size(), journal.size());
+    }
+
+    /**
+     * Registra o estado atual do personagem; aplicado só após o commit (rollback não vaza para o ranking)
+     */
+    public void update(Character character) {
+        if (!Boolean.TRUE.equals(character.getIsActive())) {
+            remove(character.getId());
+            return;
+        }
+        LeaderboardEntry entry = new LeaderboardEntry(character.getId(), character.getName(),
+                character.getRace().getId(), character.getLevel(), character.getExp());
+        afterCommit(() -> apply(entry));
+    }
+
+    public void remove(UUID characterId) {
+        afterCommit(() -> {
+            lock.writeLock().lock();
+            try {
+                detach(characterId, entries, global, byRace);
+                record(characterId, null);
+            } finally {
+                lock.writeLock().unlock();
+            }
+        });
+    }
+
+    // ==================== CONSULTAS ====================
+
+    /**
+     * Top N global, ou de uma raça quando raceId != null
+     */
+    public List<LeaderboardPosition> top(Integer raceId, int limit) {
+        int count = Math.max(1, Math.min(limit, MAX_TOP));
+        lock.readLock().lock();
+        try {
+            return positions(board(raceId), 0, count);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public LeaderboardPosition rankOf(UUID characterId, boolean withinRace) {
+        lock.readLock().lock();
+        try {
+            LeaderboardEntry entry = entryOf(characterId);
+            IndexedSkipList<LeaderboardEntry> board = withinRace ? board(entry.raceId()) : global;
+            return LeaderboardPosition.of(board.indexOf(entry) + 1, entry);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Janela de radius posições acima e abaixo do personagem
+     */
+    public List<LeaderboardPosition> around(UUID characterId, boolean withinRace, int radius) {
+        int window = Math.max(0, Math.min(radius, MAX_RADIUS));
+        lock.readLock().lock();
+        try {
+            LeaderboardEntry entry = entryOf(characterId);
+            IndexedSkipList<LeaderboardEntry> board = withinRace ? board(entry.raceId()) : global;
+            int from = Math.max(0, board.indexOf(entry) - window);
+            return positions(board, from, 2 * window + 1);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return global.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // ==================== MÉTODOS AUXILIARES ====================
+
+    private void apply(LeaderboardEntry entry) {
+        lock.writeLock().lock();
+        try {
+            detach(entry.characterId(), entries, global, byRace);
+            attach(entry, entries, global, byRace);
+            record(entry.characterId(), entry);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Chamado com o write lock: guarda a mudança para o rebuild em andamento, se houver
+     */
+    private void record(UUID characterId, LeaderboardEntry entry) {
+        if (changesDuringRebuild != null) {
+            changesDuringRebuild.put(characterId, entry);
+        }
+    }
+
+    private static void attach(LeaderboardEntry entry, Map<UUID, LeaderboardEntry> entries,
+                               IndexedSkipList<LeaderboardEntry> global,
+                               Map<Integer, IndexedSkipList<LeaderboardEntry>> byRace) {
+        entries.put(entry.characterId(), entry);
+        global.add(entry);
+        byRace.computeIfAbsent(entry.raceId(), raceId -> newBoard()).add(entry);
+    }
+
+    private static void detach(UUID characterId, Map<UUID, LeaderboardEntry> entries,
+                               IndexedSkipList<LeaderboardEntry> global,
+                               Map<Integer, IndexedSkipList<LeaderboardEntry>> byRace) {
+        LeaderboardEntry previous = entries.remove(characterId);
+        if (previous != null) {
+            global.remove(previous);
+            IndexedSkipList<LeaderboardEntry> raceBoard = byRace.get(previous.raceId());
+            if (raceBoard != null) {
+                raceBoard.remove(previous);
+            }
+        }
+    }
+
+    private LeaderboardEntry entryOf(UUID characterId) {
+        LeaderboardEntry entry = entries.get(characterId);
+        if (entry == null) {
+            throw new CharacterNotFoundException(characterId);
+        }
+        return entry;
+    }
+
+    private IndexedSkipList<LeaderboardEntry> board(Integer raceId) {
+        if (raceId == null) {
+            return global;
+        }
+        return byRace.getOrDefault(raceId, EMPTY);
+    }
+
+    private static List<LeaderboardPosition> positions(IndexedSkipList<LeaderboardEntry> board, int from, int count) {
+        List<LeaderboardEntry> slice = board.range(from, count);
+        List<LeaderboardPosition> result = new ArrayList<>(slice.size());
+        for (int i = 0; i < slice.size(); i++) {
+            result.add(LeaderboardPosition.of(from + i + 1, slice.get(i)));
+        }
+        return result;
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+    private static IndexedSkipList<LeaderboardEntry> newBoard() {
+        return new IndexedSkipList<>(LeaderboardEntry.RANKING);
+    }
+}
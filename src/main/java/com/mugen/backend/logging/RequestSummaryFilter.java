@@ -0,0 +1,72 @@
+package com.mugen.backend.logging;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+
+/**
+ * Uma linha estruturada por requisição: método, rota, status, usuário, nº de SQL e latência
+ * Substitui os logs espalhados por chamada; requisições lentas ou 5xx saem em WARN (nunca amostradas)
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@Slf4j(topic = "com.mugen.backend.request")
+public class RequestSummaryFilter extends OncePerRequestFilter {
+
+    /**
+     * Atributo preenchido pelo JwtAuthenticationFilter (o SecurityContext já foi limpo quando o resumo é gerado)
+     */
+    public static final String USER_ATTRIBUTE = "mugen.userId";
+
+    private final boolean enabled;
+    private final long slowMs;
+
+    public RequestSummaryFilter(@Value("${logging.request-summary.enabled:true}") boolean enabled,
+                                @Value("${logging.request-summary.slow-ms:1000}") long slowMs) {
+        this.enabled = enabled;
+        this.slowMs = slowMs;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain)
+            throws ServletException, IOException {
+        if (!enabled) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        long start = System.nanoTime();
+        SqlStatementCounter.start();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            int sqlCount = SqlStatementCounter.stop();
+            long durationMs = (System.nanoTime() - start) / 1_000_000;
+            int status = response.getStatus();
+
+            Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+            String route = pattern != null ? pattern.toString() : request.getRequestURI();
+            Object user = request.getAttribute(USER_ATTRIBUTE);
+
+            if (status >= 500 || durationMs >= slowMs) {
+                log.warn("method={} route={} status={} user={} sql={} durationMs={}",
+                        request.getMethod(), route, status, user != null ? user : "-", sqlCount, durationMs);
+            } else if (log.isInfoEnabled()) {
+                log.info("method={} route={} status={} user={} sql={} durationMs={}",
+                        request.getMethod(), route, status, user != null ? user : "-", sqlCount, durationMs);
+            }
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package com.mugen.backend.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.turbo.TurboFilter;
+import ch.qos.logback.core.spi.FilterReply;
+import org.slf4j.Marker;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Amostragem por logger: mantém 1 de cada keepOneIn eventos até maxLevel
+ * Eventos acima de maxLevel (WARN/ERROR por padrão) sempre passam
+ *
+ * Configurado no logback-spring.xml, ex:
+ * logger=com.mugen.backend.controller, maxLevel=INFO, keepOneIn=20
+ */
+public class SamplingTurboFilter extends TurboFilter {
+
+    private final AtomicLong counter = new AtomicLong();
+    private String logger;
+    private Level maxLevel = Level.INFO;
+    private int keepOneIn = 10;
+
+    @Override
+    public FilterReply decide(Marker marker, Logger target, Level level, String format, Object[] params, Throwable t) {
+        // format nulo = checagem isXxxEnabled(): não conta nem nega
+        if (!isStarted() || format == null || level == null || level.toInt() > maxLevel.toInt()) {
+            return FilterReply.NEUTRAL;
+        }
+        if (!target.getName().startsWith(logger) || !level.isGreaterOrEqual(target.getEffectiveLevel())) {
+            return FilterReply.NEUTRAL;
+        }
+        return counter.getAndIncrement() % keepOneIn == 0 ? FilterReply.NEUTRAL : FilterReply.DENY;
+    }
+
+    @Override
+    public void start() {
+        if (logger == null || logger.isBlank()) {
+            addError("No logger configured for sampling filter " + getName());
+            return;
+        }
+        if (keepOneIn < 1) {
+            addError("keepOneIn must be >= 1 for sampling filter " + getName());
+            return;
+        }
+        super.start();
+    }
+
+    public void setLogger(String logger) {
+        this.logger = logger;
+    }
+
+    public void setMaxLevel(String maxLevel) {
+        this.maxLevel = Level.toLevel(maxLevel, Level.INFO);
+    }
+
+    public void setKeepOneIn(int keepOneIn) {
+        this.keepOneIn = keepOneIn;
+    }
+}
@@ -0,0 +1,55 @@
+package com.mugen.backend.logging;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Conta os SQL executados pela thread atual durante uma requisição
+ * Registrado via hibernate.session_factory.statement_inspector (instanciado pelo Hibernate)
+ */
+public class SqlStatementCounter implements StatementInspector {
+
+    private static final ThreadLocal<int[]> COUNT = new ThreadLocal<>();
+
+    @Override
+    public String inspect(String sql) {
+        int[] count = COUNT.get();
+        if (count != null) {
+            count[0]++;
+        }
+        return sql;
+    }
+
+    /**
+     * Começa a contar na thread atual
+     */
+    public static void start() {
+        COUNT.set(new int[1]);
+    }
+
+    /**
+     * Contador da thread atual (null se não está contando), para repassar a outra thread
+     * Usado quando a requisição delega trabalho a um executor e espera o resultado
+     */
+    public static int[] current() {
+        return COUNT.get();
+    }
+
+    public static void bind(int[] count) {
+        if (count != null) {
+            COUNT.set(count);
+        }
+    }
+
+    public static void unbind() {
+        COUNT.remove();
+    }
+
+    /**
+     * Para de contar e retorna o total da thread atual
+     */
+    public static int stop() {
+        int[] count = COUNT.get();
+        COUNT.remove();
+        return count != null ? count[0] : 0;
+    }
+}
@@ -1,16 +1,35 @@
 package com.mugen.backend.repository;
 
+import com.mugen.backend.dto.character.CharacterDashboardRow;
+import com.mugen.backend.dto.character.CharacterDetailView;
+import com.mugen.backend.dto.character.CharacterOwnershipView;
+import com.mugen.backend.dto.character.CharacterSearchHit;
+import com.mugen.backend.dto.character.CharacterSheetRow;
+import com.mugen.backend.dto.character.CharacterSkillRow;
+import com.mugen.backend.dto.character.CharacterSkillView;
+import com.mugen.backend.dto.character.CharacterStatInput;
+import com.mugen.backend.dto.character.CharacterSummaryView;
+import com.mugen.backend.dto.character.CharacterTransformationRow;
+import com.mugen.backend.dto.character.CharacterTransformationView;
+import com.mugen.backend.dto.leaderboard.LeaderboardEntry;
 import com.mugen.backend.entity.character.Character;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 @Repository
 public interface CharacterRepository extends JpaRepository<Character, UUID> {
@@ -79,14 +98,224 @@ public interface CharacterRepository extends JpaRepository<Character, UUID> {
     Optional<Character> findByIdWithFullDetails(@Param("id") UUID id);
 
     /**
-     * Listar todos os personagens com paginação carregando owner, race e attributes
+     * Só o que o cálculo de stats usa: raça, atributos e transformação ativa (sem coleções)
+     */
+    @Query("SELECT c FROM Character c " +
+            "JOIN FETCH c.race " +
+            "LEFT JOIN FETCH c.attributes " +
+            "LEFT JOIN FETCH c.activeTransformation " +
+            "WHERE c.id = :id")
+    Optional<Character> findByIdForStats(@Param("id") UUID id);
+
+    /**
+     * Entradas do cálculo de stats de vários personagens numa query, sem entidades
+     * Personagens sem atributos ficam de fora
+     */
+    @Query("SELECT new com.mugen.backend.dto.character.CharacterStatInput(" +
+            "c.id, a.str, a.dex, a.con, a.wil, a.mnd, a.spi, r.raceClassModifier, t.multiplier) " +
+            "FROM Character c " +
+            "JOIN c.race r " +
+            "JOIN c.attributes a " +
+            "LEFT JOIN c.activeTransformation t " +
+            "WHERE c.id IN :ids")
+    List<CharacterStatInput> findStatInputsByIdIn(@Param("ids") Collection<UUID> ids);
+
+    /**
+     * Contexto do dashboard (atributos, modificadores e inventário) numa query
+     */
+    @Query("SELECT new com.mugen.backend.dto.character.CharacterDashboardRow(" +
+            "c.id, i.id, a.str, a.dex, a.con, a.wil, a.mnd, a.spi, r.raceClassModifier, t.multiplier) " +
+            "FROM Character c " +
+            "JOIN c.race r " +
+            "JOIN c.attributes a " +
+            "LEFT JOIN c.inventory i " +
+            "LEFT JOIN c.activeTransformation t " +
+            "WHERE c.id = :id")
+    Optional<CharacterDashboardRow> findDashboardRowById(@Param("id") UUID id);
+
+    /**
+     * Plano de busca único da ficha efetiva (GET /characters/{id}/sheet)
+     * Personagem, raça, atributos, transformação ativa e bônus da arma/armadura equipadas numa query
+     */
+    @Query("SELECT new com.mugen.backend.dto.character.CharacterSheetRow(" +
+            "c.id, r.id, r.name, r.raceClassModifier, a.str, a.dex, a.con, a.wil, a.mnd, a.spi, " +
+            "t.id, t.name, t.multiplier, " +
+            "w.id, w.name, w.strBonus, w.dexBonus, w.conBonus, w.wilBonus, w.mndBonus, w.spiBonus, " +
+            "ar.id, ar.name, ar.strBonus, ar.dexBonus, ar.conBonus) " +
+            "FROM Character c " +
+            "JOIN c.race r " +
+            "JOIN c.attributes a " +
+            "LEFT JOIN c.activeTransformation t " +
+            "LEFT JOIN CharacterEquipment e ON e.characterId = c.id " +
+            "LEFT JOIN e.weapon w " +
+            "LEFT JOIN e.armor ar " +
+            "WHERE c.id = :id")
+    Optional<CharacterSheetRow> findSheetRowById(@Param("id") UUID id);
+
+    // ========================================
+    // PROJEÇÕES DE POSSE (sem carregar a entidade)
+    // ========================================
+
+    /**
+     * Todos os pares (personagem, dono) numa única consulta
+     * Usado para aquecer o CharacterOwnershipIndex na inicialização
+     */
+    @Query("SELECT new com.mugen.backend.dto.character.CharacterOwnershipView(c.id, c.owner.id) " +
+            "FROM Character c")
+    List<CharacterOwnershipView> findAllOwnerships();
+
+    /**
+     * Dono de um personagem (lê só a FK, sem join)
+     */
+    @Query("SELECT c.owner.id FROM Character c WHERE c.id = :id")
+    Optional<UUID> findOwnerIdById(@Param("id") UUID id);
+
+    // ========================================
+    // PROJEÇÕES DE LEITURA (DTOs direto da query, sem entidade)
+    // ========================================
+
+    /**
+     * Listagem paginada: só colunas exibidas; contagem sem joins
      * Usado no endpoint GET /characters
      */
-    @Query("SELECT DISTINCT c FROM Character c " +
-            "LEFT JOIN FETCH c.owner " +
-            "LEFT JOIN FETCH c.race " +
-            "LEFT JOIN FETCH c.attributes")
-    Page<Character> findAllWithDetails(Pageable pageable);
+    @Query(value = "SELECT new com.mugen.backend.dto.character.CharacterSummaryView(" +
+            "c.id, c.owner.id, c.name, r.id, r.name, c.level, c.exp, c.tp, c.isActive, c.createdAt) " +
+            "FROM Character c JOIN c.race r",
+            countQuery = "SELECT COUNT(c) FROM Character c")
+    Page<CharacterSummaryView> findAllSummaries(Pageable pageable);
+
+    /**
+     * Primeira página por cursor: mais recentes primeiro
+     * Usa o índice (created_at DESC, id DESC) da V6
+     */
+    @Query("SELECT new com.mugen.backend.dto.character.CharacterSummaryView(" +
+            "c.id, c.owner.id, c.name, r.id, r.name, c.level, c.exp, c.tp, c.isActive, c.createdAt) " +
+            "FROM Character c JOIN c.race r " +
+            "ORDER BY c.createdAt DESC, c.id DESC")
+    List<CharacterSummaryView> findSummariesFirstPage(Limit limit);
+
+    /**
+     * Página seguinte por cursor: seek a partir de (createdAt, id) sem OFFSET
+     * "createdAt <= :createdAt" delimita a varredura do índice; o OR desempata pelo id
+     */
+    @Query("SELECT new com.mugen.backend.dto.character.CharacterSummaryView(" +
+            "c.id, c.owner.id, c.name, r.id, r.name, c.level, c.exp, c.tp, c.isActive, c.createdAt) " +
+            "FROM Character c JOIN c.race r " +
+            "WHERE c.createdAt <= :createdAt " +
+            "AND (c.createdAt < :createdAt OR c.id < :id) " +
+            "ORDER BY c.createdAt DESC, c.id DESC")
+    List<CharacterSummaryView> findSummariesAfter(@Param("createdAt") LocalDateTime createdAt,
+                                                  @Param("id") UUID id,
+                                                  Limit limit);
+
+    /**
+     * Personagens de um usuário (resumo)
+     */
+    @Query("SELECT new com.mugen.backend.dto.character.CharacterSummaryView(" +
+            "c.id, c.owner.id, c.name, r.id, r.name, c.level, c.exp, c.tp, c.isActive, c.createdAt) " +
+            "FROM Character c JOIN c.race r " +
+            "WHERE c.owner.id = :ownerId " +
+            "ORDER BY c.createdAt")
+    List<CharacterSummaryView> findSummariesByOwnerId(@Param("ownerId") UUID ownerId);
+
+    /**
+     * Detalhe: personagem + dono + raça + atributos + transformação ativa numa única linha
+     */
+    @Query("SELECT new com.mugen.backend.dto.character.CharacterDetailView(" +
+            "c.id, o.id, o.displayName, c.name, r.id, r.name, c.level, c.exp, c.tp, c.isActive, " +
+            "t.id, t.name, a.str, a.dex, a.con, a.wil, a.mnd, a.spi, c.createdAt, c.updatedAt) " +
+            "FROM Character c " +
+            "JOIN c.owner o " +
+            "JOIN c.race r " +
+            "LEFT JOIN c.attributes a " +
+            "LEFT JOIN c.activeTransformation t " +
+            "WHERE c.id = :id")
+    Optional<CharacterDetailView> findDetailById(@Param("id") UUID id);
+
+    /**
+     * Skills do personagem (uma query, qualquer quantidade)
+     */
+    @Query("SELECT new com.mugen.backend.dto.character.CharacterSkillView(" +
+            "s.id, s.name, cs.currentLevel, cs.learnedAt) " +
+            "FROM CharacterSkill cs JOIN cs.skill s " +
+            "WHERE cs.character.id = :characterId " +
+            "ORDER BY s.name")
+    List<CharacterSkillView> findSkillViews(@Param("characterId") UUID characterId);
+
+    /**
+     * Transformações do personagem (uma query, qualquer quantidade)
+     */
+    @Query("SELECT new com.mugen.backend.dto.character.CharacterTransformationView(" +
+            "t.id, t.name, ct.unlocked, ct.unlockedAt) " +
+            "FROM CharacterTransformation ct JOIN ct.transformation t " +
+            "WHERE ct.character.id = :characterId " +
+            "ORDER BY t.requiredLevel, t.name")
+    List<CharacterTransformationView> findTransformationViews(@Param("characterId") UUID characterId);
+
+    /**
+     * Detalhe de vários personagens numa única query (POST /characters/batch)
+     */
+    @Query("SELECT new com.mugen.backend.dto.character.CharacterDetailView(" +
+            "c.id, o.id, o.displayName, c.name, r.id, r.name, c.level, c.exp, c.tp, c.isActive, " +
+            "t.id, t.name, a.str, a.dex, a.con, a.wil, a.mnd, a.spi, c.createdAt, c.updatedAt) " +
+            "FROM Character c " +
+            "JOIN c.owner o " +
+            "JOIN c.race r " +
+            "LEFT JOIN c.attributes a " +
+            "LEFT JOIN c.activeTransformation t " +
+            "WHERE c.id IN :ids")
+    List<CharacterDetailView> findDetailsByIdIn(@Param("ids") Collection<UUID> ids);
+
+    /**
+     * Skills de vários personagens numa única query
+     */
+    @Query("SELECT new com.mugen.backend.dto.character.CharacterSkillRow(" +
+            "cs.character.id, s.id, s.name, cs.currentLevel, cs.learnedAt) " +
+            "FROM CharacterSkill cs JOIN cs.skill s " +
+            "WHERE cs.character.id IN :characterIds " +
+            "ORDER BY s.name")
+    List<CharacterSkillRow> findSkillRowsByCharacterIds(@Param("characterIds") Collection<UUID> characterIds);
+
+    /**
+     * Transformações de vários personagens numa única query
+     */
+    @Query("SELECT new com.mugen.backend.dto.character.CharacterTransformationRow(" +
+            "ct.character.id, t.id, t.name, ct.unlocked, ct.unlockedAt) " +
+            "FROM CharacterTransformation ct JOIN ct.transformation t " +
+            "WHERE ct.character.id IN :characterIds " +
+            "ORDER BY t.requiredLevel, t.name")
+    List<CharacterTransformationRow> findTransformationRowsByCharacterIds(
+            @Param("characterIds") Collection<UUID> characterIds);
+
+    /**
+     * Varredura em streaming dos personagens ativos para reconstruir o LeaderboardService
+     * Precisa de transação aberta; o fetch size evita carregar o resultado inteiro no driver
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("SELECT new com.mugen.backend.dto.leaderboard.LeaderboardEntry(" +
+            "c.id, c.name, c.race.id, c.level, c.exp) " +
+            "FROM Character c WHERE c.isActive = true")
+    Stream<LeaderboardEntry> streamLeaderboardEntries();
+
+    // ========================================
+    // BUSCA POR NOME (pg_trgm, índice da V7)
+    // ========================================
+
+    /**
+     * Prefixo + similaridade sobre lower(name); prefixos primeiro, depois por similaridade
+     * Os dois predicados usam o índice GIN idx_character_name_trgm
+     */
+    @Query(value = "SELECT c.id AS id, c.name AS name, r.name AS \"raceName\", " +
+            "c.level AS level, (lower(c.name) LIKE :prefix) AS \"prefixMatch\", " +
+            "CAST(similarity(lower(c.name), :term) AS double precision) AS score " +
+            "FROM character c JOIN race r ON r.id = c.race_id " +
+            "WHERE lower(c.name) LIKE :prefix OR lower(c.name) % :term " +
+            "ORDER BY \"prefixMatch\" DESC, score DESC, c.name " +
+            "LIMIT :limit",
+            nativeQuery = true)
+    List<CharacterSearchHit> searchByName(@Param("term") String term,
+                                          @Param("prefix") String prefix,
+                                          @Param("limit") int limit);
 
     // ========================================
     // CONSULTAS ESPECÍFICAS DE NEGÓCIO
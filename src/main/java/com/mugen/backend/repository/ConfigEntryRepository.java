@@ -0,0 +1,21 @@
+package com.mugen.backend.repository;
+
+import com.mugen.backend.entity.ConfigEntry;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface ConfigEntryRepository extends JpaRepository<ConfigEntry, String> {
+
+    List<ConfigEntry> findByKeyStartingWith(String prefix);
+
+    // Polling barato: só relê as entradas quando algo mudou
+    @Query("SELECT MAX(c.updatedAt) FROM ConfigEntry c WHERE c.key LIKE CONCAT(:prefix, '%')")
+    Optional<Instant> findLastUpdateByKeyPrefix(@Param("prefix") String prefix);
+}
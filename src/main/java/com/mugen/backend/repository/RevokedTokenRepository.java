@@ -0,0 +1,30 @@
+package com.mugen.backend.repository;
+
+import com.mugen.backend.entity.RevokedToken;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface RevokedTokenRepository extends JpaRepository<RevokedToken, Long> {
+
+    boolean existsByJti(UUID jti);
+
+    // Tokens individuais ainda relevantes (reconstrução do Bloom filter)
+    @Query("SELECT r.jti FROM RevokedToken r WHERE r.jti IS NOT NULL AND r.expiresAt > :now")
+    List<UUID> findActiveJtis(@Param("now") Instant now);
+
+    // Revogações por usuário ainda relevantes: poucas linhas, mantidas inteiras em memória
+    @Query("SELECT r FROM RevokedToken r WHERE r.jti IS NULL AND r.expiresAt > :now")
+    List<RevokedToken> findActiveUserRevocations(@Param("now") Instant now);
+
+    @Modifying
+    @Query("DELETE FROM RevokedToken r WHERE r.expiresAt <= :now")
+    int deleteExpired(@Param("now") Instant now);
+}
@@ -1,5 +1,6 @@
 package com.mugen.backend.repository;
 
+import com.mugen.backend.dto.PlayerSearchHit;
 import com.mugen.backend.entity.User;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
@@ -16,6 +17,23 @@ public interface UserRepository extends JpaRepository<User, UUID> {
     // Buscar por email
     Optional<User> findByEmail(String email);
 
+    /**
+     * Busca de players por display_name (prefixo + similaridade, índice GIN da V7)
+     * A contagem de personagens é calculada só para as linhas retornadas
+     */
+    @Query(value = "SELECT u.id AS \"userId\", u.display_name AS \"displayName\", u.email AS email, " +
+            "(SELECT COUNT(*) FROM character c WHERE c.owner_id = u.id) AS \"characterCount\", " +
+            "(lower(u.display_name) LIKE :prefix) AS \"prefixMatch\", " +
+            "CAST(similarity(lower(u.display_name), :term) AS double precision) AS score " +
+            "FROM app_user u " +
+            "WHERE lower(u.display_name) LIKE :prefix OR lower(u.display_name) % :term " +
+            "ORDER BY \"prefixMatch\" DESC, score DESC, u.display_name " +
+            "LIMIT :limit",
+            nativeQuery = true)
+    List<PlayerSearchHit> searchByDisplayName(@Param("term") String term,
+                                              @Param("prefix") String prefix,
+                                              @Param("limit") int limit);
+
     /**
      * Buscar todos os players do sistema
      * Carrega com as roles para segurança (autorização)
@@ -16,6 +16,12 @@ public interface CharacterAchievementRepository extends JpaRepository<CharacterA
 
     List<CharacterAchievement> findByCharacterIdOrderByObtainedAtDesc(UUID characterId);
 
+    @Query("SELECT ca FROM CharacterAchievement ca " +
+            "JOIN FETCH ca.achievement " +
+            "WHERE ca.character.id = :characterId " +
+            "ORDER BY ca.obtainedAt DESC")
+    List<CharacterAchievement> findWithAchievementByCharacterId(UUID characterId);
+
     Optional<CharacterAchievement> findByCharacterIdAndAchievementId(UUID characterId, Integer achievementId);
 
     Long countByCharacterId(UUID characterId);
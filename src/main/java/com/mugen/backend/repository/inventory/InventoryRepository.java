@@ -31,6 +31,12 @@ public interface InventoryRepository extends JpaRepository<Inventory, Integer> {
      */
     boolean existsByCharacterId(UUID characterId);
 
+    /**
+     * Busca por id do inventário (Long, como na entidade; o findById herdado recebe Integer)
+     */
+    @Query("SELECT i FROM Inventory i WHERE i.id = :id")
+    Optional<Inventory> findByInventoryId(@Param("id") Long inventoryId);
+
     // ==================== QUERIES CUSTOMIZADAS ====================
 
     /**
@@ -0,0 +1,264 @@
+package com.mugen.backend.security;
+
+import com.mugen.backend.dto.character.CharacterOwnershipView;
+import com.mugen.backend.repository.CharacterRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.locks.StampedLock;
+
+/**
+ * Índice em memória characterId → ownerId para checagens de posse
+ *
+ * Tabela hash de endereçamento aberto sobre arrays de long (os dois longs de cada UUID),
+ * sem objetos por entrada. Leituras são otimistas (StampedLock) e não alocam nada.
+ * Escritas (criação/deleção de personagem) são raras e usam o lock de escrita.
+ *
+ * O dono de um personagem nunca muda, então uma entrada só fica obsoleta após deleção
+ * em outra instância - inofensivo, já que o personagem deixa de existir.
+ * Miss no índice cai para uma projeção de uma coluna no banco e popula o índice.
+ */
+@Component
+@Slf4j
+public class CharacterOwnershipIndex {
+
+    public enum Ownership { OWNER, NOT_OWNER, UNKNOWN }
+
+    private static final byte EMPTY = 0;
+    private static final byte FULL = 1;
+    private static final byte DELETED = 2;
+    private static final int MIN_CAPACITY = 1024;
+
+    private final CharacterRepository characterRepository;
+    private final StampedLock lock = new StampedLock();
+    private volatile Table table = new Table(MIN_CAPACITY);
+
+    public CharacterOwnershipIndex(CharacterRepository characterRepository) {
+        this.characterRepository = characterRepository;
+    }
+
+    /**
+     * Carrega todos os pares (personagem, dono) numa única consulta
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        try {
+            List<CharacterOwnershipView> ownerships = characterRepository.findAllOwnerships();
+            Table warmed = new Table(capacityFor(ownerships.size()));
+            for (CharacterOwnershipView view : ownerships) {
+                warmed.put(view.characterId(), view.ownerId());
+            }
+
+            long stamp = lock.writeLock();
+            try {
+                table = warmed;
+            } finally {
+                lock.unlockWrite(stamp);
+            }
+            log.info("Character ownership index warmed with {} entries", ownerships.size());
+        } catch (RuntimeException e) {
+            // Sem índice aquecido as checagens continuam funcionando via banco
+            log.warn("Could not warm character ownership index: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Consulta só a memória: UNKNOWN quando o personagem não está indexado
+     */
+    public Ownership ownership(UUID characterId, UUID userId) {
+        long stamp = lock.tryOptimisticRead();
+        Ownership result = table.ownership(characterId, userId);
+        if (!lock.validate(stamp)) {
+            stamp = lock.readLock();
+            try {
+                result = table.ownership(characterId, userId);
+            } finally {
+                lock.unlockRead(stamp);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Checagem completa: memória primeiro, banco (uma coluna) só em caso de miss
+     */
+    public boolean isOwner(UUID characterId, UUID userId) {
+        if (characterId == null || userId == null) {
+            return false;
+        }
+
+        Ownership ownership = ownership(characterId, userId);
+        if (ownership != Ownership.UNKNOWN) {
+            return ownership == Ownership.OWNER;
+        }
+
+        return characterRepository.findOwnerIdById(characterId)
+                .map(ownerId -> {
+                    put(characterId, ownerId);
+                    return ownerId.equals(userId);
+                })
+                .orElse(false);
+    }
+
+    public void put(UUID characterId, UUID ownerId) {
+        long stamp = lock.writeLock();
+        try {
+            Table current = table;
+            if (current.needsResize()) {
+                current = current.resized(capacityFor(current.size + 1));
+                table = current;
+            }
+            current.put(characterId, ownerId);
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    public void remove(UUID characterId) {
+        long stamp = lock.writeLock();
+        try {
+            table.remove(characterId);
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    public int size() {
+        return table.size;
+    }
+
+    private static int capacityFor(int entries) {
+        // Fator de carga máximo de 50%: sondagens curtas
+        int capacity = MIN_CAPACITY;
+        while (capacity < entries * 2) {
+            capacity <<= 1;
+        }
+        return capacity;
+    }
+
+    /**
+     * Arrays paralelos; todos com o mesmo tamanho (potência de 2)
+     */
+    private static final class Table {
+        private final byte[] states;
+        private final long[] keyHi;
+        private final long[] keyLo;
+        private final long[] ownerHi;
+        private final long[] ownerLo;
+        private int size;
+        private int used; // entradas + lápides
+
+        private Table(int capacity) {
+            states = new byte[capacity];
+            keyHi = new long[capacity];
+            keyLo = new long[capacity];
+            ownerHi = new long[capacity];
+            ownerLo = new long[capacity];
+        }
+
+        private Ownership ownership(UUID characterId, UUID userId) {
+            int slot = find(characterId.getMostSignificantBits(), characterId.getLeastSignificantBits());
+            if (slot < 0) {
+                return Ownership.UNKNOWN;
+            }
+            boolean owner = ownerHi[slot] == userId.getMostSignificantBits()
+                    && ownerLo[slot] == userId.getLeastSignificantBits();
+            return owner ? Ownership.OWNER : Ownership.NOT_OWNER;
+        }
+
+        private int find(long hi, long lo) {
+            int mask = states.length - 1;
+            int slot = hash(hi, lo) & mask;
+            for (int probes = 0; probes <= mask; probes++) {
+                byte state = states[slot];
+                if (state == EMPTY) {
+                    return -1;
+                }
+                if (state == FULL && keyHi[slot] == hi && keyLo[slot] == lo) {
+                    return slot;
+                }
+                slot = (slot + 1) & mask;
+            }
+            return -1;
+        }
+
+        private void put(UUID characterId, UUID ownerId) {
+            long hi = characterId.getMostSignificantBits();
+            long lo = characterId.getLeastSignificantBits();
+
+            int existing = find(hi, lo);
+            if (existing >= 0) {
+                ownerHi[existing] = ownerId.getMostSignificantBits();
+                ownerLo[existing] = ownerId.getLeastSignificantBits();
+                return;
+            }
+
+            int mask = states.length - 1;
+            int slot = hash(hi, lo) & mask;
+            while (states[slot] == FULL) {
+                slot = (slot + 1) & mask;
+            }
+            if (states[slot] == EMPTY) {
+                used++;
+            }
+            keyHi[slot] = hi;
+            keyLo[slot] = lo;
+            ownerHi[slot] = ownerId.getMostSignificantBits();
+            ownerLo[slot] = ownerId.getLeastSignificantBits();
+            states[slot] = FULL;
+            size++;
+        }
+
+        private void remove(UUID characterId) {
+            int slot = find(characterId.getMostSignificantBits(), characterId.getLeastSignificantBits());
+            if (slot >= 0) {
+                states[slot] = DELETED;
+                size--;
+            }
+        }
+
+        private boolean needsResize() {
+            return (used + 1) * 2 > states.length;
+        }
+
+        private Table resized(int capacity) {
+            Table resized = new Table(capacity);
+            for (int slot = 0; slot < states.length; slot++) {
+                if (states[slot] == FULL) {
+                    resized.insertFresh(keyHi[slot], keyLo[slot], ownerHi[slot], ownerLo[slot]);
+                }
+            }
+            return resized;
+        }
+
+        private void insertFresh(long hi, long lo, long oHi, long oLo) {
+            int mask = states.length - 1;
+            int slot = hash(hi, lo) & mask;
+            while (states[slot] != EMPTY) {
+                slot = (slot + 1) & mask;
+            }
+            keyHi[slot] = hi;
+            keyLo[slot] = lo;
+            ownerHi[slot] = oHi;
+            ownerLo[slot] = oLo;
+            states[slot] = FULL;
+            size++;
+            used++;
+        }
+
+        private static int hash(long hi, long lo) {
+            // Finalizador do MurmurHash3 (64 bits)
+            long h = hi ^ Long.rotateLeft(lo, 32);
+            h ^= h >>> 33;
+            h *= 0xff51afd7ed558ccdL;
+            h ^= h >>> 33;
+            h *= 0xc4ceb9a34a4e5d2bL;
+            h ^= h >>> 33;
+            return (int) h;
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package com.mugen.backend.security;
+
+import com.mugen.backend.entity.character.Character;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.access.PermissionEvaluator;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.stereotype.Component;
+
+import java.io.Serializable;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Avalia hasPermission(...) nas anotações @PreAuthorize
+ * Uso: @PreAuthorize("hasPermission(#characterId, 'Character', 'OWNER')")
+ * ADMIN e MASTER podem acessar qualquer personagem; os demais só os próprios
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class CharacterPermissionEvaluator implements PermissionEvaluator {
+
+    public static final String CHARACTER = "Character";
+
+    private static final Set<String> BYPASS_ROLES = Set.of("ROLE_ADMIN", "ROLE_MASTER");
+
+    private final CharacterOwnershipIndex ownershipIndex;
+
+    @Override
+    public boolean hasPermission(Authentication authentication, Object targetDomainObject, Object permission) {
+        if (targetDomainObject instanceof Character character) {
+            return hasPermission(authentication, character.getId(), CHARACTER, permission);
+        }
+        return false;
+    }
+
+    @Override
+    public boolean hasPermission(Authentication authentication, Serializable targetId, String targetType, Object permission) {
+        if (authentication == null || !authentication.isAuthenticated() || !CHARACTER.equals(targetType)) {
+            return false;
+        }
+
+        if (hasBypassRole(authentication)) {
+            return true;
+        }
+
+        UUID characterId = toUuid(targetId);
+        UUID userId = toUuid(authentication.getName());
+        boolean owner = ownershipIndex.isOwner(characterId, userId);
+        if (!owner) {
+            log.warn("❌ User {} denied access to character {}", userId, characterId);
+        }
+        return owner;
+    }
+
+    private boolean hasBypassRole(Authentication authentication) {
+        for (GrantedAuthority authority : authentication.getAuthorities()) {
+            if (BYPASS_ROLES.contains(authority.getAuthority())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private UUID toUuid(Object value) {
+        if (value instanceof UUID uuid) {
+            return uuid;
+        }
+        if (value == null) {
+            return null;
+        }
+        try {
+            return UUID.fromString(value.toString());
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+}
@@ -1,7 +1,5 @@
 package com.mugen.backend.security;
 
-import com.mugen.backend.entity.User;
-import com.mugen.backend.repository.UserRepository;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
@@ -22,7 +20,7 @@ import java.util.Set;
 public class CustomUserDetailsService implements UserDetailsService {
 
     @Autowired
-    private UserRepository userRepository;
+    private PrincipalCache principalCache;
 
     /**
      * Carrega um usuário pelo username (email)
@@ -32,23 +30,23 @@ public class CustomUserDetailsService implements UserDetailsService {
      */
     @Override
     public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
-        // Buscar usuário no banco de dados pelo email
-        User user = userRepository.findByEmail(username)
+        // Buscar usuário (cache de principals; banco só no primeiro acesso)
+        UserPrincipal user = principalCache.findByEmail(username)
                 .orElseThrow(() -> new UsernameNotFoundException(
                         "Usuário não encontrado com email: " + username
                 ));
 
         // Converter roles do usuário em GrantedAuthority
         Set<GrantedAuthority> authorities = new HashSet<>();
-        user.getRoles().forEach(role ->
-                authorities.add(new SimpleGrantedAuthority("ROLE_" + role.getName()))
+        user.roles().forEach(role ->
+                authorities.add(new SimpleGrantedAuthority("ROLE_" + role))
         );
 
         // Retornar UserDetails com dados do usuário
         return org.springframework.security.core.userdetails.User
                 .builder()
-                .username(user.getEmail())
-                .password(user.getPassword())
+                .username(user.email())
+                .password(user.passwordHash())
                 .authorities(authorities)
                 .accountExpired(false)
                 .accountLocked(false)
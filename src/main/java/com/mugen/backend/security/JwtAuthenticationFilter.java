@@ -4,6 +4,7 @@ import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
+import com.mugen.backend.logging.RequestSummaryFilter;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
@@ -14,7 +15,7 @@ import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
 import java.util.List;
-import java.util.Set;
+import java.util.Optional;
 import java.util.stream.Collectors;
 
 /**
@@ -26,7 +27,8 @@ import java.util.stream.Collectors;
 @Slf4j
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
-    private final JwtTokenProvider jwtTokenProvider;
+    private final VerifiedTokenCache verifiedTokenCache;
+    private final TokenRevocationService tokenRevocationService;
 
     @Override
     protected void doFilterInternal(HttpServletRequest request,
@@ -49,20 +51,26 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             String token = authHeader.substring(7).trim();
             log.debug("Token extracted, validating...");
 
-            // 4️⃣ Validar integridade e validade do token
-            if (!jwtTokenProvider.validateToken(token)) {
+            // 4️⃣ Validar integridade e validade do token (uma única verificação, com cache)
+            Optional<JwtPrincipal> verified = verifiedTokenCache.resolve(token);
+            if (verified.isEmpty()) {
                 log.warn("Invalid or expired JWT token received");
                 filterChain.doFilter(request, response);
                 return;
             }
 
-            // 5️⃣ Extrair dados do token (userId e roles)
-            String userId = jwtTokenProvider.extractUserId(token);
-            Set<String> roles = jwtTokenProvider.extractRoles(token);
-            log.info("✅ JWT validated for user: {} with roles: {}", userId, roles);
+            // 5️⃣ Extrair dados do token (userId e roles) e checar revogação (logout/banimento)
+            JwtPrincipal principal = verified.get();
+            String userId = principal.userId();
+            if (tokenRevocationService.isRevoked(principal)) {
+                log.warn("❌ Revoked JWT token received for user: {}", userId);
+                filterChain.doFilter(request, response);
+                return;
+            }
+            log.debug("✅ JWT validated for user: {} with roles: {}", userId, principal.roles());
 
             // 6️⃣ Converter roles para GrantedAuthority (formato esperado pelo Spring)
-            List<SimpleGrantedAuthority> authorities = roles.stream()
+            List<SimpleGrantedAuthority> authorities = principal.roles().stream()
                     .map(SimpleGrantedAuthority::new)
                     .collect(Collectors.toList());
 
@@ -74,6 +82,7 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
                             authorities       // permissões
                     );
             authentication.setDetails(userId);
+            request.setAttribute(RequestSummaryFilter.USER_ATTRIBUTE, userId);
 
             // 8️⃣ Setar autenticação no SecurityContext (CRÍTICO!)
             SecurityContextHolder.getContext().setAuthentication(authentication);
@@ -0,0 +1,16 @@
+package com.mugen.backend.security;
+
+import java.util.Set;
+
+/**
+ * Dados extraídos de um JWT já verificado (assinatura + expiração)
+ * Resultado de uma única verificação, reaproveitado pelo filtro e pelo cache
+ * tokenId = claim 'jti' (nulo em tokens emitidos antes da revogação existir)
+ */
+public record JwtPrincipal(String userId, Set<String> roles, String tokenId, long issuedAtMillis,
+                           long expiresAtMillis) {
+
+    public boolean isExpired(long nowMillis) {
+        return nowMillis >= expiresAtMillis;
+    }
+}
@@ -22,64 +22,76 @@ public class JwtTokenProvider {
     @Value("${jwt.expiration:3600000}")
     private long jwtExpirationMs;
 
+    // Chave e parser são imutáveis e thread-safe: construídos uma única vez
+    private volatile SecretKey signingKey;
+    private volatile JwtParser jwtParser;
+
     /**
      * Gera JWT ‘token’ com dados do usuário e a suas roles
      */
     public String generateToken(User user) {
-        Set<String> roleNames = user.getRoles().stream()
-                .map(r -> "ROLE_" + r.getName())
-                .collect(Collectors.toSet());
+        return generateToken(UserPrincipal.from(user));
+    }
 
-        SecretKey key = Keys.hmacShaKeyFor(jwtSecret.getBytes());
+    /**
+     * Gera JWT a partir do principal em cache (sem tocar na entidade)
+     */
+    public String generateToken(UserPrincipal user) {
+        Set<String> roleNames = user.roles().stream()
+                .map(name -> "ROLE_" + name)
+                .collect(Collectors.toSet());
 
         return Jwts.builder()
-                .setSubject(user.getId().toString())
-                .claim("email", user.getEmail())
-                .claim("displayName", user.getDisplayName())
+                .id(UUID.randomUUID().toString())
+                .subject(user.id().toString())
+                .claim("email", user.email())
+                .claim("displayName", user.displayName())
                 .claim("roles", new ArrayList<>(roleNames))
-                .setIssuedAt(new Date())
-                .setExpiration(new Date(System.currentTimeMillis() + jwtExpirationMs))
-                .signWith(key)
+                .issuedAt(new Date())
+                .expiration(new Date(System.currentTimeMillis() + jwtExpirationMs))
+                .signWith(signingKey())
                 .compact();
     }
 
     /**
-     * Valida se o token é válido
+     * Verifica o token uma única vez (assinatura, expiração e parse dos claims)
+     * Retorna vazio se o token for inválido
      */
-    public boolean validateToken(String token) {
+    public Optional<JwtPrincipal> verify(String token) {
         try {
-            SecretKey key = Keys.hmacShaKeyFor(jwtSecret.getBytes());
-            Jwts.parser()
-                    .verifyWith(key)
-                    .build()
-                    .parseSignedClaims(token);
-            return true;
+            Claims claims = parser().parseSignedClaims(token).getPayload();
+            Date issuedAt = claims.getIssuedAt();
+            Date expiration = claims.getExpiration();
+            long issuedAtMillis = issuedAt != null ? issuedAt.getTime() : 0L;
+            long expiresAt = expiration != null ? expiration.getTime() : Long.MAX_VALUE;
+            return Optional.of(new JwtPrincipal(claims.getSubject(), rolesOf(claims), claims.getId(),
+                    issuedAtMillis, expiresAt));
         } catch (SignatureException e) {
             log.error("JWT signature validation failed: {}", e.getMessage());
-            return false;
         } catch (MalformedJwtException e) {
             log.error("Invalid JWT token: {}", e.getMessage());
-            return false;
         } catch (ExpiredJwtException e) {
             log.error("JWT token has expired: {}", e.getMessage());
-            return false;
         } catch (UnsupportedJwtException e) {
             log.error("JWT token is not supported: {}", e.getMessage());
-            return false;
         } catch (IllegalArgumentException e) {
             log.error("JWT claims string is empty: {}", e.getMessage());
-            return false;
         }
+        return Optional.empty();
+    }
+
+    /**
+     * Valida se o token é válido
+     */
+    public boolean validateToken(String token) {
+        return verify(token).isPresent();
     }
 
     /**
      * Extrai User ID do token
      */
     public String extractUserId(String token) {
-        SecretKey key = Keys.hmacShaKeyFor(jwtSecret.getBytes());
-        return Jwts.parser()
-                .verifyWith(key)
-                .build()
+        return parser()
                 .parseSignedClaims(token)
                 .getPayload()
                 .getSubject();
@@ -88,16 +100,36 @@ public class JwtTokenProvider {
     /**
      * Extrai roles do token
      */
-    @SuppressWarnings("unchecked")
     public Set<String> extractRoles(String token) {
-        SecretKey key = Keys.hmacShaKeyFor(jwtSecret.getBytes());
-        Claims claims = Jwts.parser()
-                .verifyWith(key)
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
+        return rolesOf(parser().parseSignedClaims(token).getPayload());
+    }
+
+    // ==================== MÉTODOS AUXILIARES ====================
 
+    @SuppressWarnings("unchecked")
+    private Set<String> rolesOf(Claims claims) {
         List<String> roleList = (List<String>) claims.get("roles");
-        return roleList != null ? new HashSet<>(roleList) : new HashSet<>();
+        return roleList != null ? Set.copyOf(roleList) : Set.of();
+    }
+
+    /**
+     * Inicialização preguiçosa: um segredo inválido só falha no primeiro uso, como antes
+     */
+    private SecretKey signingKey() {
+        SecretKey key = signingKey;
+        if (key == null) {
+            key = Keys.hmacShaKeyFor(jwtSecret.getBytes());
+            signingKey = key;
+        }
+        return key;
+    }
+
+    private JwtParser parser() {
+        JwtParser parser = jwtParser;
+        if (parser == null) {
+            parser = Jwts.parser().verifyWith(signingKey()).build();
+            jwtParser = parser;
+        }
+        return parser;
     }
 }
@@ -0,0 +1,133 @@
+package com.mugen.backend.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.mugen.backend.repository.UserRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Cache em memória de usuários + roles, indexado por id e por email
+ * Remove do caminho quente as consultas em app_user/user_role feitas a cada requisição
+ * TTL curto como rede de segurança; mudanças de role/status invalidam explicitamente
+ */
+@Component
+@Slf4j
+public class PrincipalCache {
+
+    private final UserRepository userRepository;
+    private final Cache<UUID, UserPrincipal> principalsById;
+    private final Cache<String, UUID> idsByEmail;
+
+    public PrincipalCache(UserRepository userRepository,
+                          MeterRegistry meterRegistry,
+                          @Value("${security.principal-cache.ttl-seconds:300}") long ttlSeconds,
+                          @Value("${security.principal-cache.max-size:10000}") long maxSize) {
+        this.userRepository = userRepository;
+        this.principalsById = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .build();
+        this.idsByEmail = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, principalsById, "security.principals");
+    }
+
+    /**
+     * Busca por id (carrega com roles no primeiro acesso)
+     */
+    public Optional<UserPrincipal> findById(UUID userId) {
+        if (userId == null) {
+            return Optional.empty();
+        }
+        UserPrincipal cached = principalsById.getIfPresent(userId);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+
+        // Query fora do compute do Caffeine: o loader roda segurando o lock do bin do ConcurrentHashMap,
+        // o que prende a carrier thread com threads virtuais. Dois misses simultâneos podem carregar duas vezes
+        Optional<UserPrincipal> loaded = userRepository.findByIdWithRoles(userId).map(UserPrincipal::from);
+        loaded.ifPresent(principal -> {
+            principalsById.put(principal.id(), principal);
+            idsByEmail.put(principal.email(), principal.id());
+        });
+        return loaded;
+    }
+
+    /**
+     * Busca por email (carrega com roles no primeiro acesso)
+     */
+    public Optional<UserPrincipal> findByEmail(String email) {
+        if (email == null) {
+            return Optional.empty();
+        }
+
+        UUID cachedId = idsByEmail.getIfPresent(email);
+        if (cachedId != null) {
+            UserPrincipal cached = principalsById.getIfPresent(cachedId);
+            if (cached != null && email.equals(cached.email())) {
+                return Optional.of(cached);
+            }
+        }
+
+        Optional<UserPrincipal> loaded = userRepository.findByEmailWithRoles(email).map(UserPrincipal::from);
+        loaded.ifPresent(principal -> {
+            principalsById.put(principal.id(), principal);
+            idsByEmail.put(principal.email(), principal.id());
+        });
+        return loaded;
+    }
+
+    public boolean exists(UUID userId) {
+        return findById(userId).isPresent();
+    }
+
+    /**
+     * Invalida o usuário agora e de novo após o commit da transação corrente,
+     * para que uma leitura concorrente do estado antigo não volte a ser cacheada
+     */
+    public void invalidate(UUID userId, String email) {
+        evict(userId, email);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evict(userId, email);
+                }
+            });
+        }
+    }
+
+    public void invalidateAll() {
+        principalsById.invalidateAll();
+        idsByEmail.invalidateAll();
+        log.info("Principal cache cleared");
+    }
+
+    private void evict(UUID userId, String email) {
+        if (userId != null) {
+            UserPrincipal previous = principalsById.getIfPresent(userId);
+            principalsById.invalidate(userId);
+            if (previous != null) {
+                idsByEmail.invalidate(previous.email());
+            }
+        }
+        if (email != null) {
+            idsByEmail.invalidate(email);
+        }
+        log.debug("Principal cache invalidated for user {}", userId);
+    }
+}
@@ -0,0 +1,83 @@
+package com.mugen.backend.security;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mugen.backend.exception.ErrorResponse;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+
+/**
+ * Rate Limit Filter - roda logo após o JwtAuthenticationFilter
+ * Limita endpoints de mutação por usuário autenticado antes de abrir transação/conexão
+ * Headers: RateLimit-Limit, RateLimit-Remaining, RateLimit-Reset e Retry-After (no 429)
+ */
+@RequiredArgsConstructor
+@Slf4j
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    public static final String HEADER_LIMIT = "RateLimit-Limit";
+    public static final String HEADER_REMAINING = "RateLimit-Remaining";
+    public static final String HEADER_RESET = "RateLimit-Reset";
+
+    private final RateLimiter rateLimiter;
+    private final ObjectMapper objectMapper;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain)
+            throws ServletException, IOException {
+        // 1️⃣ Só requisições autenticadas em rotas configuradas
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (!rateLimiter.isEnabled() || authentication == null || !authentication.isAuthenticated()
+                || !(authentication.getPrincipal() instanceof String userId)) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        RateLimiter.RouteGroup group = rateLimiter.match(request.getMethod(), path);
+        if (group == null) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        // 2️⃣ Consumir ficha do bucket (userId, grupo)
+        TokenBucket.Decision decision = rateLimiter.tryConsume(userId, group);
+        response.setHeader(HEADER_LIMIT, String.valueOf(group.capacity()));
+        response.setHeader(HEADER_REMAINING, String.valueOf(decision.remaining()));
+        response.setHeader(HEADER_RESET, String.valueOf(decision.resetSeconds()));
+
+        if (decision.allowed()) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        // 3️⃣ Rejeitar com 429 sem chegar ao controller
+        log.warn("❌ Rate limit exceeded for user {} on group '{}'", userId, group.name());
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(decision.retryAfterSeconds()));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+
+        ErrorResponse body = ErrorResponse.builder()
+                .timestamp(LocalDateTime.now())
+                .status(HttpStatus.TOO_MANY_REQUESTS.value())
+                .error("RATE_LIMIT_EXCEEDED")
+                .message("Too many requests. Try again in " + decision.retryAfterSeconds() + "s")
+                .path(path)
+                .build();
+        objectMapper.writeValue(response.getOutputStream(), body);
+    }
+}
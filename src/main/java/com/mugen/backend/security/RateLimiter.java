@@ -0,0 +1,92 @@
+package com.mugen.backend.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.mugen.backend.config.RateLimitProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Rate limiter por usuário e grupo de rotas
+ * Um TokenBucket por (userId, grupo), mantido num cache limitado que descarta buckets ociosos
+ */
+@Component
+@Slf4j
+public class RateLimiter {
+
+    /**
+     * Grupo resolvido a partir da configuração
+     */
+    public record RouteGroup(String name, String method, List<String> patterns, int capacity, double refillPerSecond,
+                             Counter rejected) {
+    }
+
+    private final RateLimitProperties properties;
+    private final AntPathMatcher pathMatcher = new AntPathMatcher();
+    private final List<RouteGroup> groups = new ArrayList<>();
+    private final Cache<String, TokenBucket> buckets;
+
+    public RateLimiter(RateLimitProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.buckets = Caffeine.newBuilder()
+                .maximumSize(properties.getMaxBuckets())
+                .expireAfterAccess(Duration.ofSeconds(properties.getIdleEvictionSeconds()))
+                .build();
+
+        for (Map.Entry<String, RateLimitProperties.Group> entry : properties.getGroups().entrySet()) {
+            RateLimitProperties.Group group = entry.getValue();
+            Counter rejected = Counter.builder("mugen.ratelimit.rejected")
+                    .description("Requisições rejeitadas com 429")
+                    .tag("group", entry.getKey())
+                    .register(meterRegistry);
+            groups.add(new RouteGroup(entry.getKey(), group.getMethod(), List.copyOf(group.getPatterns()),
+                    group.getCapacity(), group.getRefillPerSecond(), rejected));
+            log.info("Rate limit group '{}': {} {} -> {} burst, {}/s",
+                    entry.getKey(), group.getMethod(), group.getPatterns(), group.getCapacity(), group.getRefillPerSecond());
+        }
+
+        Gauge.builder("mugen.ratelimit.buckets", buckets, Cache::estimatedSize)
+                .description("Buckets ativos em memória")
+                .register(meterRegistry);
+    }
+
+    public boolean isEnabled() {
+        return properties.isEnabled() && !groups.isEmpty();
+    }
+
+    /**
+     * Primeiro grupo que casa com método + path, ou null
+     */
+    public RouteGroup match(String method, String path) {
+        for (RouteGroup group : groups) {
+            if (!group.method().equalsIgnoreCase(method)) {
+                continue;
+            }
+            for (String pattern : group.patterns()) {
+                if (pathMatcher.match(pattern, path)) {
+                    return group;
+                }
+            }
+        }
+        return null;
+    }
+
+    public TokenBucket.Decision tryConsume(String userId, RouteGroup group) {
+        TokenBucket bucket = buckets.get(userId + '|' + group.name(),
+                key -> new TokenBucket(group.capacity(), group.refillPerSecond()));
+        TokenBucket.Decision decision = bucket.tryConsume();
+        if (!decision.allowed()) {
+            group.rejected().increment();
+        }
+        return decision;
+    }
+}
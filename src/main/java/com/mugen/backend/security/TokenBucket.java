@@ -0,0 +1,74 @@
+package com.mugen.backend.security;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * Token bucket sem locks (formulação GCRA)
+ *
+ * Todo o estado é um único long - o "tempo teórico de chegada" (TAT) - atualizado por CAS.
+ * Cada requisição avança o TAT em um intervalo de emissão (1 / refill);
+ * ela é aceita se o TAT resultante não passar de agora + capacidade * intervalo.
+ * Equivale a um balde de 'capacity' fichas reabastecido a 'refillPerSecond'.
+ */
+public final class TokenBucket {
+
+    public record Decision(boolean allowed, long remaining, long retryAfterNanos, long resetNanos) {
+
+        public long retryAfterSeconds() {
+            return Math.max(1, TimeUnit.NANOSECONDS.toSeconds(retryAfterNanos + 999_999_999L));
+        }
+
+        public long resetSeconds() {
+            return TimeUnit.NANOSECONDS.toSeconds(resetNanos + 999_999_999L);
+        }
+    }
+
+    private final int capacity;
+    private final long emissionIntervalNanos;
+    private final long burstNanos;
+    private final LongSupplier nanoClock;
+    private final AtomicLong theoreticalArrival = new AtomicLong(Long.MIN_VALUE);
+
+    public TokenBucket(int capacity, double refillPerSecond) {
+        this(capacity, refillPerSecond, System::nanoTime);
+    }
+
+    public TokenBucket(int capacity, double refillPerSecond, LongSupplier nanoClock) {
+        if (capacity < 1 || refillPerSecond <= 0) {
+            throw new IllegalArgumentException("capacity must be >= 1 and refillPerSecond > 0");
+        }
+        this.capacity = capacity;
+        this.emissionIntervalNanos = Math.max(1L, (long) (TimeUnit.SECONDS.toNanos(1) / refillPerSecond));
+        this.burstNanos = emissionIntervalNanos * capacity;
+        this.nanoClock = nanoClock;
+    }
+
+    /**
+     * Tenta consumir uma ficha
+     */
+    public Decision tryConsume() {
+        while (true) {
+            long now = nanoClock.getAsLong();
+            long current = theoreticalArrival.get();
+            long tat = current == Long.MIN_VALUE ? now : Math.max(current, now);
+            long next = tat + emissionIntervalNanos;
+            long ahead = next - now;
+
+            if (ahead > burstNanos) {
+                // Sem fichas: quanto falta para a próxima ficha ficar disponível
+                return new Decision(false, 0, ahead - burstNanos, tat - now);
+            }
+
+            if (theoreticalArrival.compareAndSet(current, next)) {
+                long remaining = (burstNanos - ahead) / emissionIntervalNanos;
+                return new Decision(true, remaining, 0, ahead);
+            }
+        }
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+}
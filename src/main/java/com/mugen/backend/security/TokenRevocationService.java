@@ -0,0 +1,253 @@
+package com.mugen.backend.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.mugen.backend.entity.RevokedToken;
+import com.mugen.backend.repository.RevokedTokenRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Revogação de JWT (logout / banimento) antes do 'exp'
+ *
+ * Checagem por requisição sem banco no caso comum:
+ * - jti: Bloom filter primeiro; só um hit (revogado ou falso positivo) consulta a tabela
+ * - usuário: poucas revogações "todos os tokens do usuário", mantidas exatas em memória
+ *
+ * O filtro é reconstruído periodicamente da tabela (revogações de outras instâncias
+ * aparecem em até refresh-ms); revogações locais entram na hora.
+ */
+@Service
+@Slf4j
+public class TokenRevocationService {
+
+    private static final double FALSE_POSITIVE_RATE = 0.01;
+    private static final int MIN_EXPECTED_INSERTIONS = 1024;
+
+    /**
+     * Estado imutável trocado atomicamente a cada reconstrução
+     * (o filtro e o mapa aceitam inserções locais entre reconstruções)
+     */
+    private record Snapshot(BloomFilter tokens, Map<UUID, Instant> userCutoffs) {
+    }
+
+    private final RevokedTokenRepository revokedTokenRepository;
+    private final long tokenLifetimeMs;
+    private final long refreshMs;
+
+    private volatile Snapshot snapshot = emptySnapshot(0);
+
+    // Revogações feitas nesta instância que a próxima reconstrução pode ainda não enxergar
+    private final Map<UUID, Long> recentTokens = new ConcurrentHashMap<>();
+    private final Map<UUID, Instant> recentUsers = new ConcurrentHashMap<>();
+    private final Map<UUID, Long> recentUsersAddedAt = new ConcurrentHashMap<>();
+
+    // Só resultados positivos confirmados no banco: tokens revogados reapresentados não voltam ao banco
+    private final Cache<UUID, Boolean> confirmedRevoked;
+
+    private final Counter bloomNegative;
+    private final Counter falsePositive;
+    private final Counter revoked;
+
+    public TokenRevocationService(RevokedTokenRepository revokedTokenRepository,
+                                  MeterRegistry meterRegistry,
+                                  @Value("${jwt.expiration:3600000}") long tokenLifetimeMs,
+                                  @Value("${jwt.revocation.refresh-ms:30000}") long refreshMs) {
+        this.revokedTokenRepository = revokedTokenRepository;
+        this.tokenLifetimeMs = tokenLifetimeMs;
+        this.refreshMs = refreshMs;
+        this.confirmedRevoked = Caffeine.newBuilder()
+                .maximumSize(10_000)
+                .expireAfterWrite(Duration.ofMillis(tokenLifetimeMs))
+                .build();
+
+        this.bloomNegative = checkCounter(meterRegistry, "bloom_negative");
+        this.falsePositive = checkCounter(meterRegistry, "false_positive");
+        this.revoked = checkCounter(meterRegistry, "revoked");
+        Gauge.builder("mugen.jwt.revocation.users", this, s -> s.snapshot.userCutoffs().size())
+                .description("Revogações de usuário ativas em memória")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Checagem por requisição (chamada pelo JwtAuthenticationFilter)
+     */
+    public boolean isRevoked(JwtPrincipal principal) {
+        Snapshot current = snapshot;
+
+        // 1️⃣ Revogação de todos os tokens do usuário (mapa exato, em memória)
+        UUID userId = parseUuid(principal.userId());
+        if (userId != null) {
+            Instant cutoff = current.userCutoffs().get(userId);
+            // Corte já arredondado para cima (ver revokeAllForUser): token do mesmo segundo também cai
+            if (cutoff != null && principal.issuedAtMillis() < cutoff.toEpochMilli()) {
+                revoked.increment();
+                return true;
+            }
+        }
+
+        // 2️⃣ Token específico: Bloom filter, banco só em caso de hit
+        UUID jti = parseUuid(principal.tokenId());
+        if (jti == null) {
+            return false; // Token antigo sem jti: só revogável por usuário
+        }
+        if (!current.tokens().mightContain(jti)) {
+            bloomNegative.increment();
+            return false;
+        }
+        if (confirmedRevoked.getIfPresent(jti) != null) {
+            revoked.increment();
+            return true;
+        }
+        if (revokedTokenRepository.existsByJti(jti) || recentTokens.containsKey(jti)) {
+            confirmedRevoked.put(jti, Boolean.TRUE);
+            revoked.increment();
+            return true;
+        }
+        falsePositive.increment();
+        return false;
+    }
+
+    /**
+     * Revoga um token específico (logout)
+     */
+    @Transactional
+    public void revokeToken(JwtPrincipal principal, String reason) {
+        UUID jti = parseUuid(principal.tokenId());
+        UUID userId = parseUuid(principal.userId());
+        if (jti == null || userId == null) {
+            log.warn("Token without jti cannot be revoked individually (user {})", principal.userId());
+            return;
+        }
+        if (revokedTokenRepository.existsByJti(jti)) {
+            return;
+        }
+
+        revokedTokenRepository.save(RevokedToken.builder()
+                .jti(jti)
+                .userId(userId)
+                .reason(reason)
+                .revokedAt(Instant.now())
+                .expiresAt(Instant.ofEpochMilli(principal.expiresAtMillis()))
+                .build());
+
+        recentTokens.put(jti, System.currentTimeMillis());
+        confirmedRevoked.put(jti, Boolean.TRUE);
+        snapshot.tokens().put(jti);
+        log.info("🔒 Token revoked for user {} ({})", userId, reason);
+    }
+
+    /**
+     * Revoga todos os tokens já emitidos para o usuário (desativação, exclusão)
+     * O iat do JWT só tem segundos: o corte vai para o início do segundo seguinte,
+     * então só passa token emitido depois da revogação
+     */
+    @Transactional
+    public void revokeAllForUser(UUID userId, String reason) {
+        Instant now = Instant.now();
+        Instant cutoff = now.truncatedTo(ChronoUnit.SECONDS).plusSeconds(1);
+        revokedTokenRepository.save(RevokedToken.builder()
+                .userId(userId)
+                .reason(reason)
+                .revokedAt(cutoff)
+                .expiresAt(now.plusMillis(tokenLifetimeMs))
+                .build());
+
+        recentUsers.merge(userId, cutoff, TokenRevocationService::latest);
+        recentUsersAddedAt.put(userId, System.currentTimeMillis());
+        snapshot.userCutoffs().merge(userId, cutoff, TokenRevocationService::latest);
+        log.info("🔒 All tokens revoked for user {} ({})", userId, reason);
+    }
+
+    /**
+     * Reconstrói o filtro a partir da tabela (inclui revogações de outras instâncias)
+     */
+    @Scheduled(fixedDelayString = "${jwt.revocation.refresh-ms:30000}")
+    public void rebuild() {
+        try {
+            Instant now = Instant.now();
+            List<UUID> jtis = revokedTokenRepository.findActiveJtis(now);
+            List<RevokedToken> userRevocations = revokedTokenRepository.findActiveUserRevocations(now);
+
+            Snapshot rebuilt = emptySnapshot(jtis.size());
+            jtis.forEach(rebuilt.tokens()::put);
+            for (RevokedToken revocation : userRevocations) {
+                rebuilt.userCutoffs().merge(revocation.getUserId(), revocation.getRevokedAt(), TokenRevocationService::latest);
+            }
+            snapshot = rebuilt;
+
+            // Depois da troca: revogações locais concorrentes caem no snapshot novo ou são reaplicadas aqui
+            long keepAfter = System.currentTimeMillis() - 2 * refreshMs;
+            recentTokens.entrySet().removeIf(entry -> entry.getValue() < keepAfter);
+            recentUsersAddedAt.entrySet().removeIf(entry -> {
+                boolean stale = entry.getValue() < keepAfter;
+                if (stale) {
+                    recentUsers.remove(entry.getKey());
+                }
+                return stale;
+            });
+            recentTokens.keySet().forEach(rebuilt.tokens()::put);
+            recentUsers.forEach((userId, cutoff) -> rebuilt.userCutoffs().merge(userId, cutoff, TokenRevocationService::latest));
+
+            log.debug("Revocation filter rebuilt: {} tokens, {} users", jtis.size(), userRevocations.size());
+        } catch (RuntimeException e) {
+            // Mantém o snapshot anterior; a próxima execução tenta de novo
+            log.warn("Could not rebuild token revocation filter: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Remove revogações cujo token já expirou de qualquer forma
+     */
+    @Scheduled(cron = "${jwt.revocation.purge-cron:0 0 * * * *}")
+    @Transactional
+    public void purgeExpired() {
+        int removed = revokedTokenRepository.deleteExpired(Instant.now());
+        if (removed > 0) {
+            log.info("Purged {} expired token revocations", removed);
+        }
+    }
+
+    // ==================== MÉTODOS AUXILIARES ====================
+
+    private static Snapshot emptySnapshot(int expectedTokens) {
+        int expected = Math.max(MIN_EXPECTED_INSERTIONS, expectedTokens * 2);
+        return new Snapshot(new BloomFilter(expected, FALSE_POSITIVE_RATE), new ConcurrentHashMap<>());
+    }
+
+    private static Counter checkCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("mugen.jwt.revocation.checks")
+                .description("Checagens de revogação por resultado")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    private static Instant latest(Instant a, Instant b) {
+        return a.isAfter(b) ? a : b;
+    }
+
+    private static UUID parseUuid(String value) {
+        if (value == null) {
+            return null;
+        }
+        try {
+            return UUID.fromString(value);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+}
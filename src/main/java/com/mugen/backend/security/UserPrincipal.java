@@ -0,0 +1,50 @@
+package com.mugen.backend.security;
+
+import com.mugen.backend.entity.Role;
+import com.mugen.backend.entity.User;
+
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * Snapshot imutável de um usuário e suas roles, usado pelo PrincipalCache
+ * Roles guardadas pelo nome puro (PLAYER, MASTER, ADMIN), sem o prefixo ROLE_
+ */
+public record UserPrincipal(UUID id,
+                            String email,
+                            String displayName,
+                            String passwordHash,
+                            boolean active,
+                            Set<String> roles) {
+
+    /**
+     * Requer as roles já carregadas (ex: findByEmailWithRoles / findByIdWithRoles)
+     */
+    public static UserPrincipal from(User user) {
+        Set<String> roleNames = user.getRoles().stream()
+                .map(Role::getName)
+                .collect(Collectors.toUnmodifiableSet());
+
+        return new UserPrincipal(
+                user.getId(),
+                user.getEmail(),
+                user.getDisplayName(),
+                user.getPasswordHash(),
+                !Boolean.FALSE.equals(user.getIsActive()),
+                roleNames
+        );
+    }
+
+    public boolean hasRole(Role.RoleName roleName) {
+        return roles.contains(roleName.name());
+    }
+
+    /**
+     * Nunca expor o hash da senha em logs
+     */
+    @Override
+    public String toString() {
+        return "UserPrincipal[id=" + id + ", email=" + email + ", active=" + active + ", roles=" + roles + "]";
+    }
+}
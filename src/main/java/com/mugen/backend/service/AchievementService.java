@@ -1,6 +1,7 @@
 package com.mugen.backend.service;
 
 import com.mugen.backend.dto.achievement.AwardTPRequest;
+import com.mugen.backend.dto.achievement.CharacterAchievementDTO;
 import com.mugen.backend.dto.achievement.CreateAchievementRequest;
 import com.mugen.backend.entity.Achievement;
 import com.mugen.backend.entity.character.Character;
@@ -8,6 +9,7 @@ import com.mugen.backend.entity.character.CharacterAchievement;
 import com.mugen.backend.repository.CharacterRepository;
 import com.mugen.backend.repository.achievement.AchievementRepository;
 import com.mugen.backend.repository.achievement.CharacterAchievementRepository;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -135,6 +137,7 @@ public class AchievementService {
      * Debloqueia um achievement para um personagem
      */
     @Transactional
+    @Timed(value = "mugen.achievement.unlock", histogram = true)
     public CharacterAchievement unlockAchievement(UUID characterId, Integer achievementId, String notificationMessage) {
         log.info("Unlocking achievement {} for character {}", achievementId, characterId);
 
@@ -190,6 +193,26 @@ public class AchievementService {
         return characterAchievementRepository.findByCharacterIdOrderByObtainedAtDesc(characterId);
     }
 
+    /**
+     * Achievements do personagem já convertidos em DTO (achievement carregado no mesmo SELECT)
+     * Seguro para serializar fora da transação
+     */
+    public List<CharacterAchievementDTO> getCharacterAchievementDTOs(UUID characterId) {
+        return characterAchievementRepository.findWithAchievementByCharacterId(characterId).stream()
+                .map(ca -> CharacterAchievementDTO.builder()
+                        .id(ca.getId())
+                        .achievementId(ca.getAchievement().getId())
+                        .achievementKeyName(ca.getAchievement().getKeyName())
+                        .achievementTitle(ca.getAchievement().getTitle())
+                        .achievementDescription(ca.getAchievement().getDescription())
+                        .rewardTp(ca.getAchievement().getRewardTp())
+                        .category(ca.getAchievement().getCategory())
+                        .obtainedAt(ca.getObtainedAt())
+                        .notificationMessage(ca.getNotificationMessage())
+                        .build())
+                .toList();
+    }
+
     /**
      * Obtém achievements de um personagem por categoria
      */
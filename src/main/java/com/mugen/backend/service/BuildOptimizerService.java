@@ -0,0 +1,198 @@
+package com.mugen.backend.service;
+
+import com.mugen.backend.dto.character.CharacterStatInput;
+import com.mugen.backend.dto.tp.BuildOptimization;
+import com.mugen.backend.dto.tp.OptimizeBuildRequest;
+import com.mugen.backend.exception.CharacterNotFoundException;
+import com.mugen.backend.formula.StatFormulas;
+import com.mugen.backend.formula.StatFormulas.Stat;
+import com.mugen.backend.repository.CharacterRepository;
+import io.micrometer.core.annotation.Timed;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Otimizador de build: melhor distribuição de um orçamento de TP entre os 6 atributos
+ *
+ * Objetivo = soma ponderada dos stats derivados (mesmo StatKernel do CharacterStatService).
+ * Mochila por grupos: para cada atributo, todas as quantidades de pontos até 120 com o custo
+ * da curva em faixas (TPCostTable, breakpoints 50/80/120); a DP escolhe a combinação de maior ganho.
+ * O ganho de cada atributo é medido com os outros nos valores atuais: exato para fórmulas em que
+ * cada stat depende de um atributo só (caso das fórmulas padrão). Se algum stat com peso lê mais de
+ * um atributo (StatFormulas.multiAttributeStats), o resultado vem com exact=false e esses stats listados.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class BuildOptimizerService {
+
+    private static final double EPSILON = 1e-9;
+
+    private final CharacterRepository characterRepository;
+
+    @Transactional(readOnly = true)
+    @Timed(value = "mugen.tp.operation", extraTags = {"operation", "optimize_build"}, histogram = true)
+    public BuildOptimization optimize(UUID characterId, OptimizeBuildRequest request) {
+        CharacterStatInput input = characterRepository.findStatInputsByIdIn(List.of(characterId)).stream()
+                .findFirst()
+                .orElseThrow(() -> new CharacterNotFoundException(characterId));
+
+        int[] current = {input.str(), input.dex(), input.con(), input.wil(), input.mnd(), input.spi()};
+        double transform = input.transformationMultiplier() != null
+                ? input.transformationMultiplier().doubleValue()
+                : 1.0;
+
+        BuildOptimization result = optimize(characterId, current, input.raceModifier().doubleValue(), transform,
+                request.getBudget(), parseWeights(request.getWeights()));
+
+        log.debug("Build optimized for character {}: {} ({} of {} TP)",
+                characterId, result.allocation(), result.tpCost(), result.budget());
+        return result;
+    }
+
+    /**
+     * Otimização pura (sem banco); weights indexado por Stat.ordinal()
+     */
+    public BuildOptimization optimize(UUID characterId, int[] current, double raceModifier,
+                                      double transformationMultiplier, int budget, double[] weights) {
+        int attributeCount = StatKernel.ATTRIBUTE_COUNT;
+
+        // Nenhuma build custa mais que levar tudo a 120: limita o tamanho da tabela da DP
+        int maxUsefulBudget = 0;
+        for (int value : current) {
+            maxUsefulBudget += TPCostTable.costToMax(value);
+        }
+        int capacity = Math.min(budget, maxUsefulBudget);
+
+        // 1️⃣ Ganho e custo de cada quantidade de pontos, por atributo
+        double[] stats = new double[StatKernel.STAT_COUNT];
+        StatKernel.compute(current, 0, raceModifier, transformationMultiplier, stats, 0);
+        double baseScore = score(stats, weights);
+
+        double[][] gains = new double[attributeCount][];
+        int[][] costs = new int[attributeCount][];
+        int[] probe = current.clone();
+        for (int a = 0; a < attributeCount; a++) {
+            int maxPoints = TPCostTable.MAX_ATTRIBUTE_VALUE - current[a];
+            gains[a] = new double[maxPoints + 1];
+            costs[a] = new int[maxPoints + 1];
+            for (int k = 1; k <= maxPoints; k++) {
+                probe[a] = current[a] + k;
+                StatKernel.compute(probe, 0, raceModifier, transformationMultiplier, stats, 0);
+                gains[a][k] = score(stats, weights) - baseScore;
+                costs[a][k] = TPCostTable.cost(current[a], k);
+            }
+            probe[a] = current[a];
+        }
+
+        // 2️⃣ DP: best[b] = maior ganho gastando no máximo b TP com os atributos já vistos
+        double[] best = new double[capacity + 1];
+        int[][] choice = new int[attributeCount][capacity + 1];
+        for (int a = 0; a < attributeCount; a++) {
+            double[] next = new double[capacity + 1];
+            for (int b = 0; b <= capacity; b++) {
+                double bestValue = best[b];
+                int bestPoints = 0;
+                for (int k = 1; k < costs[a].length && costs[a][k] <= b; k++) {
+                    double value = best[b - costs[a][k]] + gains[a][k];
+                    if (value > bestValue + EPSILON) {
+                        bestValue = value;
+                        bestPoints = k;
+                    }
+                }
+                next[b] = bestValue;
+                choice[a][b] = bestPoints;
+            }
+            best = next;
+        }
+
+        // 3️⃣ Reconstrução da escolha, do último atributo para o primeiro
+        int[] points = new int[attributeCount];
+        int remaining = capacity;
+        for (int a = attributeCount - 1; a >= 0; a--) {
+            points[a] = choice[a][remaining];
+            remaining -= costs[a][points[a]];
+        }
+
+        List<String> approximatedStats = StatFormulas.multiAttributeStats().stream()
+                .filter(stat -> weights[stat.ordinal()] != 0)
+                .map(Stat::key)
+                .toList();
+        if (!approximatedStats.isEmpty()) {
+            log.warn("Build for character {} is approximate: {} depend on more than one attribute",
+                    characterId, approximatedStats);
+        }
+
+        return toResult(characterId, current, points, raceModifier, transformationMultiplier, budget, weights,
+                approximatedStats);
+    }
+
+    // ==================== MÉTODOS AUXILIARES ====================
+
+    private BuildOptimization toResult(UUID characterId, int[] current, int[] points, double raceModifier,
+                                       double transformationMultiplier, int budget, double[] weights,
+                                       List<String> approximatedStats) {
+        int[] resulting = new int[current.length];
+        int tpCost = 0;
+        Map<String, Integer> allocation = new LinkedHashMap<>();
+        Map<String, Integer> resultingAttributes = new LinkedHashMap<>();
+        for (int a = 0; a < current.length; a++) {
+            resulting[a] = current[a] + points[a];
+            tpCost += TPCostTable.cost(current[a], points[a]);
+            allocation.put(StatKernel.ATTRIBUTE_NAMES.get(a), points[a]);
+            resultingAttributes.put(StatKernel.ATTRIBUTE_NAMES.get(a), resulting[a]);
+        }
+
+        double[] before = new double[StatKernel.STAT_COUNT];
+        double[] after = new double[StatKernel.STAT_COUNT];
+        StatKernel.compute(current, 0, raceModifier, transformationMultiplier, before, 0);
+        StatKernel.compute(resulting, 0, raceModifier, transformationMultiplier, after, 0);
+
+        Map<String, Double> statGains = new LinkedHashMap<>();
+        for (Stat stat : Stat.values()) {
+            statGains.put(stat.key(), after[stat.ordinal()] - before[stat.ordinal()]);
+        }
+
+        return new BuildOptimization(characterId, budget, tpCost, allocation, resultingAttributes, statGains,
+                score(after, weights) - score(before, weights), approximatedStats.isEmpty(), approximatedStats);
+    }
+
+    private static double score(double[] stats, double[] weights) {
+        double total = 0;
+        for (int s = 0; s < weights.length; s++) {
+            total += stats[s] * weights[s];
+        }
+        return total;
+    }
+
+    /**
+     * Pesos do request → vetor por Stat.ordinal(); aceita snake_case e camelCase
+     */
+    private static double[] parseWeights(Map<String, Double> requested) {
+        double[] weights = new double[Stat.values().length];
+        boolean anyWeight = false;
+        for (Map.Entry<String, Double> entry : requested.entrySet()) {
+            String key = entry.getKey().replaceAll("([a-z])([A-Z])", "$1_$2").toLowerCase(Locale.ROOT);
+            Stat stat = Stat.fromKey(key)
+                    .orElseThrow(() -> new IllegalArgumentException("Unknown stat in weights: " + entry.getKey()));
+            Double weight = entry.getValue();
+            if (weight == null || !Double.isFinite(weight)) {
+                throw new IllegalArgumentException("Weight for " + entry.getKey() + " must be a finite number");
+            }
+            weights[stat.ordinal()] = weight;
+            anyWeight |= weight != 0;
+        }
+        if (!anyWeight) {
+            throw new IllegalArgumentException("At least one weight must be different from zero");
+        }
+        return weights;
+    }
+}
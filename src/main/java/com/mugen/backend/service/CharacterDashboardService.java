@@ -0,0 +1,233 @@
+package com.mugen.backend.service;
+
+import com.mugen.backend.config.DashboardProperties;
+import com.mugen.backend.dto.achievement.CharacterAchievementDTO;
+import com.mugen.backend.dto.character.CharacterDashboard;
+import com.mugen.backend.dto.character.CharacterDashboardRow;
+import com.mugen.backend.dto.character.CharacterDetailView;
+import com.mugen.backend.dto.character.CharacterStats;
+import com.mugen.backend.dto.equipment.EquipmentStatsDTO;
+import com.mugen.backend.dto.inventory.InventoryInfoDTO;
+import com.mugen.backend.dto.tp.TPSummary;
+import com.mugen.backend.entity.character.CharacterAttribute;
+import com.mugen.backend.repository.CharacterRepository;
+import com.mugen.backend.service.inventory.InventoryService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.concurrent.DelegatingSecurityContextCallable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Monta a tela do personagem numa única chamada
+ *
+ * O personagem (ficha + atributos, modificadores e id do inventário) é resolvido uma vez na thread
+ * da requisição e passado às seções, que não voltam a buscá-lo; as seções independentes
+ * (stats, inventário, equipamento, TP, achievements) rodam em paralelo num executor limitado,
+ * cada uma na sua transação somente leitura. Seção que falha, estoura o prazo ou não
+ * encontra thread livre volta null e é listada em "unavailable" - o resto da resposta segue.
+ */
+@Service
+@Slf4j
+public class CharacterDashboardService {
+
+    static final String STATS = "stats";
+    static final String INVENTORY = "inventory";
+    static final String EQUIPMENT = "equipment";
+    static final String TP_SUMMARY = "tpSummary";
+    static final String ACHIEVEMENTS = "achievements";
+
+    private final CharacterService characterService;
+    private final CharacterRepository characterRepository;
+    private final CharacterStatsCache statsCache;
+    private final InventoryService inventoryService;
+    private final EquipmentService equipmentService;
+    private final TPService tpService;
+    private final AchievementService achievementService;
+    private final ExperienceService experienceService;
+    private final DashboardProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final TransactionTemplate readOnlyTransaction;
+    private final ThreadPoolExecutor executor;
+
+    public CharacterDashboardService(CharacterService characterService,
+                                     CharacterRepository characterRepository,
+                                     CharacterStatsCache statsCache,
+                                     InventoryService inventoryService,
+                                     EquipmentService equipmentService,
+                                     TPService tpService,
+                                     AchievementService achievementService,
+                                     ExperienceService experienceService,
+                                     DashboardProperties properties,
+                                     PlatformTransactionManager transactionManager,
+                                     MeterRegistry meterRegistry) {
+        this.characterService = characterService;
+        this.characterRepository = characterRepository;
+        this.statsCache = statsCache;
+        this.inventoryService = inventoryService;
+        this.equipmentService = equipmentService;
+        this.tpService = tpService;
+        this.achievementService = achievementService;
+        this.experienceService = experienceService;
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+
+        // Timeout da transação vira query timeout no JDBC: seção atrasada também para no banco
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.readOnlyTransaction.setTimeout((int) Math.max(1, TimeUnit.MILLISECONDS.toSeconds(
+                properties.getSectionTimeoutMs() + 999)));
+
+        int poolSize = Math.max(1, properties.getThreads());
+        AtomicInteger threadCounter = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(
+                poolSize, poolSize,
+                0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(properties.getQueueCapacity()),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "character-dashboard-" + threadCounter.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy()
+        );
+
+        Gauge.builder("mugen.character.dashboard.queue.depth", executor, e -> e.getQueue().size())
+                .description("Seções do dashboard aguardando thread")
+                .register(meterRegistry);
+        Gauge.builder("mugen.character.dashboard.active", executor, ThreadPoolExecutor::getActiveCount)
+                .description("Seções do dashboard em execução")
+                .register(meterRegistry);
+
+        log.info("Character dashboard executor started: {} threads, queue capacity {}",
+                poolSize, properties.getQueueCapacity());
+    }
+
+    /**
+     * Dashboard completo (ou parcial) do personagem; vazio quando o personagem não existe
+     */
+    public Optional<CharacterDashboard> getDashboard(UUID characterId) {
+        Optional<CharacterDetailView> detail = characterService.getCharacterDetail(characterId);
+        if (detail.isEmpty()) {
+            return Optional.empty();
+        }
+        // Versão lida antes da linha: uma mutação commitada no meio não deixa stats antigos no cache
+        long statsVersion = statsCache.version(characterId);
+        Optional<CharacterDashboardRow> context = characterRepository.findDashboardRowById(characterId);
+        if (context.isEmpty()) {
+            return Optional.empty();
+        }
+
+        CharacterDetailView character = detail.get();
+        CharacterDashboardRow row = context.get();
+        CharacterAttribute attributes = CharacterAttribute.builder()
+                .str(row.str()).dex(row.dex()).con(row.con())
+                .wil(row.wil()).mnd(row.mnd()).spi(row.spi())
+                .build();
+        int currentTP = character.tp() != null ? character.tp() : 0;
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(properties.getSectionTimeoutMs());
+
+        Future<CharacterStats> stats = submit(STATS, () -> statsCache.get(row.toStatInput(), statsVersion));
+        Future<InventoryInfoDTO> inventory =
+                submit(INVENTORY, () -> inventoryService.getInventoryInfo(characterId, row.inventoryId()));
+        Future<EquipmentStatsDTO> equipment =
+                submit(EQUIPMENT, () -> equipmentService.getEquipmentStats(characterId, attributes));
+        Future<TPSummary> tpSummary = submit(TP_SUMMARY, () -> tpService.getTPSummary(characterId, currentTP));
+        Future<List<CharacterAchievementDTO>> achievements =
+                submit(ACHIEVEMENTS, () -> achievementService.getCharacterAchievementDTOs(characterId));
+
+        // Só a thread da requisição escreve aqui
+        Map<String, String> unavailable = new LinkedHashMap<>();
+        CharacterDashboard dashboard = new CharacterDashboard(
+                character,
+                experienceService.getLevelProgress(character.level(), character.exp()),
+                await(characterId, STATS, stats, deadline, unavailable),
+                await(characterId, INVENTORY, inventory, deadline, unavailable),
+                await(characterId, EQUIPMENT, equipment, deadline, unavailable),
+                await(characterId, TP_SUMMARY, tpSummary, deadline, unavailable),
+                await(characterId, ACHIEVEMENTS, achievements, deadline, unavailable),
+                Collections.unmodifiableMap(unavailable)
+        );
+
+        if (!dashboard.isComplete()) {
+            log.warn("Partial dashboard for character {}: {}", characterId, unavailable);
+        }
+        return Optional.of(dashboard);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    // ==================== MÉTODOS AUXILIARES ====================
+
+    private <T> Future<T> submit(String section, Supplier<T> work) {
+        Timer timer = Timer.builder("mugen.character.dashboard.section")
+                .description("Tempo de execução de cada seção do dashboard")
+                .tag("section", section)
+                .register(meterRegistry);
+
+        DelegatingSecurityContextCallable<T> task = new DelegatingSecurityContextCallable<>(
+                () -> timer.record(() -> readOnlyTransaction.execute(status -> work.get())));
+        try {
+            return executor.submit(task);
+        } catch (RejectedExecutionException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    private <T> T await(UUID characterId, String section, Future<T> future, long deadline,
+                        Map<String, String> unavailable) {
+        String reason;
+        try {
+            return future.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            reason = "timeout";
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            future.cancel(true);
+            reason = "interrupted";
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RejectedExecutionException) {
+                reason = "busy";
+            } else {
+                log.warn("Dashboard section {} failed for character {}: {}",
+                        section, characterId, e.getCause().getMessage());
+                reason = "error";
+            }
+        }
+
+        Counter.builder("mugen.character.dashboard.unavailable")
+                .description("Seções do dashboard que voltaram vazias")
+                .tag("section", section)
+                .tag("reason", reason)
+                .register(meterRegistry)
+                .increment();
+        unavailable.put(section, reason);
+        return null;
+    }
+}
@@ -1,6 +1,18 @@
 package com.mugen.backend.service;
 
+import com.mugen.backend.dto.CursorPage;
+import com.mugen.backend.dto.character.CharacterBatchResponse;
+import com.mugen.backend.dto.character.CharacterCursor;
 import com.mugen.backend.dto.character.CharacterDTO;
+import com.mugen.backend.dto.character.CharacterDetailView;
+import com.mugen.backend.dto.character.CharacterSearchHit;
+import com.mugen.backend.dto.character.CharacterSkillRow;
+import com.mugen.backend.dto.character.CharacterSkillView;
+import com.mugen.backend.dto.character.CharacterStats;
+import com.mugen.backend.dto.character.CharacterStatsBatchResponse;
+import com.mugen.backend.dto.character.CharacterSummaryView;
+import com.mugen.backend.dto.character.CharacterTransformationRow;
+import com.mugen.backend.dto.character.CharacterTransformationView;
 import com.mugen.backend.dto.character.UpdateCharacterDTO;
 import com.mugen.backend.entity.Race;
 import com.mugen.backend.entity.Skill;
@@ -9,21 +21,31 @@ import com.mugen.backend.entity.character.Character;
 import com.mugen.backend.entity.character.CharacterSkill;
 import com.mugen.backend.entity.character.CharacterSkillId;
 import com.mugen.backend.exception.CharacterNotFoundException;
+import com.mugen.backend.leaderboard.LeaderboardService;
 import com.mugen.backend.repository.CharacterRepository;
 import com.mugen.backend.repository.RaceRepository;
 import com.mugen.backend.repository.UserRepository;
 import com.mugen.backend.repository.skills.CharacterSkillRepository;
 import com.mugen.backend.repository.skills.SkillRepository;
+import com.mugen.backend.security.CharacterOwnershipIndex;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -36,6 +58,11 @@ public class CharacterService {
     private final CharacterRepository characterRepository;
     private final UserRepository userRepository;
     private final RaceRepository raceRepository;
+    private final CharacterOwnershipIndex ownershipIndex;
+    private final LeaderboardService leaderboardService;
+    private final CharacterStatsCache statsCache;
+
+    private static final int MAX_CURSOR_PAGE_SIZE = 100;
 
     private static final int MAX_CHARACTERS_PER_USER = 5;
     private static final int STARTING_TP = 10;
@@ -84,7 +111,7 @@ public class CharacterService {
      */
     @Transactional(readOnly = true)
     public long countAll() {
-        log.info("Counting total characters in the system");
+        log.debug("Counting total characters in the system");
         long total = characterRepository.count();
         log.debug("Total characters: {}", total);
         return total;
@@ -153,6 +180,8 @@ public class CharacterService {
         // ⚠️CRÍTICO: Apenas cria Character (lembrar GIOVANNI DEV!)
         // CharacterAttribute será criado AUTOMATICAMENTE pela Race via JPA cascade
         Character saved = characterRepository.save(character);
+        ownershipIndex.put(saved.getId(), owner.getId());
+        leaderboardService.update(saved);
 
         log.info("Character created successfully with id: {}", saved.getId());
         return saved;
@@ -166,30 +195,20 @@ public class CharacterService {
      */
     @Transactional(readOnly = true)
     public List<Character> getAllCharacters() {
-        log.info("Finding all characters without pagination");
+        log.debug("Finding all characters without pagination");
         return characterRepository.findAll();
     }
 
-    /**
-     * Buscar todos os personagens com paginação
-     * Usado no endpoint GET /api/characters
-     */
-    @Transactional(readOnly = true)
-    public Page<Character> getAllCharacters(Pageable pageable) {
-        log.info("Finding all characters with pagination");
-        return characterRepository.findAllWithDetails(pageable);
-    }
-
     @Transactional(readOnly = true)
     public Character getCharacterById(UUID id) {
-        log.info("Finding character by id: {}", id);
+        log.debug("Finding character by id: {}", id);
         return characterRepository.findById(id)
                 .orElseThrow(() -> new CharacterNotFoundException(id));
     }
 
     @Transactional(readOnly = true)
     public List<Character> getCharactersByOwner(UUID ownerId) {
-        log.info("Finding characters by owner id: {}", ownerId);
+        log.debug("Finding characters by owner id: {}", ownerId);
 
         // Validar se o usuário existe
         if (!userRepository.existsById(ownerId)) {
@@ -201,7 +220,7 @@ public class CharacterService {
 
     @Transactional(readOnly = true)
     public Page<Character> getCharactersByOwnerPaginated(UUID ownerId, Pageable pageable) {
-        log.info("Finding characters by owner id: {} with pagination", ownerId);
+        log.debug("Finding characters by owner id: {} with pagination", ownerId);
 
         // Validar se o usuário existe
         if (!userRepository.existsById(ownerId)) {
@@ -211,9 +230,146 @@ public class CharacterService {
         return characterRepository.findByOwnerId(ownerId, pageable);
     }
 
+    // ========== PROJEÇÕES DE LEITURA (endpoints GET) ==========
+
+    /**
+     * Detalhe do personagem em 3 SQL fixos (linha principal + skills + transformações)
+     */
+    @Transactional(readOnly = true)
+    public Optional<CharacterDetailView> getCharacterDetail(UUID id) {
+        return characterRepository.findDetailById(id)
+                .map(detail -> detail.withCollections(
+                        characterRepository.findSkillViews(id),
+                        characterRepository.findTransformationViews(id)));
+    }
+
+    /**
+     * Detalhe de vários personagens: 3 SQL (detalhes, skills, transformações) para qualquer quantidade
+     * A posse é checada pelo ownerId da própria projeção; coleções só são carregadas para os permitidos
+     */
+    @Transactional(readOnly = true)
+    public CharacterBatchResponse getCharacterDetails(List<UUID> ids, UUID requesterId, boolean canSeeAll) {
+        Set<UUID> requested = new LinkedHashSet<>(ids);
+        Map<UUID, CharacterDetailView> found = characterRepository.findDetailsByIdIn(requested).stream()
+                .collect(Collectors.toMap(CharacterDetailView::id, Function.identity()));
+
+        List<UUID> missing = new ArrayList<>();
+        List<UUID> forbidden = new ArrayList<>();
+        List<UUID> allowed = new ArrayList<>();
+        for (UUID id : requested) {
+            CharacterDetailView detail = found.get(id);
+            if (detail == null) {
+                missing.add(id);
+            } else if (canSeeAll || detail.ownerId().equals(requesterId)) {
+                allowed.add(id);
+            } else {
+                forbidden.add(id);
+            }
+        }
+
+        if (allowed.isEmpty()) {
+            return new CharacterBatchResponse(List.of(), missing, forbidden);
+        }
+
+        Map<UUID, List<CharacterSkillView>> skills = characterRepository.findSkillRowsByCharacterIds(allowed).stream()
+                .collect(Collectors.groupingBy(CharacterSkillRow::characterId,
+                        Collectors.mapping(CharacterSkillRow::toView, Collectors.toList())));
+        Map<UUID, List<CharacterTransformationView>> transformations =
+                characterRepository.findTransformationRowsByCharacterIds(allowed).stream()
+                        .collect(Collectors.groupingBy(CharacterTransformationRow::characterId,
+                                Collectors.mapping(CharacterTransformationRow::toView, Collectors.toList())));
+
+        List<CharacterDetailView> characters = allowed.stream()
+                .map(id -> found.get(id).withCollections(
+                        skills.getOrDefault(id, List.of()),
+                        transformations.getOrDefault(id, List.of())))
+                .toList();
+
+        if (!forbidden.isEmpty()) {
+            log.warn("❌ User {} denied access to characters {}", requesterId, forbidden);
+        }
+        return new CharacterBatchResponse(characters, missing, forbidden);
+    }
+
+    /**
+     * Stats de vários personagens numa chamada (party, tela do mestre)
+     * Cache primeiro; os que faltam saem de uma query e de uma passada do StatKernel
+     */
+    @Transactional(readOnly = true)
+    public CharacterStatsBatchResponse getCharacterStats(List<UUID> ids, UUID requesterId, boolean canSeeAll) {
+        Set<UUID> requested = new LinkedHashSet<>(ids);
+        Map<UUID, CharacterStats> found = statsCache.getAll(requested);
+
+        Map<UUID, CharacterStats> stats = new LinkedHashMap<>();
+        List<UUID> missing = new ArrayList<>();
+        List<UUID> forbidden = new ArrayList<>();
+        for (UUID id : requested) {
+            CharacterStats characterStats = found.get(id);
+            if (characterStats == null) {
+                missing.add(id);
+            } else if (canSeeAll || ownershipIndex.isOwner(id, requesterId)) {
+                stats.put(id, characterStats);
+            } else {
+                forbidden.add(id);
+            }
+        }
+
+        if (!forbidden.isEmpty()) {
+            log.warn("❌ User {} denied access to stats of characters {}", requesterId, forbidden);
+        }
+        return new CharacterStatsBatchResponse(stats, missing, forbidden);
+    }
+
+    @Transactional(readOnly = true)
+    public Page<CharacterSummaryView> getCharacterSummaries(Pageable pageable) {
+        return characterRepository.findAllSummaries(pageable);
+    }
+
+    /**
+     * Paginação por cursor (keyset) em (created_at DESC, id DESC)
+     * Busca size + 1 linhas para saber se existe próxima página
+     */
+    @Transactional(readOnly = true)
+    public CursorPage<CharacterSummaryView> getCharacterSummariesByCursor(String cursor, int size) {
+        int pageSize = Math.max(1, Math.min(size, MAX_CURSOR_PAGE_SIZE));
+        Limit limit = Limit.of(pageSize + 1);
+
+        List<CharacterSummaryView> rows;
+        if (cursor == null || cursor.isBlank()) {
+            rows = characterRepository.findSummariesFirstPage(limit);
+        } else {
+            CharacterCursor position = CharacterCursor.decode(cursor);
+            rows = characterRepository.findSummariesAfter(position.createdAt(), position.id(), limit);
+        }
+
+        boolean hasMore = rows.size() > pageSize;
+        List<CharacterSummaryView> items = hasMore ? rows.subList(0, pageSize) : rows;
+        String nextCursor = hasMore ? CharacterCursor.of(items.get(items.size() - 1)).encode() : null;
+        return new CursorPage<>(List.copyOf(items), nextCursor, hasMore);
+    }
+
+    /**
+     * Busca por nome: prefixo primeiro, depois aproximada (pg_trgm)
+     */
+    @Transactional(readOnly = true)
+    public List<CharacterSearchHit> searchCharacters(String query, int limit) {
+        NameSearch search = NameSearch.of(query, limit);
+        return characterRepository.searchByName(search.term(), search.prefixPattern(), search.limit());
+    }
+
+    @Transactional(readOnly = true)
+    public List<CharacterSummaryView> getCharacterSummariesByOwner(UUID ownerId) {
+        // Validar se o usuário existe
+        if (!userRepository.existsById(ownerId)) {
+            throw new IllegalArgumentException("User not found with id: " + ownerId);
+        }
+
+        return characterRepository.findSummariesByOwnerId(ownerId);
+    }
+
     @Transactional(readOnly = true)
     public long countCharactersByOwner(UUID ownerId) {
-        log.info("Counting characters for owner: {}", ownerId);
+        log.debug("Counting characters for owner: {}", ownerId);
         return characterRepository.countByOwnerId(ownerId);
     }
 
@@ -254,6 +410,7 @@ public class CharacterService {
         }
 
         Character updated = characterRepository.save(character);
+        leaderboardService.update(updated);
         log.info("Updated character {} with id {}", updated.getName(), updated.getId());
 
         return updated;
@@ -273,6 +430,7 @@ public class CharacterService {
 
         character.setName(newName);
         Character updated = characterRepository.save(character);
+        leaderboardService.update(updated);
 
         log.info("Character name updated to {}", newName);
         return updated;
@@ -289,6 +447,9 @@ public class CharacterService {
         }
 
         characterRepository.deleteById(id);
+        ownershipIndex.remove(id);
+        leaderboardService.remove(id);
+        statsCache.forget(id);
         log.info("Character deleted successfully: {}", id);
     }
 
@@ -301,16 +462,18 @@ public class CharacterService {
 
         character.setIsActive(false);
         characterRepository.save(character);
+        leaderboardService.remove(id);
 
         log.info("Character soft deleted: {}", id);
     }
 
     // ========== UTILITÁRIOS ==========
 
+    /**
+     * Checagem de posse via índice em memória (banco só se o personagem não estiver indexado)
+     */
     public boolean isOwner(UUID characterId, UUID userId) {
-        return characterRepository.findById(characterId)
-                .map(character -> character.getOwner().getId().equals(userId))
-                .orElse(false);
+        return ownershipIndex.isOwner(characterId, userId);
     }
 
     public long countByOwnerId(UUID ownerId) {
@@ -320,7 +483,11 @@ public class CharacterService {
     @Transactional
     public Character updateCharacter(Character character) {
         log.info("Updating character: {}", character.getName());
-        return characterRepository.save(character);
+        Character updated = characterRepository.save(character);
+        leaderboardService.update(updated);
+        // Entidade genérica: pode ter mudado transformação ativa ou atributos
+        statsCache.invalidate(updated.getId());
+        return updated;
     }
 
     // ========== SKILLS ==========
@@ -366,7 +533,7 @@ public class CharacterService {
      */
     @Transactional(readOnly = true)
     public List<CharacterSkill> getCharacterSkills(UUID characterId) {
-        log.info("Getting skills for character {}", characterId);
+        log.debug("Getting skills for character {}", characterId);
 
         // Validar se personagem existe
         if (!characterRepository.existsById(characterId)) {
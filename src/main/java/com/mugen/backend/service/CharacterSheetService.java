@@ -0,0 +1,104 @@
+package com.mugen.backend.service;
+
+import com.mugen.backend.dto.character.CharacterSheetRow;
+import com.mugen.backend.dto.character.EffectiveCharacterSheet;
+import com.mugen.backend.dto.character.EffectiveCharacterSheet.Attributes;
+import com.mugen.backend.dto.character.EffectiveCharacterSheet.DerivedStats;
+import com.mugen.backend.repository.CharacterRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Ficha efetiva do personagem: um único caminho para atributos e stats finais
+ *
+ * Uma query (CharacterRepository.findSheetRowById) traz tudo; o pipeline é
+ * base → + bônus de equipamento → modificador da raça → multiplicador da transformação → stats (StatKernel).
+ * O resultado fica memoizado no CharacterStatsCache e é invalidado pelas mesmas mutações dos stats.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class CharacterSheetService {
+
+    private final CharacterRepository characterRepository;
+    private final CharacterStatsCache statsCache;
+
+    @Transactional(readOnly = true)
+    public Optional<EffectiveCharacterSheet> getSheet(UUID characterId) {
+        return statsCache.getSheet(characterId, id -> characterRepository.findSheetRowById(id).map(this::assemble));
+    }
+
+    /**
+     * Pipeline puro (sem banco) a partir da linha já carregada
+     */
+    public EffectiveCharacterSheet assemble(CharacterSheetRow row) {
+        Attributes base = new Attributes(row.str(), row.dex(), row.con(), row.wil(), row.mnd(), row.spi());
+
+        // Armadura só dá STR, DEX e CON
+        Attributes bonus = new Attributes(
+                orZero(row.weaponStrBonus()) + orZero(row.armorStrBonus()),
+                orZero(row.weaponDexBonus()) + orZero(row.armorDexBonus()),
+                orZero(row.weaponConBonus()) + orZero(row.armorConBonus()),
+                orZero(row.weaponWilBonus()),
+                orZero(row.weaponMndBonus()),
+                orZero(row.weaponSpiBonus()));
+
+        Attributes effective = new Attributes(
+                base.str() + bonus.str(),
+                base.dex() + bonus.dex(),
+                base.con() + bonus.con(),
+                base.wil() + bonus.wil(),
+                base.mnd() + bonus.mnd(),
+                base.spi() + bonus.spi());
+
+        BigDecimal transformationMultiplier = row.transformationMultiplier() != null
+                ? row.transformationMultiplier()
+                : BigDecimal.ONE;
+        double race = row.raceModifier().doubleValue();
+        double multiplier = transformationMultiplier.doubleValue();
+
+        double[] out = new double[StatKernel.STAT_COUNT];
+        StatKernel.compute(StatKernel.attributes(effective.str(), effective.dex(), effective.con(),
+                effective.wil(), effective.mnd(), effective.spi()), 0, race, multiplier, out, 0);
+
+        DerivedStats stats = new DerivedStats(
+                out[StatKernel.MELEE_DAMAGE],
+                out[StatKernel.KI_POWER],
+                out[StatKernel.SPEED],
+                out[StatKernel.PHYSICAL_DEFENSE],
+                out[StatKernel.KI_DEFENSE],
+                out[StatKernel.MENTAL_DEFENSE],
+                (int) out[StatKernel.MAX_HP],
+                (int) out[StatKernel.MAX_KI],
+                out[StatKernel.ACTION_TIME]);
+
+        log.debug("Sheet assembled for character {}: effective {}", row.characterId(), effective);
+
+        return new EffectiveCharacterSheet(
+                row.characterId(),
+                row.raceId(),
+                row.raceName(),
+                row.raceModifier(),
+                row.transformationId(),
+                row.transformationName(),
+                transformationMultiplier,
+                row.weaponId(),
+                row.weaponName(),
+                row.armorId(),
+                row.armorName(),
+                base,
+                bonus,
+                effective,
+                stats);
+    }
+
+    private static int orZero(Integer value) {
+        return value != null ? value : 0;
+    }
+}
@@ -1,7 +1,7 @@
 package com.mugen.backend.service;
 
+import com.mugen.backend.dto.character.CharacterStatInput;
 import com.mugen.backend.dto.character.CharacterStats;
-import com.mugen.backend.entity.Race;
 import com.mugen.backend.entity.Transformation;
 import com.mugen.backend.entity.character.Character;
 import com.mugen.backend.entity.character.CharacterAttribute;
@@ -10,6 +10,8 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
 import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
 
 @Service
 @RequiredArgsConstructor
@@ -26,46 +28,12 @@ public class CharacterStatService {
         log.debug("Calculating stats for character: {}", character.getName());
 
         CharacterAttribute attr = character.getAttributes();
-        Race race = character.getRace();
+        BigDecimal raceModifier = character.getRace().getRaceClassModifier();
         Transformation transformation = character.getActiveTransformation();
+        BigDecimal transformationMultiplier = transformation != null ? transformation.getMultiplier() : BigDecimal.ONE;
 
-        // Modificadores
-        double raceModifier = race.getRaceClassModifier().doubleValue();
-        double transformationMultiplier = transformation != null
-                ? transformation.getMultiplier().doubleValue()
-                : 1.0;
-
-        // Calcular stats
-        CharacterStats stats = CharacterStats.builder()
-                // Stats de Combate
-                .meleeDamage(calculateMeleeDamage(attr.getStr(), raceModifier, transformationMultiplier))
-                .kiPower(calculateKiPower(attr.getWil(), raceModifier, transformationMultiplier))
-                .speed(calculateSpeed(attr.getDex(), transformationMultiplier))
-
-                // Stats de Defesa
-                .physicalDefense(calculatePhysicalDefense(attr.getCon(), raceModifier))
-                .kiDefense(calculateKiDefense(attr.getSpi(), raceModifier))
-                .mentalDefense(calculateMentalDefense(attr.getMnd(), raceModifier))
-
-                // Stats de Recursos
-                .maxHp(calculateMaxHp(attr.getCon()))
-                .maxKi(calculateMaxKi(attr.getSpi()))
-                .actionTime(calculateActionTime(attr.getCon()))
-
-                // Modificadores
-                .raceModifier(race.getRaceClassModifier())
-                .transformationMultiplier(transformation != null
-                        ? transformation.getMultiplier()
-                        : BigDecimal.ONE)
-
-                // Stats Base
-                .baseStr(attr.getStr())
-                .baseDex(attr.getDex())
-                .baseCon(attr.getCon())
-                .baseWil(attr.getWil())
-                .baseMnd(attr.getMnd())
-                .baseSpi(attr.getSpi())
-                .build();
+        CharacterStats stats = toStats(attr.getStr(), attr.getDex(), attr.getCon(), attr.getWil(), attr.getMnd(), attr.getSpi(),
+                raceModifier, transformationMultiplier);
 
         log.debug("Calculated stats - MeleeDmg: {}, KiPower: {}, Speed: {}",
                 stats.getMeleeDamage(), stats.getKiPower(), stats.getSpeed());
@@ -74,104 +42,130 @@ public class CharacterStatService {
     }
 
     /**
-     * Calcula dano físico
-     * Fórmula: STR * 2.5 * modificador_raça * multiplicador_transformação
+     * Batch: empacota as entradas em arrays primitivos e calcula tudo numa passada do StatKernel
+     * Resultado na mesma ordem das entradas
      */
-    private Double calculateMeleeDamage(Integer str, double raceModifier, double transformationMultiplier) {
-        return str * 2.5 * raceModifier * transformationMultiplier;
+    public List<CharacterStats> calculateStats(List<CharacterStatInput> inputs) {
+        int count = inputs.size();
+        int[] attributes = new int[count * StatKernel.ATTRIBUTE_COUNT];
+        double[] raceModifiers = new double[count];
+        double[] transformationMultipliers = new double[count];
+
+        for (int i = 0; i < count; i++) {
+            CharacterStatInput input = inputs.get(i);
+            int offset = i * StatKernel.ATTRIBUTE_COUNT;
+            attributes[offset + StatKernel.STR] = input.str();
+            attributes[offset + StatKernel.DEX] = input.dex();
+            attributes[offset + StatKernel.CON] = input.con();
+            attributes[offset + StatKernel.WIL] = input.wil();
+            attributes[offset + StatKernel.MND] = input.mnd();
+            attributes[offset + StatKernel.SPI] = input.spi();
+            raceModifiers[i] = input.raceModifier().doubleValue();
+            transformationMultipliers[i] = input.transformationMultiplier() != null
+                    ? input.transformationMultiplier().doubleValue()
+                    : 1.0;
+        }
+
+        double[] out = new double[count * StatKernel.STAT_COUNT];
+        StatKernel.computeBatch(attributes, raceModifiers, transformationMultipliers, count, out);
+
+        List<CharacterStats> result = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            CharacterStatInput input = inputs.get(i);
+            int offset = i * StatKernel.STAT_COUNT;
+            result.add(CharacterStats.builder()
+                    .meleeDamage(out[offset + StatKernel.MELEE_DAMAGE])
+                    .kiPower(out[offset + StatKernel.KI_POWER])
+                    .speed(out[offset + StatKernel.SPEED])
+                    .physicalDefense(out[offset + StatKernel.PHYSICAL_DEFENSE])
+                    .kiDefense(out[offset + StatKernel.KI_DEFENSE])
+                    .mentalDefense(out[offset + StatKernel.MENTAL_DEFENSE])
+                    .maxHp((int) out[offset + StatKernel.MAX_HP])
+                    .maxKi((int) out[offset + StatKernel.MAX_KI])
+                    .actionTime(out[offset + StatKernel.ACTION_TIME])
+                    .raceModifier(input.raceModifier())
+                    .transformationMultiplier(input.transformationMultiplier() != null
+                            ? input.transformationMultiplier()
+                            : BigDecimal.ONE)
+                    .baseStr(input.str())
+                    .baseDex(input.dex())
+                    .baseCon(input.con())
+                    .baseWil(input.wil())
+                    .baseMnd(input.mnd())
+                    .baseSpi(input.spi())
+                    .build());
+        }
+        return result;
     }
 
     /**
-     * Calcula poder de Ki
-     * Fórmula: WIL * 5.2 * modificador_raça * multiplicador_transformação
-     */
-    private Double calculateKiPower(Integer wil, double raceModifier, double transformationMultiplier) {
-        return wil * 5.2 * raceModifier * transformationMultiplier;
-    }
-
-    /**
-     * Calcula velocidade
-     * Fórmula: 100 + (DEX * 1) * multiplicador_transformação
-     */
-    private Double calculateSpeed(Integer dex, double transformationMultiplier) {
-        return 100 + (dex * 1.0) * transformationMultiplier;
-    }
-
-    /**
-     * Calcula defesa física
-     * Fórmula: CON * 1.8 * modificador_raça
+     * Calcula ‘boost’ de stats ao ativar transformação
+     * Diferença entre os stats com a nova transformação e sem nenhuma; não altera o personagem
      */
-    private Double calculatePhysicalDefense(Integer con, double raceModifier) {
-        return con * 1.8 * raceModifier;
-    }
+    public CharacterStats calculateTransformationBoost(Character character, Transformation newTransformation) {
+        log.debug("Calculating transformation boost for: {}", newTransformation.getName());
 
-    /**
-     * Calcula defesa contra Ki
-     * Fórmula: SPI * 2.0 * modificador_raça
-     */
-    private Double calculateKiDefense(Integer spi, double raceModifier) {
-        return spi * 2.0 * raceModifier;
-    }
+        CharacterAttribute attr = character.getAttributes();
+        double race = character.getRace().getRaceClassModifier().doubleValue();
+        double multiplier = newTransformation.getMultiplier().doubleValue();
 
-    /**
-     * Calcula defesa mental
-     * Fórmula: MND * 1.5 * modificador_raça
-     */
-    private Double calculateMentalDefense(Integer mnd, double raceModifier) {
-        return mnd * 1.5 * raceModifier;
-    }
+        // Mesmas fórmulas ativas, com e sem a transformação, num único buffer: [base | boosted]
+        int[] attributes = StatKernel.attributes(attr.getStr(), attr.getDex(), attr.getCon(),
+                attr.getWil(), attr.getMnd(), attr.getSpi());
+        double[] out = new double[2 * StatKernel.STAT_COUNT];
+        StatKernel.compute(attributes, 0, race, 1.0, out, 0);
+        StatKernel.compute(attributes, 0, race, multiplier, out, StatKernel.STAT_COUNT);
+        int boosted = StatKernel.STAT_COUNT;
 
-    /**
-     * Calcula HP máximo
-     * Fórmula: CON * 20
-     */
-    private Integer calculateMaxHp(Integer con) {
-        return con * 20;
+        return CharacterStats.builder()
+                .meleeDamage(out[boosted + StatKernel.MELEE_DAMAGE] - out[StatKernel.MELEE_DAMAGE])
+                .kiPower(out[boosted + StatKernel.KI_POWER] - out[StatKernel.KI_POWER])
+                .speed(out[boosted + StatKernel.SPEED] - out[StatKernel.SPEED])
+                // Defesas não dependem da transformação
+                .physicalDefense(0.0)
+                .kiDefense(0.0)
+                .mentalDefense(0.0)
+                .transformationMultiplier(newTransformation.getMultiplier())
+                .build();
     }
 
-    /**
-     * Calcula Ki máximo
-     * Fórmula: SPI * 40
-     */
-    private Integer calculateMaxKi(Integer spi) {
-        return spi * 40;
-    }
+    // ==================== MÉTODOS AUXILIARES ====================
 
-    /**
-     * Calcula tempo de ação (para sistema de turnos)
-     * Fórmula: CON * 3.5
-     */
-    private Double calculateActionTime(Integer con) {
-        return con * 3.5;
-    }
+    private CharacterStats toStats(int str, int dex, int con, int wil, int mnd, int spi,
+                                   BigDecimal raceModifier, BigDecimal transformationMultiplier) {
+        // Uma conversão de BigDecimal por chamada; o resto é aritmética primitiva
+        double race = raceModifier.doubleValue();
+        double multiplier = transformationMultiplier.doubleValue();
+        double[] out = new double[StatKernel.STAT_COUNT];
+        StatKernel.compute(StatKernel.attributes(str, dex, con, wil, mnd, spi), 0, race, multiplier, out, 0);
 
-    /**
-     * Calcula ‘boost’ de stats ao ativar transformação
-     */
-    public CharacterStats calculateTransformationBoost(Character character, Transformation newTransformation) {
-        log.debug("Calculating transformation boost for: {}", newTransformation.getName());
+        return CharacterStats.builder()
+                // Stats de Combate
+                .meleeDamage(out[StatKernel.MELEE_DAMAGE])
+                .kiPower(out[StatKernel.KI_POWER])
+                .speed(out[StatKernel.SPEED])
 
-        // Stats atuais (sem transformação)
-        Transformation currentTransformation = character.getActiveTransformation();
-        character.setActiveTransformation(null);
-        CharacterStats baseStats = calculateStats(character);
+                // Stats de Defesa
+                .physicalDefense(out[StatKernel.PHYSICAL_DEFENSE])
+                .kiDefense(out[StatKernel.KI_DEFENSE])
+                .mentalDefense(out[StatKernel.MENTAL_DEFENSE])
 
-        // Stats com nova transformação
-        character.setActiveTransformation(newTransformation);
-        CharacterStats boostedStats = calculateStats(character);
+                // Stats de Recursos
+                .maxHp((int) out[StatKernel.MAX_HP])
+                .maxKi((int) out[StatKernel.MAX_KI])
+                .actionTime(out[StatKernel.ACTION_TIME])
 
-        // Restaurar transformação original
-        character.setActiveTransformation(currentTransformation);
+                // Modificadores
+                .raceModifier(raceModifier)
+                .transformationMultiplier(transformationMultiplier)
 
-        // Retornar diferença
-        return CharacterStats.builder()
-                .meleeDamage(boostedStats.getMeleeDamage() - baseStats.getMeleeDamage())
-                .kiPower(boostedStats.getKiPower() - baseStats.getKiPower())
-                .speed(boostedStats.getSpeed() - baseStats.getSpeed())
-                .physicalDefense(boostedStats.getPhysicalDefense() - baseStats.getPhysicalDefense())
-                .kiDefense(boostedStats.getKiDefense() - baseStats.getKiDefense())
-                .mentalDefense(boostedStats.getMentalDefense() - baseStats.getMentalDefense())
-                .transformationMultiplier(newTransformation.getMultiplier())
+                // Stats Base
+                .baseStr(str)
+                .baseDex(dex)
+                .baseCon(con)
+                .baseWil(wil)
+                .baseMnd(mnd)
+                .baseSpi(spi)
                 .build();
     }
 }
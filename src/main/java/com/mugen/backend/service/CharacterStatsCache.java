@@ -0,0 +1,232 @@
+package com.mugen.backend.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.mugen.backend.dto.character.CharacterStatInput;
+import com.mugen.backend.dto.character.CharacterStats;
+import com.mugen.backend.dto.character.EffectiveCharacterSheet;
+import com.mugen.backend.repository.CharacterRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * Cache dos stats calculados e da ficha efetiva por personagem, validado por um contador de versão
+ *
+ * Stats só mudam com atributos, raça, transformação ou equipamento; cada mutação dessas
+ * chama invalidate(), que incrementa a versão e remove as entradas. Uma leitura concorrente
+ * que carregou o estado antigo grava com a versão antiga e nunca é servida depois.
+ * Mudanças de catálogo (ex: modificador de raça) chamam invalidateAll(), que avança a época global.
+ * Métricas: cache.gets{cache="character.stats"|"character.sheet",result=hit|miss}
+ */
+@Component
+@Slf4j
+public class CharacterStatsCache {
+
+    private static final String CACHE_NAME = "character.stats";
+    private static final String SHEET_CACHE_NAME = "character.sheet";
+
+    private final CharacterRepository characterRepository;
+    private final CharacterStatService statService;
+    private final Cache<UUID, VersionedStats> cache;
+    private final Cache<UUID, VersionedSheet> sheetCache;
+    // Uma entrada por personagem já modificado; removida quando o personagem é deletado
+    private final Map<UUID, Long> versions = new ConcurrentHashMap<>();
+    private final AtomicLong epoch = new AtomicLong();
+
+    public CharacterStatsCache(CharacterRepository characterRepository,
+                               CharacterStatService statService,
+                               MeterRegistry meterRegistry,
+                               @Value("${character.stats-cache.max-size:50000}") long maxSize) {
+        this.characterRepository = characterRepository;
+        this.statService = statService;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .recordStats()
+                .build();
+        this.sheetCache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+        CaffeineCacheMetrics.monitor(meterRegistry, sheetCache, SHEET_CACHE_NAME);
+    }
+
+    /**
+     * Hit não toca o banco; miss carrega só race, attributes e activeTransformation
+     */
+    @Transactional(readOnly = true)
+    public Optional<CharacterStats> get(UUID characterId) {
+        long version = versionOf(characterId);
+        VersionedStats cached = cache.getIfPresent(characterId);
+        if (cached != null && cached.version() == version) {
+            return Optional.of(cached.stats());
+        }
+
+        Optional<CharacterStats> loaded = characterRepository.findByIdForStats(characterId)
+                .map(statService::calculateStats);
+        loaded.ifPresent(stats -> cache.put(characterId, new VersionedStats(version, stats)));
+        return loaded;
+    }
+
+    /**
+     * Entrada já carregada pelo chamador (dashboard): um miss calcula sem ir ao banco
+     * versionBeforeLoad vem de version() lido ANTES da query do chamador; lido depois, uma mutação
+     * commitada no meio gravaria o estado antigo com a versão nova
+     */
+    public CharacterStats get(CharacterStatInput input, long versionBeforeLoad) {
+        long version = versionBeforeLoad;
+        VersionedStats cached = cache.getIfPresent(input.id());
+        if (cached != null && cached.version() == version) {
+            return cached.stats();
+        }
+
+        CharacterStats stats = statService.calculateStats(List.of(input)).get(0);
+        cache.put(input.id(), new VersionedStats(version, stats));
+        return stats;
+    }
+
+    /**
+     * Vários personagens: hits saem do cache, misses numa única query + uma passada do StatKernel
+     * Mapa na ordem dos ids; personagens inexistentes ficam de fora
+     */
+    @Transactional(readOnly = true)
+    public Map<UUID, CharacterStats> getAll(Collection<UUID> characterIds) {
+        Map<UUID, CharacterStats> hits = new HashMap<>();
+        Map<UUID, Long> missVersions = new HashMap<>();
+        for (UUID characterId : characterIds) {
+            long version = versionOf(characterId);
+            VersionedStats cached = cache.getIfPresent(characterId);
+            if (cached != null && cached.version() == version) {
+                hits.put(characterId, cached.stats());
+            } else {
+                missVersions.put(characterId, version);
+            }
+        }
+
+        if (!missVersions.isEmpty()) {
+            List<CharacterStatInput> inputs = characterRepository.findStatInputsByIdIn(missVersions.keySet());
+            List<CharacterStats> computed = statService.calculateStats(inputs);
+            for (int i = 0; i < inputs.size(); i++) {
+                UUID characterId = inputs.get(i).id();
+                CharacterStats stats = computed.get(i);
+                cache.put(characterId, new VersionedStats(missVersions.get(characterId), stats));
+                hits.put(characterId, stats);
+            }
+        }
+
+        Map<UUID, CharacterStats> ordered = new LinkedHashMap<>();
+        for (UUID characterId : characterIds) {
+            CharacterStats stats = hits.get(characterId);
+            if (stats != null) {
+                ordered.put(characterId, stats);
+            }
+        }
+        return ordered;
+    }
+
+    /**
+     * Ficha efetiva memoizada; o loader (CharacterSheetService) só roda em miss ou versão nova
+     */
+    public Optional<EffectiveCharacterSheet> getSheet(UUID characterId,
+                                                      Function<UUID, Optional<EffectiveCharacterSheet>> loader) {
+        long version = versionOf(characterId);
+        VersionedSheet cached = sheetCache.getIfPresent(characterId);
+        if (cached != null && cached.version() == version) {
+            return Optional.of(cached.sheet());
+        }
+
+        Optional<EffectiveCharacterSheet> loaded = loader.apply(characterId);
+        loaded.ifPresent(sheet -> sheetCache.put(characterId, new VersionedSheet(version, sheet)));
+        return loaded;
+    }
+
+    /**
+     * Invalida agora e de novo após o commit da transação corrente
+     */
+    public void invalidate(UUID characterId) {
+        bump(characterId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    bump(characterId);
+                }
+            });
+        }
+    }
+
+    /**
+     * Personagem deletado: nada mais a versionar
+     */
+    public void forget(UUID characterId) {
+        cache.invalidate(characterId);
+        sheetCache.invalidate(characterId);
+        versions.remove(characterId);
+    }
+
+    /**
+     * Catálogo mudou (raça, item): todas as entradas ficam obsoletas, agora e após o commit
+     */
+    public void invalidateAll() {
+        advanceEpoch();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    advanceEpoch();
+                }
+            });
+        }
+    }
+
+    /**
+     * Versão atual do personagem; ler antes de carregar a linha que será passada a get(input, version)
+     */
+    public long version(UUID characterId) {
+        return versionOf(characterId);
+    }
+
+    public long size() {
+        return cache.estimatedSize();
+    }
+
+    private long versionOf(UUID characterId) {
+        // Época e versões só crescem: qualquer incremento muda a soma
+        return epoch.get() + versions.getOrDefault(characterId, 0L);
+    }
+
+    private void bump(UUID characterId) {
+        versions.merge(characterId, 1L, Long::sum);
+        cache.invalidate(characterId);
+        sheetCache.invalidate(characterId);
+    }
+
+    private void advanceEpoch() {
+        epoch.incrementAndGet();
+        cache.invalidateAll();
+        sheetCache.invalidateAll();
+    }
+
+    private record VersionedStats(long version, CharacterStats stats) {
+    }
+
+    private record VersionedSheet(long version, EffectiveCharacterSheet sheet) {
+    }
+}
@@ -1,11 +1,13 @@
 package com.mugen.backend.service;
 
+import com.mugen.backend.concurrency.CharacterMutation;
 import com.mugen.backend.dto.equipment.EquipItemRequest;
 import com.mugen.backend.dto.equipment.EquipmentBonusesDTO;
 import com.mugen.backend.dto.equipment.EquipmentStatsDTO;
 import com.mugen.backend.dto.inventory.ArmorDTO;
 import com.mugen.backend.dto.inventory.WeaponDTO;
 import com.mugen.backend.entity.character.Character;
+import com.mugen.backend.entity.character.CharacterAttribute;
 import com.mugen.backend.entity.character.CharacterEquipment;
 import com.mugen.backend.entity.inventory.Armor;
 import com.mugen.backend.entity.inventory.InventoryArmor;
@@ -20,6 +22,7 @@ import com.mugen.backend.repository.inventory.InventoryArmorRepository;
 import com.mugen.backend.repository.inventory.InventoryWeaponRepository;
 import com.mugen.backend.service.inventory.ArmorService;
 import com.mugen.backend.service.inventory.WeaponService;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -41,6 +44,7 @@ public class EquipmentService {
     private final WeaponService weaponService;
     private final ArmorService armorService;
     private final CharacterAttributesCalculatorService attributesCalculator;
+    private final CharacterStatsCache statsCache;
 
     // ==================== GET EQUIPMENT ====================
 
@@ -84,7 +88,13 @@ public class EquipmentService {
             log.error("❌ Personagem {} sem atributos!", characterId);
             throw new InvalidOperationException("Personagem não possui atributos definidos");
         }
+        return getEquipmentStats(characterId, character.getAttributes());
+    }
 
+    /**
+     * Mesmo resultado quando os atributos-base já são conhecidos (dashboard): não busca o personagem
+     */
+    public EquipmentStatsDTO getEquipmentStats(UUID characterId, CharacterAttribute attributes) {
         CharacterEquipment equipment = equipmentRepository.findByCharacterId(characterId)
                 .orElseThrow(() -> new InvalidOperationException("❌ Personagem não possui equipamento"));
 
@@ -100,12 +110,12 @@ public class EquipmentService {
         }
 
         // Calcular atributos finais (base + bônus)
-        int finalStr = character.getAttributes().getStr() + equipment.getTotalStrBonus();
-        int finalDex = character.getAttributes().getDex() + equipment.getTotalDexBonus();
-        int finalCon = character.getAttributes().getCon() + equipment.getTotalConBonus();
-        int finalWil = character.getAttributes().getWil() + equipment.getTotalWilBonus();
-        int finalMnd = character.getAttributes().getMnd() + equipment.getTotalMndBonus();
-        int finalSpi = character.getAttributes().getSpi() + equipment.getTotalSpiBonus();
+        int finalStr = attributes.getStr() + equipment.getTotalStrBonus();
+        int finalDex = attributes.getDex() + equipment.getTotalDexBonus();
+        int finalCon = attributes.getCon() + equipment.getTotalConBonus();
+        int finalWil = attributes.getWil() + equipment.getTotalWilBonus();
+        int finalMnd = attributes.getMnd() + equipment.getTotalMndBonus();
+        int finalSpi = attributes.getSpi() + equipment.getTotalSpiBonus();
 
         String equipmentSummary = buildEquipmentSummary(weaponDTO, armorDTO);
         String bonusSummary = buildBonusSummary(equipment);
@@ -212,7 +222,9 @@ public class EquipmentService {
     /**
      * Equipar item (genérico)
      */
+    @CharacterMutation
     @Transactional
+    @Timed(value = "mugen.equipment.change", extraTags = {"operation", "equip_item"}, histogram = true)
     public EquipmentStatsDTO equipItem(UUID characterId, EquipItemRequest request) {
         log.info("⚙️ Equipando item para personagem: {}", characterId);
 
@@ -228,7 +240,9 @@ public class EquipmentService {
     /**
      * ✅ EXISTENTE: Equipar arma
      */
+    @CharacterMutation
     @Transactional
+    @Timed(value = "mugen.equipment.change", extraTags = {"operation", "equip_weapon"}, histogram = true)
     public EquipmentStatsDTO equipWeapon(UUID characterId, EquipItemRequest request) {
         log.info("⚙️ Equipando arma para personagem: {}", characterId);
 
@@ -274,6 +288,7 @@ public class EquipmentService {
         equipment.setStatus(newStatus);
 
         equipmentRepository.save(equipment);
+        statsCache.invalidate(characterId);
 
         log.info("✅ Arma {} equipada com sucesso. Status: {}", weaponDTO.getName(), newStatus);
         return getEquipmentStats(characterId);
@@ -282,7 +297,9 @@ public class EquipmentService {
     /**
      * Equipar armadura
      */
+    @CharacterMutation
     @Transactional
+    @Timed(value = "mugen.equipment.change", extraTags = {"operation", "equip_armor"}, histogram = true)
     public EquipmentStatsDTO equipArmor(UUID characterId, EquipItemRequest request) {
         log.info("⚙️ Equipando armadura para personagem: {}", characterId);
 
@@ -323,6 +340,7 @@ public class EquipmentService {
         equipment.setStatus(newStatus);
 
         equipmentRepository.save(equipment);
+        statsCache.invalidate(characterId);
 
         log.info("✅ Armadura {} equipada com sucesso. Status: {}", armorDTO.getName(), newStatus);
         return getEquipmentStats(characterId);
@@ -333,6 +351,8 @@ public class EquipmentService {
     /**
      * Desequipar arma
      */
+    @CharacterMutation
+    @Timed(value = "mugen.equipment.change", extraTags = {"operation", "unequip_weapon"}, histogram = true)
     public EquipmentStatsDTO unequipWeapon(UUID characterId) {
         log.info("🗑️ Desequipando arma do personagem: {}", characterId);
 
@@ -351,6 +371,7 @@ public class EquipmentService {
         equipment.setStatus(newStatus);
 
         equipmentRepository.save(equipment);
+        statsCache.invalidate(characterId);
 
         log.info("✅ Arma desequipada com sucesso. Status: {}", newStatus);
         return getEquipmentStats(characterId);
@@ -359,6 +380,8 @@ public class EquipmentService {
     /**
      * Desequipar armadura
      */
+    @CharacterMutation
+    @Timed(value = "mugen.equipment.change", extraTags = {"operation", "unequip_armor"}, histogram = true)
     public EquipmentStatsDTO unequipArmor(UUID characterId) {
         log.info("🗑️ Desequipando armadura do personagem: {}", characterId);
 
@@ -377,6 +400,7 @@ public class EquipmentService {
         equipment.setStatus(newStatus);
 
         equipmentRepository.save(equipment);
+        statsCache.invalidate(characterId);
 
         log.info("✅ Armadura desequipada com sucesso. Status: {}", newStatus);
         return getEquipmentStats(characterId);
@@ -385,6 +409,8 @@ public class EquipmentService {
     /**
      * Desequipar item (genérico)
      */
+    @CharacterMutation
+    @Timed(value = "mugen.equipment.change", extraTags = {"operation", "unequip_item"}, histogram = true)
     public EquipmentStatsDTO unequipItem(UUID characterId, String itemType) {
         log.info("🗑️ Desequipando item {} do personagem: {}", itemType, characterId);
 
@@ -1,8 +1,12 @@
 package com.mugen.backend.service;
 
+import com.mugen.backend.concurrency.CharacterMutation;
+import com.mugen.backend.config.RetryOnConflict;
 import com.mugen.backend.dto.tp.GainExpRequest;
 import com.mugen.backend.entity.character.Character;
+import com.mugen.backend.leaderboard.LeaderboardService;
 import com.mugen.backend.repository.CharacterRepository;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -16,6 +20,7 @@ import java.util.UUID;
 public class ExperienceService {
 
     private final CharacterRepository characterRepository;
+    private final LeaderboardService leaderboardService;
 
     // ==================== CONSTANTES DE PROGRESSÃO ====================
     
@@ -38,7 +43,10 @@ public class ExperienceService {
     /**
      * Ganhar experiência e calcular level up automático
      */
+    @CharacterMutation
+    @RetryOnConflict
     @Transactional
+    @Timed(value = "mugen.experience.gain", histogram = true)
     public Character gainExperience(UUID characterId, GainExpRequest request) {
         log.info("Character {} gaining {} experience for reason: {}",
                 characterId, request.getAmount(), request.getReason());
@@ -82,6 +90,7 @@ public class ExperienceService {
         }
 
         Character saved = characterRepository.save(character);
+        leaderboardService.update(saved);
 
         log.info("Experience gained for {}. New level: {}, New XP: {}, New TP: {}",
                 saved.getName(), saved.getLevel(), saved.getExp(), saved.getTp());
@@ -133,9 +142,13 @@ public class ExperienceService {
         Character character = characterRepository.findById(characterId)
                 .orElseThrow(() -> new IllegalArgumentException("Character not found: " + characterId));
 
-        int currentLevel = character.getLevel();
-        long currentExp = character.getExp();
+        return getLevelProgress(character.getLevel(), character.getExp());
+    }
 
+    /**
+     * Progresso a partir de level/XP já carregados (sem consulta ao banco)
+     */
+    public LevelProgress getLevelProgress(int currentLevel, long currentExp) {
         if (currentLevel >= MAX_LEVEL) {
             return new LevelProgress(0, 0, 100.0, true);
         }
@@ -155,6 +168,7 @@ public class ExperienceService {
      * Define o level do personagem (admin/debug)
      * Reseta XP para 0
      */
+    @CharacterMutation
     @Transactional
     public Character setLevel(UUID characterId, int newLevel) {
         if (newLevel < 1 || newLevel > MAX_LEVEL) {
@@ -170,6 +184,7 @@ public class ExperienceService {
         character.setExp(0L);
 
         Character saved = characterRepository.save(character);
+        leaderboardService.update(saved);
         log.info("Character level set to {}", newLevel);
 
         return saved;
@@ -178,6 +193,7 @@ public class ExperienceService {
     /**
      * Reseta XP e Level (admin/debug)
      */
+    @CharacterMutation
     @Transactional
     public Character resetExperience(UUID characterId) {
         log.warn("Resetting experience for character {} (admin action)", characterId);
@@ -189,6 +205,7 @@ public class ExperienceService {
         character.setExp(0L);
 
         Character saved = characterRepository.save(character);
+        leaderboardService.update(saved);
         log.info("Character experience reset");
 
         return saved;
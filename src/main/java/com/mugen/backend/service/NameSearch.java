@@ -0,0 +1,31 @@
+package com.mugen.backend.service;
+
+import java.util.Locale;
+
+/**
+ * Termo de busca por nome já normalizado para as queries com pg_trgm
+ * term = texto em minúsculas (similaridade); prefixPattern = LIKE com curingas do usuário escapados
+ */
+public record NameSearch(String term, String prefixPattern, int limit) {
+
+    public static final int MIN_TERM_LENGTH = 2;
+    public static final int MAX_TERM_LENGTH = 120;
+    public static final int MAX_LIMIT = 50;
+
+    /**
+     * @throws IllegalArgumentException se o termo for curto/longo demais
+     */
+    public static NameSearch of(String query, int limit) {
+        String term = query == null ? "" : query.strip().toLowerCase(Locale.ROOT);
+        if (term.length() < MIN_TERM_LENGTH || term.length() > MAX_TERM_LENGTH) {
+            throw new IllegalArgumentException(String.format(
+                    "Search term must be between %d and %d characters", MIN_TERM_LENGTH, MAX_TERM_LENGTH));
+        }
+
+        String escaped = term
+                .replace("\\", "\\\\")
+                .replace("%", "\\%")
+                .replace("_", "\\_");
+        return new NameSearch(term, escaped + "%", Math.max(1, Math.min(limit, MAX_LIMIT)));
+    }
+}
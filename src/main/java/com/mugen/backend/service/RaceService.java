@@ -17,6 +17,7 @@ import java.util.Optional;
 public class RaceService {
 
     private final RaceRepository raceRepository;
+    private final CharacterStatsCache statsCache;
 
     public List<Race> findAll() {
         log.debug("Finding all races");
@@ -41,12 +42,16 @@ public class RaceService {
     @Transactional
     public Race save(Race race) {
         log.info("Saving race: {}", race.getName());
-        return raceRepository.save(race);
+        Race saved = raceRepository.save(race);
+        // Modificador da raça entra em todos os stats calculados
+        statsCache.invalidateAll();
+        return saved;
     }
 
     @Transactional
     public void deleteById(Integer id) {
         log.info("Deleting race: {}", id);
         raceRepository.deleteById(id);
+        statsCache.invalidateAll();
     }
 }
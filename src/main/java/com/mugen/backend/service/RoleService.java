@@ -2,6 +2,7 @@ package com.mugen.backend.service;
 
 import com.mugen.backend.entity.Role;
 import com.mugen.backend.repository.RoleRepository;
+import com.mugen.backend.security.PrincipalCache;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -17,6 +18,7 @@ import java.util.Optional;
 public class RoleService {
 
     private final RoleRepository roleRepository;
+    private final PrincipalCache principalCache;
 
     public List<Role> findAll() {
         log.debug("Finding all roles");
@@ -40,7 +42,10 @@ public class RoleService {
     @Transactional
     public Role save(Role role) {
         log.info("Saving role: {}", role.getName());
-        return roleRepository.save(role);
+        Role saved = roleRepository.save(role);
+        // Principals guardam roles pelo nome: renomear uma role invalida todos
+        principalCache.invalidateAll();
+        return saved;
     }
 
     @Transactional
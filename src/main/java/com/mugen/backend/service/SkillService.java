@@ -55,26 +55,26 @@ public class SkillService {
 
     @Transactional(readOnly = true)
     public List<Skill> getAllSkills() {
-        log.info("Finding all skills");
+        log.debug("Finding all skills");
         return skillRepository.findAll();
     }
 
     @Transactional(readOnly = true)
     public List<Skill> getActiveSkills() {
-        log.info("Finding active skills");
+        log.debug("Finding active skills");
         return skillRepository.findByIsActiveTrue();
     }
 
     @Transactional(readOnly = true)
     public Skill getSkillById(Integer id) {
-        log.info("Finding skill by id: {}", id);
+        log.debug("Finding skill by id: {}", id);
         return skillRepository.findById(id)
                 .orElseThrow(() -> new SkillNotFoundException(id));
     }
 
     @Transactional(readOnly = true)
     public List<Skill> getSkillsByType(String type) {
-        log.info("Finding skills by type: {}", type);
+        log.debug("Finding skills by type: {}", type);
         return skillRepository.findByType(type);
     }
 
@@ -86,7 +86,7 @@ public class SkillService {
 
     @Transactional(readOnly = true)
     public List<Skill> getSkillsOrderedByCost() {
-        log.info("Finding skills ordered by cost");
+        log.debug("Finding skills ordered by cost");
         return skillRepository.findAllByOrderByBaseTpCostAsc();
     }
 
@@ -0,0 +1,194 @@
+package com.mugen.backend.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mugen.backend.entity.ConfigEntry;
+import com.mugen.backend.exception.ResourceNotFoundException;
+import com.mugen.backend.formula.StatFormulas;
+import com.mugen.backend.formula.StatFormulas.Stat;
+import com.mugen.backend.repository.ConfigEntryRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Instant;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Fórmulas dos stats derivados guardadas na tabela config (chaves stat_formula.*, valor {"expression": "..."})
+ *
+ * Carrega na subida e faz polling de MAX(updated_at) para pegar mudanças de outras instâncias.
+ * Qualquer fórmula inválida rejeita a troca inteira e mantém as atuais; quando algo muda de fato,
+ * os caches de stats e de ficha são invalidados (CharacterStatsCache.invalidateAll).
+ * Métricas: mugen.stat.formulas.reload{outcome=changed|unchanged|failed}
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class StatFormulaService {
+
+    public static final String KEY_PREFIX = "stat_formula.";
+
+    private final ConfigEntryRepository configEntryRepository;
+    private final CharacterStatsCache statsCache;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+
+    private final ReentrantLock reloadLock = new ReentrantLock();
+    private volatile Instant lastSeenUpdate;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        refresh();
+    }
+
+    /**
+     * Relê as fórmulas só se alguma linha stat_formula.* mudou desde a última leitura
+     */
+    @Scheduled(fixedDelayString = "${stat-formulas.refresh-ms:30000}")
+    public void refresh() {
+        try {
+            Instant lastUpdate = configEntryRepository.findLastUpdateByKeyPrefix(KEY_PREFIX).orElse(null);
+            if (lastSeenUpdate != null && Objects.equals(lastUpdate, lastSeenUpdate)) {
+                return;
+            }
+            reload();
+            lastSeenUpdate = lastUpdate;
+        } catch (RuntimeException e) {
+            // Mantém as fórmulas atuais; a próxima execução tenta de novo
+            reloadCounter("failed");
+            log.error("Could not reload stat formulas, keeping current ones: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Carrega todas as fórmulas do banco e instala (stats sem linha usam o padrão)
+     */
+    public boolean reload() {
+        // ReentrantLock em vez de synchronized: a query não prende a carrier thread com threads virtuais
+        reloadLock.lock();
+        try {
+            return doReload();
+        } finally {
+            reloadLock.unlock();
+        }
+    }
+
+    public Map<Stat, String> getActiveFormulas() {
+        return StatFormulas.active();
+    }
+
+    /**
+     * Valida (parse, resultado finito e compilação) e grava a fórmula; instala depois do commit
+     */
+    @Transactional
+    public void updateFormula(String statKey, String expression, String description) {
+        Stat stat = resolve(statKey);
+        StatFormulas.validate(stat, expression);
+        save(stat, expression.trim(), description);
+
+        log.info("Stat formula {} updated to: {}", stat.key(), expression);
+        reloadAfterCommit();
+    }
+
+    /**
+     * Volta o stat para a expressão padrão
+     * Grava o padrão em vez de apagar a linha: o updated_at avança e as outras instâncias
+     * percebem a mudança no polling de MAX(updated_at)
+     */
+    @Transactional
+    public void resetFormula(String statKey) {
+        Stat stat = resolve(statKey);
+        save(stat, stat.defaultExpression(), null);
+
+        log.info("Stat formula {} reset to default: {}", stat.key(), stat.defaultExpression());
+        reloadAfterCommit();
+    }
+
+    // ==================== MÉTODOS AUXILIARES ====================
+
+    private Stat resolve(String statKey) {
+        return Stat.fromKey(statKey)
+                .orElseThrow(() -> new ResourceNotFoundException("Unknown stat: " + statKey));
+    }
+
+    private boolean doReload() {
+        Map<Stat, String> expressions = new EnumMap<>(Stat.class);
+        List<ConfigEntry> entries = configEntryRepository.findByKeyStartingWith(KEY_PREFIX);
+        for (ConfigEntry entry : entries) {
+            String statKey = entry.getKey().substring(KEY_PREFIX.length());
+            Stat.fromKey(statKey).ifPresentOrElse(
+                    stat -> expressions.put(stat, readExpression(entry)),
+                    () -> log.warn("Ignoring unknown stat formula key: {}", entry.getKey()));
+        }
+
+        Map<Stat, String> before = StatFormulas.active();
+        StatFormulas.install(expressions);
+        boolean changed = !before.equals(StatFormulas.active());
+
+        if (changed) {
+            statsCache.invalidateAll();
+            log.info("✅ Stat formulas reloaded ({} from config)", expressions.size());
+        }
+        reloadCounter(changed ? "changed" : "unchanged");
+        return changed;
+    }
+
+    private void save(Stat stat, String expression, String description) {
+        String key = KEY_PREFIX + stat.key();
+        ConfigEntry entry = configEntryRepository.findById(key)
+                .orElseGet(() -> ConfigEntry.builder().key(key).build());
+        entry.setValueJson(objectMapper.createObjectNode().put("expression", expression).toString());
+        if (description != null) {
+            entry.setDescription(description);
+        } else if (entry.getDescription() == null) {
+            entry.setDescription("Fórmula do stat " + stat.key());
+        }
+        configEntryRepository.save(entry);
+    }
+
+    private String readExpression(ConfigEntry entry) {
+        try {
+            String expression = objectMapper.readTree(entry.getValueJson()).path("expression").asText(null);
+            if (expression == null || expression.isBlank()) {
+                throw new IllegalArgumentException("Missing 'expression' in config " + entry.getKey());
+            }
+            return expression;
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Invalid JSON in config " + entry.getKey(), e);
+        }
+    }
+
+    private void reloadAfterCommit() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            refreshNow();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                refreshNow();
+            }
+        });
+    }
+
+    private void refreshNow() {
+        lastSeenUpdate = null;
+        refresh();
+    }
+
+    private void reloadCounter(String outcome) {
+        meterRegistry.counter("mugen.stat.formulas.reload", "outcome", outcome).increment();
+    }
+}
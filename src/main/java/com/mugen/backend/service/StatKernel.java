@@ -0,0 +1,92 @@
+package com.mugen.backend.service;
+
+import com.mugen.backend.formula.StatFormulas;
+
+import java.util.List;
+
+/**
+ * Núcleo dos stats derivados: só primitivos, sem objetos, sem BigDecimal
+ *
+ * Entrada = vetor de atributos (STR, DEX, CON, WIL, MND, SPI) + modificador da raça
+ * + multiplicador da transformação (1.0 sem transformação). A conversão para CharacterStats
+ * (boxing) acontece uma vez só, na borda da API.
+ *
+ * Layout dos arrays do batch: atributos em blocos de ATTRIBUTE_COUNT por personagem,
+ * resultados em blocos de STAT_COUNT na ordem dos índices abaixo.
+ *
+ * As fórmulas em si não ficam aqui: vêm da tabela config e são compiladas pelo StatFormulas
+ * (a ordem dos índices de saída é a mesma de StatFormulas.Stat).
+ */
+public final class StatKernel {
+
+    // Atributos (entrada)
+    public static final int STR = 0;
+    public static final int DEX = 1;
+    public static final int CON = 2;
+    public static final int WIL = 3;
+    public static final int MND = 4;
+    public static final int SPI = 5;
+    public static final int ATTRIBUTE_COUNT = 6;
+
+    /**
+     * Nome de cada atributo na API (posição = índice acima)
+     */
+    public static final List<String> ATTRIBUTE_NAMES = List.of("STR", "DEX", "CON", "WIL", "MND", "SPI");
+
+    // Stats (saída)
+    public static final int MELEE_DAMAGE = 0;
+    public static final int KI_POWER = 1;
+    public static final int SPEED = 2;
+    public static final int PHYSICAL_DEFENSE = 3;
+    public static final int KI_DEFENSE = 4;
+    public static final int MENTAL_DEFENSE = 5;
+    public static final int MAX_HP = 6;
+    public static final int MAX_KI = 7;
+    public static final int ACTION_TIME = 8;
+    public static final int STAT_COUNT = 9;
+
+    private StatKernel() {
+    }
+
+    /**
+     * Calcula os STAT_COUNT stats de um personagem em out[offset..]
+     * O buffer é do chamador: quem calcula várias variantes (ex: com e sem transformação) usa um só
+     */
+    public static void compute(int[] attributes, int attributeOffset,
+                               double raceModifier, double transformationMultiplier,
+                               double[] out, int offset) {
+        StatFormulas.compute(out, offset,
+                attributes[attributeOffset + STR],
+                attributes[attributeOffset + DEX],
+                attributes[attributeOffset + CON],
+                attributes[attributeOffset + WIL],
+                attributes[attributeOffset + MND],
+                attributes[attributeOffset + SPI],
+                raceModifier, transformationMultiplier);
+    }
+
+    /**
+     * Vetor de atributos de um personagem avulso, no layout esperado por compute
+     */
+    public static int[] attributes(int str, int dex, int con, int wil, int mnd, int spi) {
+        int[] attributes = new int[ATTRIBUTE_COUNT];
+        attributes[STR] = str;
+        attributes[DEX] = dex;
+        attributes[CON] = con;
+        attributes[WIL] = wil;
+        attributes[MND] = mnd;
+        attributes[SPI] = spi;
+        return attributes;
+    }
+
+    /**
+     * Batch: count personagens numa passada, sem alocar (arrays vêm do chamador)
+     */
+    public static void computeBatch(int[] attributes, double[] raceModifiers, double[] transformationMultipliers,
+                                    int count, double[] out) {
+        for (int i = 0; i < count; i++) {
+            compute(attributes, i * ATTRIBUTE_COUNT, raceModifiers[i], transformationMultipliers[i],
+                    out, i * STAT_COUNT);
+        }
+    }
+}
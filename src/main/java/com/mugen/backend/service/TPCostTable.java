@@ -0,0 +1,64 @@
+package com.mugen.backend.service;
+
+import com.mugen.backend.exception.MaxAttributeExceededException;
+
+/**
+ * Curva de custo de TP por ponto de atributo, em somas prefixadas
+ *
+ * 1-50: 1 TP por ponto, 51-80: 2 TP, 81-120: 3 TP.
+ * CUMULATIVE[v] = TP para sair de 0 e chegar em v; custo de qualquer alocação = diferença de duas posições.
+ */
+public final class TPCostTable {
+
+    public static final int MAX_ATTRIBUTE_VALUE = 120;
+    public static final int TIER_1_LIMIT = 50;  // 1-50: 1 TP por ponto
+    public static final int TIER_2_LIMIT = 80;  // 51-80: 2 TP por ponto
+    // 81-120: 3 TP por ponto
+
+    /**
+     * Breakpoints da curva (valor final de cada faixa)
+     */
+    public static final int[] TIER_LIMITS = {TIER_1_LIMIT, TIER_2_LIMIT, MAX_ATTRIBUTE_VALUE};
+
+    private static final int[] CUMULATIVE = new int[MAX_ATTRIBUTE_VALUE + 1];
+
+    static {
+        for (int value = 1; value <= MAX_ATTRIBUTE_VALUE; value++) {
+            CUMULATIVE[value] = CUMULATIVE[value - 1] + pointCost(value);
+        }
+    }
+
+    private TPCostTable() {
+    }
+
+    /**
+     * Custo do ponto que leva o atributo até value
+     */
+    public static int pointCost(int value) {
+        if (value <= TIER_1_LIMIT) {
+            return 1;
+        }
+        return value <= TIER_2_LIMIT ? 2 : 3;
+    }
+
+    /**
+     * Custo de sair de currentValue e somar points (O(1))
+     */
+    public static int cost(int currentValue, int points) {
+        int target = currentValue + points;
+        if (target > MAX_ATTRIBUTE_VALUE) {
+            throw new MaxAttributeExceededException("Attribute value cannot exceed " + MAX_ATTRIBUTE_VALUE);
+        }
+        if (currentValue < 0 || points < 0) {
+            throw new IllegalArgumentException("Attribute value and points must not be negative");
+        }
+        return CUMULATIVE[target] - CUMULATIVE[currentValue];
+    }
+
+    /**
+     * Custo para levar o atributo de currentValue até o máximo
+     */
+    public static int costToMax(int currentValue) {
+        return cost(currentValue, MAX_ATTRIBUTE_VALUE - currentValue);
+    }
+}
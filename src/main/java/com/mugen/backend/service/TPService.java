@@ -1,26 +1,34 @@
 package com.mugen.backend.service;
 
+import com.mugen.backend.concurrency.CharacterMutation;
+import com.mugen.backend.config.RetryOnConflict;
 import com.mugen.backend.dto.achievement.AwardTPRequest;
 import com.mugen.backend.dto.tp.AllocateAttributeRequest;
+import com.mugen.backend.dto.tp.AttributeAllocation;
 import com.mugen.backend.dto.tp.TPSummary;
 import com.mugen.backend.entity.TPTransaction;
 import com.mugen.backend.entity.User;
 import com.mugen.backend.entity.character.Character;
 import com.mugen.backend.entity.character.CharacterAttribute;
 import com.mugen.backend.enums.TPTransactionType;
+import com.mugen.backend.exception.CharacterNotFoundException;
 import com.mugen.backend.exception.InsufficientTPException;
 import com.mugen.backend.exception.InvalidAttributeException;
 import com.mugen.backend.exception.MaxAttributeExceededException;
 import com.mugen.backend.repository.CharacterRepository;
 import com.mugen.backend.repository.TPTransactionRepository;
-import com.mugen.backend.repository.UserRepository;
+import com.mugen.backend.security.PrincipalCache;
+import com.mugen.backend.security.UserPrincipal;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 @Service
@@ -31,18 +39,19 @@ public class TPService {
 
     private final TPTransactionRepository tpTransactionRepository;
     private final CharacterRepository characterRepository;
-    private final UserRepository userRepository;
+    private final PrincipalCache principalCache;
+    private final CharacterStatsCache statsCache;
 
-    // Constantes de progressão
-    private static final int MAX_ATTRIBUTE_VALUE = 120;
-    private static final int TIER_1_LIMIT = 50;  // 1-50: 1 TP por ponto
-    private static final int TIER_2_LIMIT = 80;  // 51-80: 2 TP por ponto
-    // 81-120: 3 TP por ponto
+    // Constantes de progressão (curva de custo em TPCostTable)
+    private static final int MAX_ATTRIBUTE_VALUE = TPCostTable.MAX_ATTRIBUTE_VALUE;
 
     /**
      * Aloca pontos num atributo, gastando TP
      */
+    @CharacterMutation
+    @RetryOnConflict
     @Transactional
+    @Timed(value = "mugen.tp.operation", extraTags = {"operation", "allocate_attribute"}, histogram = true)
     public Character allocateAttribute(UUID characterId, AllocateAttributeRequest request, User user) {
         log.info("Allocating {} points to {} for character {}",
                 request.getPoints(), request.getAttributeName(), characterId);
@@ -82,16 +91,6 @@ public class TPService {
         // Debitar TP
         character.setTp(character.getTp() - cost);
 
-        UUID createdById = null;
-        if (user != null && user.getId() != null) {
-            boolean userExists = userRepository.existsById(user.getId());
-            if (userExists) {
-                createdById = user.getId();
-            } else {
-                log.warn("User {} does not exist in app_user table. Setting createdBy to NULL", user.getId());
-            }
-        }
-
         // Registrar transação
         TPTransaction transaction = TPTransaction.builder()
                 .character(character)
@@ -99,12 +98,13 @@ public class TPService {
                 .balanceAfter(character.getTp())  // Saldo APÓS debitar
                 .transactionType(TPTransactionType.ALLOCATION.toString())  // Tipo de transação
                 .reason(String.format("ATTRIBUTE_%s_+%d", attrName, request.getPoints()))
-                .createdBy(createdById)
+                .createdBy(resolveCreatedBy(user))
                 .build();
 
         tpTransactionRepository.save(transaction);
 
         Character saved = characterRepository.save(character);
+        statsCache.invalidate(characterId);
 
         log.info("Allocated {} points to {}. Cost: {} TP. Remaining TP: {}",
                 request.getPoints(), attrName, cost, saved.getTp());
@@ -112,11 +112,80 @@ public class TPService {
         return saved;
     }
 
+    /**
+     * Aloca pontos em vários atributos numa transação: uma leitura, um registro no histórico, um save
+     * O detalhamento por atributo vai no metadata do TPTransaction
+     */
+    @CharacterMutation
+    @RetryOnConflict
+    @Transactional
+    @Timed(value = "mugen.tp.operation", extraTags = {"operation", "allocate_attributes"}, histogram = true)
+    public AttributeAllocation allocateAttributes(UUID characterId, Map<String, Integer> points, User user) {
+        Character character = characterRepository.findByIdWithAttributes(characterId)
+                .orElseThrow(() -> new CharacterNotFoundException(characterId));
+
+        AttributeAllocation quote = quote(character, points);
+        if (!quote.affordable()) {
+            throw new InsufficientTPException(quote.totalCost(), character.getTp());
+        }
+
+        CharacterAttribute attr = character.getAttributes();
+        Map<String, Object> breakdown = new LinkedHashMap<>();
+        StringBuilder reason = new StringBuilder("ATTRIBUTE");
+        quote.attributes().forEach((attrName, line) -> {
+            updateAttribute(attr, attrName, line.to());
+            breakdown.put(attrName, Map.of(
+                    "from", line.from(),
+                    "to", line.to(),
+                    "points", line.points(),
+                    "cost", line.cost()));
+            reason.append('_').append(attrName).append("_+").append(line.points());
+        });
+
+        // Debitar TP
+        character.setTp(quote.remainingTP());
+
+        Map<String, Object> metadata = new LinkedHashMap<>();
+        metadata.put("attributes", breakdown);
+        metadata.put("totalCost", quote.totalCost());
+
+        tpTransactionRepository.save(TPTransaction.builder()
+                .character(character)
+                .amount(-quote.totalCost())
+                .balanceAfter(character.getTp())  // Saldo APÓS debitar
+                .transactionType(TPTransactionType.ALLOCATION.toString())
+                .reason(reason.toString())
+                .metadata(metadata)
+                .createdBy(resolveCreatedBy(user))
+                .build());
+
+        characterRepository.save(character);
+        statsCache.invalidate(characterId);
+
+        log.info("Allocated {} on character {}. Cost: {} TP. Remaining TP: {}",
+                points, characterId, quote.totalCost(), character.getTp());
+
+        return new AttributeAllocation(characterId, quote.attributes(), quote.totalCost(),
+                quote.currentTP(), quote.remainingTP(), true, true);
+    }
+
+    /**
+     * Só o orçamento da alocação em vários atributos (nada é gravado)
+     */
+    public AttributeAllocation quoteAttributes(UUID characterId, Map<String, Integer> points) {
+        Character character = characterRepository.findByIdWithAttributes(characterId)
+                .orElseThrow(() -> new CharacterNotFoundException(characterId));
+        return quote(character, points);
+    }
+
     /**
      * Concede TP ao personagem (por minigame, mestre, evento)
      * Transação separada com REQUIRES_NEW e null handling
      */
+    @CharacterMutation(key = "#request.characterId")
+    @RetryOnConflict
     @Transactional(propagation = Propagation.REQUIRES_NEW)
+    @Timed(value = "mugen.tp.operation", extraTags = {"operation", "award_tp"}, histogram = true)
     public Character awardTP(AwardTPRequest request, User awardedBy) {
         log.info("Awarding {} TP to character {} for reason: {}",
                 request.getAmount(), request.getCharacterId(), request.getReason());
@@ -132,15 +201,15 @@ public class TPService {
 
         UUID createdById = null;
         if (awardedBy != null && awardedBy.getId() != null) {
-            boolean userExists = userRepository.existsById(awardedBy.getId());
+            boolean userExists = principalCache.exists(awardedBy.getId());
             if (userExists) {
                 createdById = awardedBy.getId();
             } else {
                 // Tentar buscar por email
                 if (awardedBy.getEmail() != null) {
-                    var userByEmail = userRepository.findByEmail(awardedBy.getEmail());
+                    var userByEmail = principalCache.findByEmail(awardedBy.getEmail());
                     if (userByEmail.isPresent()) {
-                        createdById = userByEmail.get().getId();
+                        createdById = userByEmail.get().id();
                         log.info("Found user by email: {}", createdById);
                     }
                 }
@@ -174,23 +243,8 @@ public class TPService {
      * 81-120: 3 TP por ponto
      */
     public int calculateAttributeCost(int currentValue, int pointsToAllocate) {
-        int totalCost = 0;
-
-        for (int i = 0; i < pointsToAllocate; i++) {
-            int value = currentValue + i + 1; // Próximo valor
-
-            if (value <= TIER_1_LIMIT) {
-                totalCost += 1;
-            } else if (value <= TIER_2_LIMIT) {
-                totalCost += 2;
-            } else if (value <= MAX_ATTRIBUTE_VALUE) {
-                totalCost += 3;
-            } else {
-                throw new MaxAttributeExceededException("Attribute value cannot exceed " + MAX_ATTRIBUTE_VALUE);
-            }
-        }
-
-        return totalCost;
+        // O(1): diferença de duas somas prefixadas
+        return TPCostTable.cost(currentValue, pointsToAllocate);
     }
 
     /**
@@ -207,6 +261,13 @@ public class TPService {
         Character character = characterRepository.findById(characterId)
                 .orElseThrow(() -> new IllegalArgumentException("Character not found: " + characterId));
 
+        return getTPSummary(characterId, character.getTp());
+    }
+
+    /**
+     * Resumo de TP quando o saldo atual já é conhecido (evita buscar o personagem de novo)
+     */
+    public TPSummary getTPSummary(UUID characterId, int currentTP) {
         Long totalEarned = tpTransactionRepository.sumEarnedByCharacterId(characterId);
         Long totalSpent = tpTransactionRepository.sumSpentByCharacterId(characterId);
 
@@ -220,7 +281,7 @@ public class TPService {
         Long spentOnTransformations = tpTransactionRepository.sumByCharacterIdAndReasonPattern(characterId, "TRANSFORMATION");
 
         return TPSummary.builder()
-                .currentTP(character.getTp())
+                .currentTP(currentTP)
                 .totalEarned(totalEarned != null ? totalEarned : 0L)
                 .totalSpent(totalSpent != null ? totalSpent : 0L)
                 .lifetimeTP(totalEarned != null ? totalEarned : 0L)
@@ -235,11 +296,58 @@ public class TPService {
 
     // ==================== MÉTODOS AUXILIARES ====================
 
+    /**
+     * Custo por atributo e total, na ordem STR, DEX, CON, WIL, MND, SPI
+     */
+    private AttributeAllocation quote(Character character, Map<String, Integer> points) {
+        CharacterAttribute attr = character.getAttributes();
+        Map<String, AttributeAllocation.Line> lines = new LinkedHashMap<>();
+        int totalCost = 0;
+
+        for (String requested : points.keySet()) {
+            if (!isValidAttribute(requested)) {
+                throw new InvalidAttributeException(requested);
+            }
+        }
+        for (String attrName : StatKernel.ATTRIBUTE_NAMES) {
+            Integer toAllocate = points.get(attrName);
+            if (toAllocate == null) {
+                continue;
+            }
+            int currentValue = getCurrentAttributeValue(attr, attrName);
+            int newValue = currentValue + toAllocate;
+            if (newValue > MAX_ATTRIBUTE_VALUE) {
+                throw new MaxAttributeExceededException(attrName, MAX_ATTRIBUTE_VALUE);
+            }
+            int cost = calculateAttributeCost(currentValue, toAllocate);
+            lines.put(attrName, new AttributeAllocation.Line(currentValue, newValue, toAllocate, cost));
+            totalCost += cost;
+        }
+
+        int currentTP = character.getTp();
+        return new AttributeAllocation(character.getId(), lines, totalCost, currentTP,
+                currentTP - totalCost, currentTP >= totalCost, false);
+    }
+
+    /**
+     * createdBy do histórico: null quando o usuário não existe mais em app_user
+     */
+    private UUID resolveCreatedBy(User user) {
+        if (user == null || user.getId() == null) {
+            return null;
+        }
+        if (principalCache.exists(user.getId())) {
+            return user.getId();
+        }
+        log.warn("User {} does not exist in app_user table. Setting createdBy to NULL", user.getId());
+        return null;
+    }
+
     /**
      * Valida se o nome do atributo é válido
      */
     private boolean isValidAttribute(String attributeName) {
-        return List.of("STR", "DEX", "CON", "WIL", "MND", "SPI").contains(attributeName);
+        return StatKernel.ATTRIBUTE_NAMES.contains(attributeName);
     }
 
     /**
@@ -1,5 +1,6 @@
 package com.mugen.backend.service;
 
+import com.mugen.backend.concurrency.CharacterMutation;
 import com.mugen.backend.entity.Transformation;
 import com.mugen.backend.entity.character.Character;
 import com.mugen.backend.entity.character.CharacterTransformation;
@@ -25,10 +26,12 @@ public class TransformationService {
     private final CharacterRepository characterRepository;
     private final CharacterTransformationRepository characterTransformationRepository;
     private final TransformationRepository transformationRepository;
+    private final CharacterStatsCache statsCache;
 
     /**
      * Desbloquear transformação para personagem
      */
+    @CharacterMutation
     @Transactional
     public CharacterTransformation unlockTransformation(UUID characterId, Integer transformationId) {
         log.info("Unlocking transformation {} for character {}", transformationId, characterId);
@@ -85,6 +88,7 @@ public class TransformationService {
 
         // 6️⃣ Salvar
         CharacterTransformation saved = characterTransformationRepository.save(charTransformation);
+        statsCache.invalidate(characterId);
         log.info("Transformation {} unlocked for character {}", transformationId, characterId);
 
         return saved;
@@ -95,7 +99,7 @@ public class TransformationService {
      */
     @Transactional(readOnly = true)
     public List<CharacterTransformation> getCharacterTransformations(UUID characterId) {
-        log.info("Getting transformations for character {}", characterId);
+        log.debug("Getting transformations for character {}", characterId);
 
         if (!characterRepository.existsById(characterId)) {
             throw new CharacterNotFoundException(characterId);
@@ -109,7 +113,7 @@ public class TransformationService {
      */
     @Transactional(readOnly = true)
     public List<CharacterTransformation> getUnlockedTransformations(UUID characterId) {
-        log.info("Getting unlocked transformations for character {}", characterId);
+        log.debug("Getting unlocked transformations for character {}", characterId);
 
         if (!characterRepository.existsById(characterId)) {
             throw new CharacterNotFoundException(characterId);
@@ -134,7 +138,7 @@ public class TransformationService {
      */
     @Transactional(readOnly = true)
     public List<Transformation> getAvailableTransformations(UUID characterId) {
-        log.info("Getting available transformations for character {}", characterId);
+        log.debug("Getting available transformations for character {}", characterId);
 
         Character character = characterRepository.findById(characterId)
                 .orElseThrow(() -> new CharacterNotFoundException(characterId));
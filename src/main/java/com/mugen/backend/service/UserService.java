@@ -1,8 +1,11 @@
 package com.mugen.backend.service;
 
+import com.mugen.backend.dto.PlayerSearchHit;
 import com.mugen.backend.entity.Role;
 import com.mugen.backend.entity.User;
 import com.mugen.backend.repository.UserRepository;
+import com.mugen.backend.security.PrincipalCache;
+import com.mugen.backend.security.TokenRevocationService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -20,6 +23,8 @@ public class UserService {
 
     private final UserRepository userRepository;
     private final RoleService roleService;
+    private final PrincipalCache principalCache;
+    private final TokenRevocationService tokenRevocationService;
 
     public List<User> findAll() {
         log.debug("Finding all users");
@@ -34,10 +39,10 @@ public class UserService {
      */
     @Transactional(readOnly = true)
     public List<User> findAllPlayers() {
-        log.info("Fetching all players from database");
+        log.debug("Fetching all players from database");
         try {
             List<User> users = userRepository.findAllPlayers();
-            log.info("Successfully fetched {} players", users.size());
+            log.debug("Successfully fetched {} players", users.size());
             return users;
         } catch (Exception e) {
             log.error("Error fetching all players", e);
@@ -45,6 +50,16 @@ public class UserService {
         }
     }
 
+    /**
+     * Buscar players por nome de exibição (prefixo + aproximada, pg_trgm)
+     * Usado em: AdminController - GET /admin/players/search
+     */
+    @Transactional(readOnly = true)
+    public List<PlayerSearchHit> searchPlayers(String query, int limit) {
+        NameSearch search = NameSearch.of(query, limit);
+        return userRepository.searchByDisplayName(search.term(), search.prefixPattern(), search.limit());
+    }
+
     /**
      * Buscar player por ID
      * Usado em: AdminController - GET /admin/players/{userId}
@@ -76,7 +91,9 @@ public class UserService {
     @Transactional
     public User save(User user) {
         log.info("Saving user: {}", user.getEmail());
-        return userRepository.save(user);
+        User saved = userRepository.save(user);
+        principalCache.invalidate(saved.getId(), saved.getEmail());
+        return saved;
     }
 
     @Transactional
@@ -110,7 +127,9 @@ public class UserService {
                 .orElseThrow(() -> new IllegalStateException("MASTER role not found"));
 
         user.addRole(masterRole);
-        return userRepository.save(user);
+        User saved = userRepository.save(user);
+        principalCache.invalidate(userId, user.getEmail());
+        return saved;
     }
 
     @Transactional
@@ -119,13 +138,18 @@ public class UserService {
                 .orElseThrow(() -> new IllegalArgumentException("User not found: " + userId));
 
         user.setIsActive(false);
-        return userRepository.save(user);
+        User saved = userRepository.save(user);
+        principalCache.invalidate(userId, user.getEmail());
+        tokenRevocationService.revokeAllForUser(userId, "DEACTIVATED");
+        return saved;
     }
 
     @Transactional
     public void deleteUser(UUID userId) {
         log.info("Deleting user: {}", userId);
         userRepository.deleteById(userId);
+        principalCache.invalidate(userId, null);
+        tokenRevocationService.revokeAllForUser(userId, "DELETED");
     }
 
     public boolean existsByEmail(String email) {
@@ -1,5 +1,7 @@
 package com.mugen.backend.service.inventory;
 
+import com.mugen.backend.concurrency.CharacterMutation;
+import com.mugen.backend.config.RetryOnConflict;
 import com.mugen.backend.dto.inventory.*;
 import com.mugen.backend.entity.character.Character;
 import com.mugen.backend.entity.inventory.*;
@@ -9,6 +11,7 @@ import com.mugen.backend.exception.ResourceNotFoundException;
 import com.mugen.backend.repository.CharacterRepository;
 import com.mugen.backend.repository.inventory.*;
 import com.mugen.backend.service.TPService;
+import io.micrometer.core.annotation.Timed;
 import jakarta.validation.constraints.NotNull;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
@@ -91,7 +94,22 @@ public class InventoryService {
         if (inventory == null) {
             throw new InvalidOperationException("Personagem não possui inventário");
         }
+        return buildInventoryInfo(characterId, inventory);
+    }
+
+    /**
+     * Mesmo resultado quando o id do inventário já é conhecido (dashboard): não busca o personagem
+     */
+    public InventoryInfoDTO getInventoryInfo(UUID characterId, Long inventoryId) {
+        if (inventoryId == null) {
+            throw new InvalidOperationException("Personagem não possui inventário");
+        }
+        Inventory inventory = inventoryRepository.findByInventoryId(inventoryId)
+                .orElseThrow(() -> new ResourceNotFoundException("Inventário não encontrado: " + inventoryId));
+        return buildInventoryInfo(characterId, inventory);
+    }
 
+    private InventoryInfoDTO buildInventoryInfo(UUID characterId, Inventory inventory) {
         // ✅ CORRETO: Usar inventoryWeaponRepository para buscar items do inventário
         List<InventoryWeapon> weapons = inventoryWeaponRepository.findByInventoryId(inventory.getId());
         List<InventoryArmor> armors = inventoryArmorRepository.findByInventoryId(inventory.getId());
@@ -240,6 +258,9 @@ public class InventoryService {
     /**
      * ✅ CORRIGIDO: Comprar arma
      */
+    @CharacterMutation
+    @RetryOnConflict
+    @Timed(value = "mugen.inventory.trade", extraTags = {"operation", "buy_weapon"}, histogram = true)
     public BuyItemResponse buyWeapon(UUID characterId, @NotNull(message = "Request é obrigatório") Integer weaponId) {
         log.info("Comprando arma: {} para personagem: {}", weaponId, characterId);
 
@@ -327,6 +348,9 @@ public class InventoryService {
     /**
      * ✅ CORRIGIDO: Comprar armadura
      */
+    @CharacterMutation
+    @RetryOnConflict
+    @Timed(value = "mugen.inventory.trade", extraTags = {"operation", "buy_armor"}, histogram = true)
     public BuyItemResponse buyArmor(UUID characterId, @NotNull(message = "Request é obrigatório") Integer armorId) {
         log.info("Comprando armadura: {} para personagem: {}", armorId, characterId);
 
@@ -417,6 +441,9 @@ public class InventoryService {
     /**
      * ✅ NOVO: Vender arma específica
      */
+    @CharacterMutation
+    @RetryOnConflict
+    @Timed(value = "mugen.inventory.trade", extraTags = {"operation", "sell_weapon"}, histogram = true)
     public SellItemResponse sellWeapon(UUID characterId, Integer inventoryWeaponId, Integer quantity) {
         log.info("Vendendo arma {} do personagem {}", inventoryWeaponId, characterId);
 
@@ -465,6 +492,9 @@ public class InventoryService {
     /**
      * ✅ NOVO: Vender armadura específica
      */
+    @CharacterMutation
+    @RetryOnConflict
+    @Timed(value = "mugen.inventory.trade", extraTags = {"operation", "sell_armor"}, histogram = true)
     public SellItemResponse sellArmor(UUID characterId, Integer inventoryArmorId, Integer quantity) {
         log.info("Vendendo armadura {} do personagem {}", inventoryArmorId, characterId);
 
@@ -0,0 +1,19 @@
+-- ============================================
+-- MUGEN RPG - Flyway Migration V10
+-- Fórmulas dos stats derivados na tabela config (compiladas pelo StatFormulas)
+-- ============================================
+
+-- Variáveis: str, dex, con, wil, mnd, spi, race (modificador da raça), transform (multiplicador)
+-- Mesmos valores que estavam fixos no código; linha ausente = fórmula padrão
+INSERT INTO config (key, value_json, description) VALUES
+    ('stat_formula.melee_damage', '{"expression": "str * 2.5 * race * transform"}'::jsonb, 'Dano físico'),
+    ('stat_formula.ki_power', '{"expression": "wil * 5.2 * race * transform"}'::jsonb, 'Poder de Ki'),
+    ('stat_formula.speed', '{"expression": "100 + dex * transform"}'::jsonb, 'Velocidade'),
+    ('stat_formula.physical_defense', '{"expression": "con * 1.8 * race"}'::jsonb, 'Defesa física'),
+    ('stat_formula.ki_defense', '{"expression": "spi * 2.0 * race"}'::jsonb, 'Defesa contra Ki'),
+    ('stat_formula.mental_defense', '{"expression": "mnd * 1.5 * race"}'::jsonb, 'Defesa mental'),
+    ('stat_formula.max_hp', '{"expression": "con * 20"}'::jsonb, 'HP máximo'),
+    ('stat_formula.max_ki', '{"expression": "spi * 40"}'::jsonb, 'Ki máximo'),
+    ('stat_formula.action_time', '{"expression": "con * 3.5"}'::jsonb, 'Tempo de ação (sistema de turnos)')
+ON CONFLICT (key) DO NOTHING;
+
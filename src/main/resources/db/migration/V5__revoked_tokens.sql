@@ -0,0 +1,20 @@
+-- ============================================
+-- MUGEN RPG - Flyway Migration V5
+-- JWT Revocation (logout / banimento)
+-- ============================================
+
+-- ==================== REVOKED TOKENS ====================
+-- jti preenchido  = revoga um token específico (logout)
+-- jti NULL        = revoga todos os tokens do usuário emitidos antes de revoked_at
+-- expires_at      = depois disso nenhum token afetado é mais válido; a linha pode ser removida
+CREATE TABLE IF NOT EXISTS revoked_token (
+    id BIGSERIAL PRIMARY KEY,
+    jti UUID UNIQUE,
+    user_id UUID NOT NULL,
+    reason VARCHAR(50) NOT NULL,
+    revoked_at TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    expires_at TIMESTAMP WITH TIME ZONE NOT NULL
+);
+
+CREATE INDEX IF NOT EXISTS idx_revoked_token_expires_at ON revoked_token(expires_at);
+CREATE INDEX IF NOT EXISTS idx_revoked_token_user_id ON revoked_token(user_id) WHERE jti IS NULL;
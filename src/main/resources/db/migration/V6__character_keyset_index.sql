@@ -0,0 +1,11 @@
+-- ============================================
+-- MUGEN RPG - Flyway Migration V6
+-- Paginação por cursor (keyset) em character
+-- ============================================
+
+-- created_at passa a ser obrigatório: a chave (created_at, id) precisa ser total
+UPDATE character SET created_at = CURRENT_TIMESTAMP WHERE created_at IS NULL;
+ALTER TABLE character ALTER COLUMN created_at SET NOT NULL;
+
+-- Seek em (created_at DESC, id DESC): página N custa o mesmo que a página 1
+CREATE INDEX IF NOT EXISTS idx_character_created_at_id ON character (created_at DESC, id DESC);
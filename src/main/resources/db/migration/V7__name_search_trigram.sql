@@ -0,0 +1,10 @@
+-- ============================================
+-- MUGEN RPG - Flyway Migration V7
+-- Busca por nome (prefixo + aproximada) com pg_trgm
+-- ============================================
+
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+-- GIN sobre lower(nome): atende LIKE 'abc%' e o operador de similaridade (%) sem varrer a tabela
+CREATE INDEX IF NOT EXISTS idx_character_name_trgm ON character USING gin (lower(name) gin_trgm_ops);
+CREATE INDEX IF NOT EXISTS idx_app_user_display_name_trgm ON app_user USING gin (lower(display_name) gin_trgm_ops);
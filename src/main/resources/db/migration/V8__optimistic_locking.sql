@@ -0,0 +1,9 @@
+-- ============================================
+-- MUGEN RPG - Flyway Migration V8
+-- Concorrência otimista (@Version) em character, character_attribute e inventory
+-- ============================================
+
+-- Linhas existentes começam na versão 0; o Hibernate incrementa a cada UPDATE
+ALTER TABLE character ADD COLUMN IF NOT EXISTS version BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE character_attribute ADD COLUMN IF NOT EXISTS version BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE inventory ADD COLUMN IF NOT EXISTS version BIGINT NOT NULL DEFAULT 0;
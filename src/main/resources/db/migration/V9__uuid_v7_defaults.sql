@@ -0,0 +1,23 @@
+-- ============================================
+-- MUGEN RPG - Flyway Migration V9
+-- UUIDv7 (ordenado no tempo) como default das chaves de app_user e character
+-- ============================================
+
+-- 16 bytes aleatórios do gen_random_uuid() (v4: variante já é 10),
+-- com os 6 primeiros trocados pelo timestamp em ms e a versão trocada de 4 (0100) para 7 (0111)
+CREATE OR REPLACE FUNCTION uuid_generate_v7() RETURNS uuid AS $$
+    SELECT encode(
+        set_bit(
+            set_bit(
+                overlay(uuid_send(gen_random_uuid())
+                        PLACING substring(int8send(floor(extract(epoch FROM clock_timestamp()) * 1000)::bigint) FROM 3)
+                        FROM 1 FOR 6),
+                52, 1),
+            53, 1),
+        'hex')::uuid;
+$$ LANGUAGE sql VOLATILE;
+
+-- A aplicação gera o id antes do INSERT (@GeneratedUuid7); o default cobre scripts e inserts manuais
+-- Ids v4 existentes não mudam: as duas versões convivem, e as FKs continuam válidas
+ALTER TABLE app_user ALTER COLUMN id SET DEFAULT uuid_generate_v7();
+ALTER TABLE character ALTER COLUMN id SET DEFAULT uuid_generate_v7();
@@ -0,0 +1,124 @@
+package com.mugen.backend;
+
+import com.mugen.backend.auth.AuthService;
+import com.mugen.backend.auth.LoginThrottle;
+import com.mugen.backend.auth.PasswordHashingService;
+import com.mugen.backend.entity.Role;
+import com.mugen.backend.entity.User;
+import com.mugen.backend.repository.UserRepository;
+import com.mugen.backend.security.JwtTokenProvider;
+import com.mugen.backend.security.PrincipalCache;
+import com.mugen.backend.security.TokenRevocationService;
+import com.mugen.backend.security.UserPrincipal;
+import com.mugen.backend.security.VerifiedTokenCache;
+import com.mugen.backend.service.RoleService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class AuthServiceTest {
+
+    private final UserRepository userRepository = mock(UserRepository.class);
+    private final PasswordHashingService passwordHashingService = mock(PasswordHashingService.class);
+    private final RoleService roleService = mock(RoleService.class);
+    private final PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+    private final PrincipalCache principalCache = mock(PrincipalCache.class);
+    private final LoginThrottle loginThrottle = mock(LoginThrottle.class);
+    private final JwtTokenProvider jwtTokenProvider = mock(JwtTokenProvider.class);
+
+    private AuthService authService;
+
+    @BeforeEach
+    void setUp() {
+        authService = new AuthService(userRepository, passwordHashingService, jwtTokenProvider,
+                roleService, principalCache, loginThrottle, mock(VerifiedTokenCache.class),
+                mock(TokenRevocationService.class), new TransactionTemplate(transactionManager));
+    }
+
+    @Test
+    void testRegister_HashesBeforeOpeningTransaction() {
+        Role player = Role.builder().name("PLAYER").build();
+        when(userRepository.existsByEmail("goku@capsule.corp")).thenReturn(false);
+        when(passwordHashingService.encode("kamehameha")).thenReturn("$2a$hash");
+        when(roleService.findByName("PLAYER")).thenReturn(Optional.of(player));
+
+        authService.register("goku@capsule.corp", "kamehameha", "Goku");
+
+        // BCrypt termina antes de qualquer conexão ser pedida; save só dentro da transação
+        InOrder order = inOrder(passwordHashingService, transactionManager, userRepository);
+        order.verify(passwordHashingService).encode("kamehameha");
+        order.verify(transactionManager).getTransaction(any());
+        order.verify(userRepository).save(any(User.class));
+        order.verify(transactionManager).commit(any());
+
+        ArgumentCaptor<User> captor = ArgumentCaptor.forClass(User.class);
+        verify(userRepository).save(captor.capture());
+        assertEquals("$2a$hash", captor.getValue().getPasswordHash());
+        assertTrue(captor.getValue().getRoles().contains(player));
+    }
+
+    @Test
+    void testRegister_DuplicateEmailSkipsHashing() {
+        when(userRepository.existsByEmail("goku@capsule.corp")).thenReturn(true);
+
+        assertThrows(IllegalArgumentException.class,
+                () -> authService.register("goku@capsule.corp", "kamehameha", "Goku"));
+
+        verifyNoInteractions(passwordHashingService, transactionManager);
+        verify(userRepository, never()).save(any());
+    }
+
+    @Test
+    void testRegister_EmailTakenDuringHashRollsBack() {
+        // Livre na checagem inicial, ocupado na checagem dentro da transação
+        when(userRepository.existsByEmail("goku@capsule.corp")).thenReturn(false, true);
+        when(passwordHashingService.encode("kamehameha")).thenReturn("$2a$hash");
+
+        assertThrows(IllegalArgumentException.class,
+                () -> authService.register("goku@capsule.corp", "kamehameha", "Goku"));
+
+        verify(userRepository, never()).save(any());
+        verify(transactionManager).rollback(any());
+    }
+
+    // ========== Login ==========
+
+    @Test
+    void testAuthenticate_WrongPasswordRecordsFailureWithoutTransaction() {
+        UserPrincipal principal = new UserPrincipal(UUID.randomUUID(), "goku@capsule.corp", "Goku",
+                "$2a$hash", true, Set.of("PLAYER"));
+        when(principalCache.findByEmail("goku@capsule.corp")).thenReturn(Optional.of(principal));
+        when(passwordHashingService.matches("wrong", "$2a$hash")).thenReturn(false);
+
+        assertThrows(IllegalArgumentException.class,
+                () -> authService.authenticate("goku@capsule.corp", "wrong", "10.0.0.1"));
+
+        verify(loginThrottle).checkAllowed("goku@capsule.corp", "10.0.0.1");
+        verify(loginThrottle).recordFailure("goku@capsule.corp", "10.0.0.1");
+        verifyNoInteractions(jwtTokenProvider, transactionManager);
+    }
+
+    @Test
+    void testAuthenticate_SuccessClearsThrottleAndIssuesToken() {
+        UserPrincipal principal = new UserPrincipal(UUID.randomUUID(), "goku@capsule.corp", "Goku",
+                "$2a$hash", true, Set.of("PLAYER"));
+        when(principalCache.findByEmail("goku@capsule.corp")).thenReturn(Optional.of(principal));
+        when(passwordHashingService.matches("kamehameha", "$2a$hash")).thenReturn(true);
+        when(jwtTokenProvider.generateToken(principal)).thenReturn("jwt");
+
+        assertEquals("jwt", authService.authenticate("goku@capsule.corp", "kamehameha", "10.0.0.1"));
+
+        verify(loginThrottle).recordSuccess("goku@capsule.corp");
+        verify(loginThrottle, never()).recordFailure(any(), any());
+    }
+}
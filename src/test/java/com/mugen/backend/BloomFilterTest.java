@@ -0,0 +1,51 @@
+package com.mugen.backend;
+
+import com.mugen.backend.security.BloomFilter;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BloomFilterTest {
+
+    @Test
+    void testNoFalseNegatives() {
+        BloomFilter filter = new BloomFilter(1000, 0.01);
+        List<UUID> inserted = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            UUID value = UUID.randomUUID();
+            filter.put(value);
+            inserted.add(value);
+        }
+
+        inserted.forEach(value -> assertTrue(filter.mightContain(value)));
+    }
+
+    @Test
+    void testFalsePositiveRate_StaysNearTarget() {
+        BloomFilter filter = new BloomFilter(1000, 0.01);
+        for (int i = 0; i < 1000; i++) {
+            filter.put(UUID.randomUUID());
+        }
+
+        int falsePositives = 0;
+        for (int i = 0; i < 100_000; i++) {
+            if (filter.mightContain(UUID.randomUUID())) {
+                falsePositives++;
+            }
+        }
+
+        assertTrue(falsePositives < 3000, "False positives: " + falsePositives);
+    }
+
+    @Test
+    void testEmptyFilter_ContainsNothing() {
+        BloomFilter filter = new BloomFilter(1024, 0.01);
+
+        assertFalse(filter.mightContain(UUID.randomUUID()));
+        assertTrue(filter.getHashCount() >= 1);
+    }
+}
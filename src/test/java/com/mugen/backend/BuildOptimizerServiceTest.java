@@ -0,0 +1,108 @@
+package com.mugen.backend;
+
+import com.mugen.backend.dto.tp.BuildOptimization;
+import com.mugen.backend.formula.StatFormulas;
+import com.mugen.backend.formula.StatFormulas.Stat;
+import com.mugen.backend.service.BuildOptimizerService;
+import com.mugen.backend.service.StatKernel;
+import com.mugen.backend.service.TPCostTable;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BuildOptimizerServiceTest {
+
+    // optimize(..., int[], ...) é puro: não usa o repositório
+    private final BuildOptimizerService optimizerService = new BuildOptimizerService(null);
+
+    @AfterEach
+    void tearDown() {
+        // Kernel é global: volta para as fórmulas padrão
+        StatFormulas.install(Map.of());
+    }
+
+    @Test
+    void testOptimize_SingleStatSpendsWholeBudgetAcrossTiers() {
+        double[] weights = weights(Stat.MELEE_DAMAGE, 1.0);
+
+        // STR 48: 49 e 50 custam 1 TP, dali em diante 2 TP → 10 TP = 6 pontos
+        BuildOptimization result = optimizerService.optimize(UUID.randomUUID(),
+                new int[]{48, 10, 10, 10, 10, 10}, 1.0, 1.0, 10, weights);
+
+        assertEquals(6, result.allocation().get("STR"));
+        assertEquals(54, result.resultingAttributes().get("STR"));
+        assertEquals(10, result.tpCost());
+        assertEquals(0, result.allocation().get("DEX"));
+        assertEquals(15.0, result.score(), 0.01);   // 6 * 2.5
+    }
+
+    @Test
+    void testOptimize_MatchesBruteForce() {
+        // HP (CON * 20) x Ki (SPI * 40): CON ainda na faixa de 1 TP, SPI já na faixa de 3 TP
+        double[] weights = weights(Stat.MAX_HP, 1.0);
+        weights[Stat.MAX_KI.ordinal()] = 0.9;
+        int[] current = {10, 10, 45, 10, 10, 78};
+        int budget = 25;
+
+        BuildOptimization result = optimizerService.optimize(UUID.randomUUID(), current, 1.0, 1.0, budget, weights);
+
+        double bestScore = 0;
+        for (int con = 0; con + current[StatKernel.CON] <= TPCostTable.MAX_ATTRIBUTE_VALUE; con++) {
+            for (int spi = 0; spi + current[StatKernel.SPI] <= TPCostTable.MAX_ATTRIBUTE_VALUE; spi++) {
+                int cost = TPCostTable.cost(current[StatKernel.CON], con) + TPCostTable.cost(current[StatKernel.SPI], spi);
+                if (cost <= budget) {
+                    bestScore = Math.max(bestScore, con * 20 * 1.0 + spi * 40 * 0.9);
+                }
+            }
+        }
+
+        assertEquals(bestScore, result.score(), 0.01);
+        assertTrue(result.tpCost() <= budget);
+    }
+
+    @Test
+    void testOptimize_BudgetAboveMaxStopsAt120() {
+        double[] weights = weights(Stat.SPEED, 1.0);
+
+        BuildOptimization result = optimizerService.optimize(UUID.randomUUID(),
+                new int[]{10, 100, 10, 10, 10, 10}, 1.0, 1.0, 5000, weights);
+
+        assertEquals(TPCostTable.MAX_ATTRIBUTE_VALUE, result.resultingAttributes().get("DEX"));
+        assertEquals(60, result.tpCost());   // 20 pontos * 3 TP
+    }
+
+    @Test
+    void testOptimize_DefaultFormulasAreExact() {
+        BuildOptimization result = optimizerService.optimize(UUID.randomUUID(),
+                new int[]{10, 10, 10, 10, 10, 10}, 1.0, 1.0, 10, weights(Stat.MELEE_DAMAGE, 1.0));
+
+        assertTrue(result.exact());
+        assertEquals(List.of(), result.approximatedStats());
+    }
+
+    @Test
+    void testOptimize_MultiAttributeFormulaIsFlaggedAsApproximate() {
+        StatFormulas.install(Map.of(Stat.MELEE_DAMAGE, "str * dex"));
+
+        BuildOptimization coupled = optimizerService.optimize(UUID.randomUUID(),
+                new int[]{10, 10, 10, 10, 10, 10}, 1.0, 1.0, 10, weights(Stat.MELEE_DAMAGE, 1.0));
+        assertFalse(coupled.exact());
+        assertEquals(List.of("melee_damage"), coupled.approximatedStats());
+
+        // Stat acoplado sem peso não afeta o objetivo
+        BuildOptimization unaffected = optimizerService.optimize(UUID.randomUUID(),
+                new int[]{10, 10, 10, 10, 10, 10}, 1.0, 1.0, 10, weights(Stat.MAX_HP, 1.0));
+        assertTrue(unaffected.exact());
+    }
+
+    private static double[] weights(Stat stat, double weight) {
+        double[] weights = new double[Stat.values().length];
+        weights[stat.ordinal()] = weight;
+        return weights;
+    }
+}
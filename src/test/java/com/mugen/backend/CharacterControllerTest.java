@@ -0,0 +1,169 @@
+package com.mugen.backend;
+
+import com.mugen.backend.controller.CharacterController;
+import com.mugen.backend.dto.character.CharacterSearchHit;
+import com.mugen.backend.entity.character.Character;
+import com.mugen.backend.entity.character.CharacterAttribute;
+import com.mugen.backend.exception.GlobalExceptionHandler;
+import com.mugen.backend.repository.CharacterRepository;
+import com.mugen.backend.repository.TPTransactionRepository;
+import com.mugen.backend.security.PrincipalCache;
+import com.mugen.backend.service.CharacterService;
+import com.mugen.backend.service.CharacterStatsCache;
+import com.mugen.backend.service.TPService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+class CharacterControllerTest {
+
+    private final TPTransactionRepository tpTransactionRepository = mock(TPTransactionRepository.class);
+    private final CharacterRepository characterRepository = mock(CharacterRepository.class);
+    private final CharacterStatsCache statsCache = mock(CharacterStatsCache.class);
+    private final CharacterService characterService = mock(CharacterService.class);
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        // TPService real sobre repositórios mockados: o teste enxerga qualquer escrita
+        TPService tpService = new TPService(tpTransactionRepository, characterRepository,
+                mock(PrincipalCache.class), statsCache);
+        CharacterController controller = new CharacterController(characterService, statsCache, null, null, null,
+                tpService, null, null);
+        mockMvc = MockMvcBuilders.standaloneSetup(controller)
+                .setControllerAdvice(new GlobalExceptionHandler())
+                .build();
+
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(UUID.randomUUID().toString(), null, List.of()));
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void testSearchCharacters_DoesNotExposeOwner() throws Exception {
+        when(characterService.searchCharacters("gok", 20)).thenReturn(List.of(searchHit("Goku")));
+
+        mockMvc.perform(get("/characters/search").param("q", "gok"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].name").value("Goku"))
+                .andExpect(jsonPath("$[0].raceName").value("Saiyajin"))
+                .andExpect(jsonPath("$[0].ownerId").doesNotExist());
+    }
+
+    @Test
+    void testAllocateAttributes_QuoteOnlyWritesNothing() throws Exception {
+        Character character = character(48, 20);
+        when(characterRepository.findByIdWithAttributes(character.getId())).thenReturn(Optional.of(character));
+
+        mockMvc.perform(post("/characters/{id}/allocate-attributes", character.getId())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"points\": {\"STR\": 5}, \"quoteOnly\": true}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.applied").value(false))
+                .andExpect(jsonPath("$.totalCost").value(8))
+                .andExpect(jsonPath("$.remainingTP").value(12));
+
+        verifyNoInteractions(tpTransactionRepository, statsCache);
+        verify(characterRepository, never()).save(any());
+        assertEquals(48, character.getAttributes().getStr());
+        assertEquals(20, character.getTp());
+    }
+
+    @Test
+    void testAllocateAttributes_AppliesWhenNotQuoteOnly() throws Exception {
+        Character character = character(48, 20);
+        when(characterRepository.findByIdWithAttributes(character.getId())).thenReturn(Optional.of(character));
+
+        mockMvc.perform(post("/characters/{id}/allocate-attributes", character.getId())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"points\": {\"STR\": 5}}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.applied").value(true));
+
+        verify(tpTransactionRepository, times(1)).save(any());
+        verify(characterRepository, times(1)).save(character);
+        assertEquals(53, character.getAttributes().getStr());
+    }
+
+    @Test
+    void testAllocateAttributes_MissingCharacterIs404() throws Exception {
+        UUID unknown = UUID.randomUUID();
+        when(characterRepository.findByIdWithAttributes(unknown)).thenReturn(Optional.empty());
+
+        mockMvc.perform(post("/characters/{id}/allocate-attributes", unknown)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"points\": {\"STR\": 5}, \"quoteOnly\": true}"))
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.error").value("CHARACTER_NOT_FOUND"));
+
+        mockMvc.perform(post("/characters/{id}/allocate-attributes", unknown)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"points\": {\"STR\": 5}}"))
+                .andExpect(status().isNotFound());
+    }
+
+    private static Character character(int str, int tp) {
+        return Character.builder()
+                .id(UUID.randomUUID())
+                .name("Goku")
+                .tp(tp)
+                .attributes(CharacterAttribute.builder().str(str).dex(10).con(10).wil(10).mnd(10).spi(10).build())
+                .build();
+    }
+
+    private static CharacterSearchHit searchHit(String name) {
+        UUID id = UUID.randomUUID();
+        return new CharacterSearchHit() {
+            @Override
+            public UUID getId() {
+                return id;
+            }
+
+            @Override
+            public String getName() {
+                return name;
+            }
+
+            @Override
+            public String getRaceName() {
+                return "Saiyajin";
+            }
+
+            @Override
+            public Integer getLevel() {
+                return 10;
+            }
+
+            @Override
+            public Boolean getPrefixMatch() {
+                return true;
+            }
+
+            @Override
+            public Double getScore() {
+                return 0.5;
+            }
+        };
+    }
+}
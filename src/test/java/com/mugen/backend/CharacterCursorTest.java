@@ -0,0 +1,26 @@
+package com.mugen.backend;
+
+import com.mugen.backend.dto.character.CharacterCursor;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CharacterCursorTest {
+
+    @Test
+    void testRoundTrip_DecodesSamePosition() {
+        CharacterCursor cursor = new CharacterCursor(
+                LocalDateTime.of(2025, 3, 14, 15, 9, 26, 535_897_000), UUID.randomUUID());
+
+        assertEquals(cursor, CharacterCursor.decode(cursor.encode()));
+    }
+
+    @Test
+    void testDecode_RejectsTamperedCursor() {
+        assertThrows(IllegalArgumentException.class, () -> CharacterCursor.decode("not-a-cursor"));
+        assertThrows(IllegalArgumentException.class, () -> CharacterCursor.decode("%%%"));
+    }
+}
@@ -0,0 +1,138 @@
+package com.mugen.backend;
+
+import com.mugen.backend.config.DashboardProperties;
+import com.mugen.backend.dto.character.CharacterDashboard;
+import com.mugen.backend.dto.character.CharacterDashboardRow;
+import com.mugen.backend.dto.character.CharacterDetailView;
+import com.mugen.backend.dto.character.CharacterStatInput;
+import com.mugen.backend.dto.character.CharacterStats;
+import com.mugen.backend.entity.character.CharacterAttribute;
+import com.mugen.backend.repository.CharacterRepository;
+import com.mugen.backend.service.AchievementService;
+import com.mugen.backend.service.CharacterDashboardService;
+import com.mugen.backend.service.CharacterService;
+import com.mugen.backend.service.CharacterStatsCache;
+import com.mugen.backend.service.EquipmentService;
+import com.mugen.backend.service.ExperienceService;
+import com.mugen.backend.service.TPService;
+import com.mugen.backend.service.inventory.InventoryService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class CharacterDashboardServiceTest {
+
+    private final UUID characterId = UUID.randomUUID();
+
+    private final CharacterService characterService = mock(CharacterService.class);
+    private final CharacterRepository characterRepository = mock(CharacterRepository.class);
+    private final CharacterStatsCache statsCache = mock(CharacterStatsCache.class);
+    private final InventoryService inventoryService = mock(InventoryService.class);
+    private final EquipmentService equipmentService = mock(EquipmentService.class);
+    private final TPService tpService = mock(TPService.class);
+    private final AchievementService achievementService = mock(AchievementService.class);
+    private final ExperienceService experienceService = mock(ExperienceService.class);
+
+    private CharacterDashboardService dashboardService;
+
+    @BeforeEach
+    void setUp() {
+        DashboardProperties properties = new DashboardProperties();
+        properties.setSectionTimeoutMs(200);
+        dashboardService = new CharacterDashboardService(characterService, characterRepository, statsCache,
+                inventoryService, equipmentService, tpService, achievementService, experienceService,
+                properties, mock(PlatformTransactionManager.class), new SimpleMeterRegistry());
+
+        when(characterService.getCharacterDetail(characterId)).thenReturn(Optional.of(detail()));
+        when(characterRepository.findDashboardRowById(characterId)).thenReturn(Optional.of(new CharacterDashboardRow(
+                characterId, 7L, 10, 10, 10, 10, 10, 10, BigDecimal.ONE, null)));
+        when(statsCache.get(any(CharacterStatInput.class), anyLong())).thenReturn(CharacterStats.builder().maxHp(200).build());
+        when(achievementService.getCharacterAchievementDTOs(characterId)).thenReturn(List.of());
+    }
+
+    @AfterEach
+    void tearDown() {
+        dashboardService.shutdown();
+    }
+
+    @Test
+    void testGetDashboard_SlowSectionTimesOutAndRestIsReturned() {
+        when(inventoryService.getInventoryInfo(characterId, 7L)).thenAnswer(invocation -> {
+            Thread.sleep(5_000);
+            return null;
+        });
+
+        long start = System.nanoTime();
+        CharacterDashboard dashboard = dashboardService.getDashboard(characterId).orElseThrow();
+        long elapsedMs = (System.nanoTime() - start) / 1_000_000;
+
+        assertFalse(dashboard.isComplete());
+        assertEquals(Map.of("inventory", "timeout"), dashboard.unavailable());
+        assertNull(dashboard.inventory());
+        assertNotNull(dashboard.stats());
+        assertNotNull(dashboard.achievements());
+        assertTrue(elapsedMs < 2_000, "dashboard waited " + elapsedMs + "ms for a section");
+    }
+
+    @Test
+    void testGetDashboard_FailingSectionIsReportedAsError() {
+        when(equipmentService.getEquipmentStats(eq(characterId), any(CharacterAttribute.class)))
+                .thenThrow(new IllegalStateException("boom"));
+
+        CharacterDashboard dashboard = dashboardService.getDashboard(characterId).orElseThrow();
+
+        assertEquals(Map.of("equipment", "error"), dashboard.unavailable());
+        assertNotNull(dashboard.stats());
+    }
+
+    @Test
+    void testGetDashboard_ResolvesCharacterOnce() {
+        dashboardService.getDashboard(characterId).orElseThrow();
+
+        verify(characterService, times(1)).getCharacterDetail(characterId);
+        verify(characterRepository, times(1)).findDashboardRowById(characterId);
+        verify(inventoryService, never()).getInventoryInfo(characterId);
+        verify(equipmentService, never()).getEquipmentStats(characterId);
+        verify(statsCache, never()).get(characterId);
+    }
+
+    @Test
+    void testGetDashboard_StatsUseVersionReadBeforeRow() {
+        when(statsCache.version(characterId)).thenReturn(7L);
+
+        dashboardService.getDashboard(characterId).orElseThrow();
+
+        InOrder order = inOrder(statsCache, characterRepository);
+        order.verify(statsCache).version(characterId);
+        order.verify(characterRepository).findDashboardRowById(characterId);
+        verify(statsCache).get(any(CharacterStatInput.class), eq(7L));
+    }
+
+    @Test
+    void testGetDashboard_MissingCharacter() {
+        UUID unknown = UUID.randomUUID();
+        when(characterService.getCharacterDetail(unknown)).thenReturn(Optional.empty());
+
+        assertTrue(dashboardService.getDashboard(unknown).isEmpty());
+        verifyNoInteractions(statsCache, inventoryService, equipmentService, tpService, achievementService);
+    }
+
+    private CharacterDetailView detail() {
+        return new CharacterDetailView(characterId, UUID.randomUUID(), "owner", "Goku", 1, "Saiyajin",
+                5, 1200L, 30, true, null, null, 10, 10, 10, 10, 10, 10,
+                LocalDateTime.now(), LocalDateTime.now());
+    }
+}
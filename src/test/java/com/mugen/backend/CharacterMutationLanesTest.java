@@ -0,0 +1,98 @@
+package com.mugen.backend;
+
+import com.mugen.backend.concurrency.CharacterMutationLanes;
+import com.mugen.backend.config.CharacterLaneProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CharacterMutationLanesTest {
+
+    private final CharacterLaneProperties properties = new CharacterLaneProperties();
+    private CharacterMutationLanes lanes;
+
+    @AfterEach
+    void tearDown() {
+        if (lanes != null) {
+            lanes.shutdown();
+        }
+    }
+
+    @Test
+    void testExecute_SameCharacterNeverRunsConcurrently() throws Exception {
+        lanes = new CharacterMutationLanes(properties, new SimpleMeterRegistry());
+        UUID characterId = UUID.randomUUID();
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+
+        ExecutorService callers = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<Integer>> results = new ArrayList<>();
+            for (int i = 0; i < 40; i++) {
+                int value = i;
+                results.add(callers.submit(() -> {
+                    try {
+                        return lanes.execute(characterId, () -> {
+                            maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                            Thread.sleep(1);
+                            running.decrementAndGet();
+                            return value;
+                        });
+                    } catch (Throwable t) {
+                        throw new IllegalStateException(t);
+                    }
+                }));
+            }
+            for (int i = 0; i < results.size(); i++) {
+                assertEquals(i, results.get(i).get());
+            }
+        } finally {
+            callers.shutdown();
+        }
+
+        assertEquals(1, maxRunning.get());
+    }
+
+    @Test
+    void testExecute_NestedCallRunsInlineAndPropagatesExceptions() throws Throwable {
+        lanes = new CharacterMutationLanes(properties, new SimpleMeterRegistry());
+        UUID characterId = UUID.randomUUID();
+        List<String> threads = Collections.synchronizedList(new ArrayList<>());
+
+        String result = lanes.execute(characterId, () -> {
+            threads.add(Thread.currentThread().getName());
+            return lanes.execute(characterId, () -> {
+                threads.add(Thread.currentThread().getName());
+                return "ok";
+            });
+        });
+
+        assertEquals("ok", result);
+        assertEquals(threads.get(0), threads.get(1));
+        assertTrue(threads.get(0).startsWith("character-lane-"));
+        assertThrows(IllegalStateException.class, () -> lanes.execute(characterId, () -> {
+            throw new IllegalStateException("boom");
+        }));
+    }
+
+    @Test
+    void testExecute_DisabledRunsOnCallerThread() throws Throwable {
+        properties.setEnabled(false);
+        lanes = new CharacterMutationLanes(properties, new SimpleMeterRegistry());
+
+        String thread = lanes.execute(UUID.randomUUID(), () -> Thread.currentThread().getName());
+
+        assertEquals(Thread.currentThread().getName(), thread);
+    }
+}
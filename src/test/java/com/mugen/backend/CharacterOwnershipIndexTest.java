@@ -0,0 +1,62 @@
+package com.mugen.backend;
+
+import com.mugen.backend.security.CharacterOwnershipIndex;
+import com.mugen.backend.security.CharacterOwnershipIndex.Ownership;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class CharacterOwnershipIndexTest {
+
+    private final CharacterOwnershipIndex index = new CharacterOwnershipIndex(null);
+
+    @Test
+    void testOwnership_OwnerAndNotOwner() {
+        UUID characterId = UUID.randomUUID();
+        UUID ownerId = UUID.randomUUID();
+        index.put(characterId, ownerId);
+
+        assertEquals(Ownership.OWNER, index.ownership(characterId, ownerId));
+        assertEquals(Ownership.NOT_OWNER, index.ownership(characterId, UUID.randomUUID()));
+        assertEquals(Ownership.UNKNOWN, index.ownership(UUID.randomUUID(), ownerId));
+    }
+
+    @Test
+    void testRemove_EntryBecomesUnknown() {
+        UUID characterId = UUID.randomUUID();
+        UUID ownerId = UUID.randomUUID();
+        index.put(characterId, ownerId);
+
+        index.remove(characterId);
+
+        assertEquals(Ownership.UNKNOWN, index.ownership(characterId, ownerId));
+        assertEquals(0, index.size());
+    }
+
+    @Test
+    void testResize_KeepsAllEntries() {
+        List<UUID[]> pairs = new ArrayList<>();
+        for (int i = 0; i < 5_000; i++) {
+            UUID characterId = UUID.randomUUID();
+            UUID ownerId = UUID.randomUUID();
+            index.put(characterId, ownerId);
+            pairs.add(new UUID[]{characterId, ownerId});
+        }
+
+        // Remover metade gera lápides; reinserções devem continuar consistentes
+        for (int i = 0; i < pairs.size(); i += 2) {
+            index.remove(pairs.get(i)[0]);
+        }
+
+        assertEquals(2_500, index.size());
+        for (int i = 0; i < pairs.size(); i++) {
+            UUID[] pair = pairs.get(i);
+            Ownership expected = i % 2 == 0 ? Ownership.UNKNOWN : Ownership.OWNER;
+            assertEquals(expected, index.ownership(pair[0], pair[1]));
+        }
+    }
+}
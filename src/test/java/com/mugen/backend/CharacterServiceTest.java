@@ -1,6 +1,10 @@
 package com.mugen.backend;
 
+import com.mugen.backend.dto.character.CharacterBatchResponse;
 import com.mugen.backend.dto.character.CharacterDTO;
+import com.mugen.backend.dto.character.CharacterDetailView;
+import com.mugen.backend.dto.character.CharacterSkillRow;
+import com.mugen.backend.dto.character.CharacterSkillView;
 import com.mugen.backend.dto.character.UpdateCharacterDTO;
 import com.mugen.backend.entity.Race;
 import com.mugen.backend.entity.Skill;
@@ -9,12 +13,15 @@ import com.mugen.backend.entity.character.Character;
 import com.mugen.backend.entity.character.CharacterSkill;
 import com.mugen.backend.entity.character.CharacterSkillId;
 import com.mugen.backend.exception.CharacterNotFoundException;
+import com.mugen.backend.leaderboard.LeaderboardService;
 import com.mugen.backend.repository.CharacterRepository;
 import com.mugen.backend.repository.RaceRepository;
 import com.mugen.backend.repository.UserRepository;
 import com.mugen.backend.repository.skills.CharacterSkillRepository;
 import com.mugen.backend.repository.skills.SkillRepository;
+import com.mugen.backend.security.CharacterOwnershipIndex;
 import com.mugen.backend.service.CharacterService;
+import com.mugen.backend.service.CharacterStatsCache;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -43,6 +50,12 @@ class CharacterServiceTest {
     private SkillRepository skillRepository;
     @Mock
     private CharacterSkillRepository characterSkillRepository;
+    @Mock
+    private CharacterOwnershipIndex ownershipIndex;
+    @Mock
+    private LeaderboardService leaderboardService;
+    @Mock
+    private CharacterStatsCache statsCache;
 
     @InjectMocks
     private CharacterService characterService;
@@ -88,6 +101,7 @@ class CharacterServiceTest {
         assertNotNull(created);
         assertEquals("Goku", created.getName()); // Mocked save returns testCharacter
         verify(characterRepository, times(1)).save(any(Character.class));
+        verify(ownershipIndex).put(characterId, ownerId);
     }
 
     @Test
@@ -140,6 +154,57 @@ class CharacterServiceTest {
         assertEquals(expectedList, actualList);
     }
 
+    @Test
+    void getCharacterDetail_shouldAttachCollections_whenFound() {
+        CharacterDetailView row = new CharacterDetailView(characterId, ownerId, "Owner", "Goku", 1, "Saiyan",
+                1, 0L, 10, true, null, null, 10, 10, 10, 10, 10, 10, null, null);
+        List<CharacterSkillView> skills = List.of(new CharacterSkillView(1, "Kamehameha", 1, null));
+        when(characterRepository.findDetailById(characterId)).thenReturn(Optional.of(row));
+        when(characterRepository.findSkillViews(characterId)).thenReturn(skills);
+        when(characterRepository.findTransformationViews(characterId)).thenReturn(List.of());
+
+        CharacterDetailView detail = characterService.getCharacterDetail(characterId).orElseThrow();
+
+        assertEquals("Goku", detail.name());
+        assertEquals(skills, detail.skills());
+        assertTrue(detail.transformations().isEmpty());
+    }
+
+    @Test
+    void getCharacterDetails_shouldKeepRequestOrder_andReportMissingAndForbidden() {
+        UUID otherId = UUID.randomUUID();
+        UUID foreignId = UUID.randomUUID();
+        UUID missingId = UUID.randomUUID();
+        CharacterDetailView own = new CharacterDetailView(characterId, ownerId, "Owner", "Goku", 1, "Saiyan",
+                1, 0L, 10, true, null, null, 10, 10, 10, 10, 10, 10, null, null);
+        CharacterDetailView ownSecond = new CharacterDetailView(otherId, ownerId, "Owner", "Gohan", 1, "Saiyan",
+                1, 0L, 10, true, null, null, 10, 10, 10, 10, 10, 10, null, null);
+        CharacterDetailView foreign = new CharacterDetailView(foreignId, UUID.randomUUID(), "Other", "Vegeta", 1,
+                "Saiyan", 1, 0L, 10, true, null, null, 10, 10, 10, 10, 10, 10, null, null);
+        when(characterRepository.findDetailsByIdIn(any())).thenReturn(List.of(foreign, own, ownSecond));
+        when(characterRepository.findSkillRowsByCharacterIds(List.of(otherId, characterId))).thenReturn(
+                List.of(new CharacterSkillRow(characterId, 1, "Kamehameha", 1, null)));
+        when(characterRepository.findTransformationRowsByCharacterIds(List.of(otherId, characterId)))
+                .thenReturn(List.of());
+
+        CharacterBatchResponse response = characterService.getCharacterDetails(
+                List.of(otherId, missingId, foreignId, characterId), ownerId, false);
+
+        assertEquals(List.of("Gohan", "Goku"), response.characters().stream().map(CharacterDetailView::name).toList());
+        assertEquals(1, response.characters().get(1).skills().size());
+        assertTrue(response.characters().get(0).skills().isEmpty());
+        assertEquals(List.of(missingId), response.missing());
+        assertEquals(List.of(foreignId), response.forbidden());
+    }
+
+    @Test
+    void getCharacterDetail_shouldSkipCollections_whenNotFound() {
+        when(characterRepository.findDetailById(characterId)).thenReturn(Optional.empty());
+
+        assertTrue(characterService.getCharacterDetail(characterId).isEmpty());
+        verify(characterRepository, never()).findSkillViews(any());
+    }
+
     @Test
     void getCharactersByOwner_shouldThrowException_whenUserNotFound() {
         when(userRepository.existsById(ownerId)).thenReturn(false);
@@ -184,6 +249,7 @@ class CharacterServiceTest {
         characterService.deleteCharacter(characterId);
 
         verify(characterRepository, times(1)).deleteById(characterId);
+        verify(ownershipIndex).remove(characterId);
     }
 
     @Test
@@ -0,0 +1,64 @@
+package com.mugen.backend;
+
+import com.mugen.backend.dto.character.CharacterSheetRow;
+import com.mugen.backend.dto.character.EffectiveCharacterSheet;
+import com.mugen.backend.service.CharacterSheetService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CharacterSheetServiceTest {
+
+    private CharacterSheetService sheetService;
+
+    @BeforeEach
+    void setUp() {
+        // assemble() é puro: não usa repositório nem cache
+        sheetService = new CharacterSheetService(null, null);
+    }
+
+    @Test
+    void testAssemble_AppliesEquipmentBeforeModifiers() {
+        // Arrange: arma +10 STR +5 WIL, armadura +4 STR +20 CON
+        CharacterSheetRow row = new CharacterSheetRow(UUID.randomUUID(),
+                1, "Saiyan", new BigDecimal("1.2"),
+                50, 40, 45, 55, 35, 60,
+                3, "Super Saiyan", new BigDecimal("2"),
+                7, "Espada", 10, 0, 0, 5, 0, 0,
+                9, "Armadura", 4, 0, 20);
+
+        // Act
+        EffectiveCharacterSheet sheet = sheetService.assemble(row);
+
+        // Assert
+        assertEquals(new EffectiveCharacterSheet.Attributes(14, 0, 20, 5, 0, 0), sheet.equipmentBonus());
+        assertEquals(new EffectiveCharacterSheet.Attributes(64, 40, 65, 60, 35, 60), sheet.effective());
+        assertEquals(384.0, sheet.stats().meleeDamage(), 0.01);     // 64 * 2.5 * 1.2 * 2
+        assertEquals(748.8, sheet.stats().kiPower(), 0.01);         // 60 * 5.2 * 1.2 * 2
+        assertEquals(180.0, sheet.stats().speed(), 0.01);           // 100 + 40 * 2
+        assertEquals(140.4, sheet.stats().physicalDefense(), 0.01); // 65 * 1.8 * 1.2
+        assertEquals(1300, sheet.stats().maxHp());                  // 65 * 20
+    }
+
+    @Test
+    void testAssemble_WithoutEquipmentOrTransformation() {
+        CharacterSheetRow row = new CharacterSheetRow(UUID.randomUUID(),
+                1, "Saiyan", new BigDecimal("1.2"),
+                50, 40, 45, 55, 35, 60,
+                null, null, null,
+                null, null, null, null, null, null, null, null,
+                null, null, null, null, null);
+
+        EffectiveCharacterSheet sheet = sheetService.assemble(row);
+
+        assertEquals(sheet.base(), sheet.effective());
+        assertEquals(BigDecimal.ONE, sheet.transformationMultiplier());
+        assertEquals(150.0, sheet.stats().meleeDamage(), 0.01);     // igual ao CharacterStatService
+        assertEquals(900, sheet.stats().maxHp());
+        assertNull(sheet.weaponId());
+    }
+}
@@ -1,5 +1,6 @@
 package com.mugen.backend;
 
+import com.mugen.backend.dto.character.CharacterStatInput;
 import com.mugen.backend.dto.character.CharacterStats;
 import com.mugen.backend.entity.Race;
 import com.mugen.backend.entity.Transformation;
@@ -10,9 +11,12 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import java.math.BigDecimal;
+import java.util.List;
+import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 
 class CharacterStatServiceTest {
 
@@ -98,4 +102,62 @@ class CharacterStatServiceTest {
         assertEquals(17160.0, stats.getKiPower(), 0.01);    // 55 * 5.2 * 1.2 * 50 = 17160
         assertEquals(2100.0, stats.getSpeed(), 0.01);       // 100 + (40 * 1 * 50) = 2100
     }
+
+    @Test
+    void testCalculateStatsBatch_MatchesSingleCalculation() {
+        // Arrange
+        CharacterStatInput plain = new CharacterStatInput(UUID.randomUUID(), 50, 40, 45, 55, 35, 60,
+                new BigDecimal("1.2"), null);
+        CharacterStatInput transformed = new CharacterStatInput(UUID.randomUUID(), 50, 40, 45, 55, 35, 60,
+                new BigDecimal("1.2"), new BigDecimal("50"));
+
+        // Act
+        List<CharacterStats> stats = statService.calculateStats(List.of(plain, transformed));
+
+        // Assert
+        assertEquals(2, stats.size());
+        assertEquals(150.0, stats.get(0).getMeleeDamage(), 0.01);
+        assertEquals(140.0, stats.get(0).getSpeed(), 0.01);
+        assertEquals(900, stats.get(0).getMaxHp());
+        assertEquals(2400, stats.get(0).getMaxKi());
+        assertEquals(BigDecimal.ONE, stats.get(0).getTransformationMultiplier());
+        assertEquals(7500.0, stats.get(1).getMeleeDamage(), 0.01);
+        assertEquals(17160.0, stats.get(1).getKiPower(), 0.01);
+        assertEquals(2100.0, stats.get(1).getSpeed(), 0.01);
+    }
+
+    @Test
+    void testCalculateTransformationBoost_DoesNotTouchCharacter() {
+        // Arrange
+        Race race = Race.builder()
+                .name("Saiyan")
+                .raceClassModifier(new BigDecimal("1.2"))
+                .build();
+
+        Transformation current = Transformation.builder()
+                .name("Kaioken")
+                .multiplier(new BigDecimal("2"))
+                .build();
+
+        Transformation superSaiyan = Transformation.builder()
+                .name("Super Saiyan")
+                .multiplier(new BigDecimal("50"))
+                .build();
+
+        Character character = Character.builder()
+                .name("Goku")
+                .race(race)
+                .attributes(CharacterAttribute.builder().str(50).dex(40).con(45).wil(55).mnd(35).spi(60).build())
+                .activeTransformation(current)
+                .build();
+
+        // Act
+        CharacterStats boost = statService.calculateTransformationBoost(character, superSaiyan);
+
+        // Assert
+        assertEquals(7350.0, boost.getMeleeDamage(), 0.01); // 7500 - 150
+        assertEquals(1960.0, boost.getSpeed(), 0.01);       // 2100 - 140
+        assertEquals(0.0, boost.getPhysicalDefense(), 0.01);
+        assertSame(current, character.getActiveTransformation());
+    }
 }
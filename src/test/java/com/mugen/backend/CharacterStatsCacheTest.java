@@ -0,0 +1,199 @@
+package com.mugen.backend;
+
+import com.mugen.backend.dto.character.CharacterStatInput;
+import com.mugen.backend.dto.character.CharacterStats;
+import com.mugen.backend.entity.Race;
+import com.mugen.backend.entity.character.Character;
+import com.mugen.backend.entity.character.CharacterAttribute;
+import com.mugen.backend.repository.CharacterRepository;
+import com.mugen.backend.service.CharacterStatService;
+import com.mugen.backend.service.CharacterStatsCache;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.math.BigDecimal;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class CharacterStatsCacheTest {
+
+    private final UUID characterId = UUID.randomUUID();
+    private final CharacterRepository characterRepository = mock(CharacterRepository.class);
+
+    private CharacterStatsCache statsCache;
+
+    @BeforeEach
+    void setUp() {
+        statsCache = new CharacterStatsCache(characterRepository, new CharacterStatService(),
+                new SimpleMeterRegistry(), 100);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void testGet_HitDoesNotTouchDatabase() {
+        // Arrange
+        when(characterRepository.findByIdForStats(characterId)).thenReturn(Optional.of(character(50)));
+
+        // Act
+        CharacterStats first = statsCache.get(characterId).orElseThrow();
+        CharacterStats second = statsCache.get(characterId).orElseThrow();
+
+        // Assert
+        assertSame(first, second);
+        assertEquals(125.0, second.getMeleeDamage(), 0.01); // 50 * 2.5
+        verify(characterRepository, times(1)).findByIdForStats(characterId);
+    }
+
+    @Test
+    void testGet_MissingCharacterIsNotCached() {
+        // Arrange
+        when(characterRepository.findByIdForStats(characterId)).thenReturn(Optional.empty());
+
+        // Act
+        Optional<CharacterStats> first = statsCache.get(characterId);
+        Optional<CharacterStats> second = statsCache.get(characterId);
+
+        // Assert
+        assertTrue(first.isEmpty());
+        assertTrue(second.isEmpty());
+        verify(characterRepository, times(2)).findByIdForStats(characterId);
+        assertEquals(0, statsCache.size());
+    }
+
+    @Test
+    void testInvalidate_NextGetRecomputes() {
+        // Arrange
+        when(characterRepository.findByIdForStats(characterId))
+                .thenReturn(Optional.of(character(50)))
+                .thenReturn(Optional.of(character(80)));
+        statsCache.get(characterId);
+
+        // Act
+        statsCache.invalidate(characterId);
+        CharacterStats stats = statsCache.get(characterId).orElseThrow();
+
+        // Assert
+        assertEquals(200.0, stats.getMeleeDamage(), 0.01); // 80 * 2.5
+        verify(characterRepository, times(2)).findByIdForStats(characterId);
+    }
+
+    @Test
+    void testInvalidate_LoadRacingWithMutationIsNeverServed() {
+        // Arrange: a mutação commita enquanto o miss ainda está lendo o estado antigo
+        when(characterRepository.findByIdForStats(characterId))
+                .thenAnswer(invocation -> {
+                    statsCache.invalidate(characterId);
+                    return Optional.of(character(50));
+                })
+                .thenReturn(Optional.of(character(80)));
+
+        // Act
+        CharacterStats stale = statsCache.get(characterId).orElseThrow();
+        CharacterStats fresh = statsCache.get(characterId).orElseThrow();
+
+        // Assert
+        assertEquals(125.0, stale.getMeleeDamage(), 0.01);
+        assertEquals(200.0, fresh.getMeleeDamage(), 0.01);
+        verify(characterRepository, times(2)).findByIdForStats(characterId);
+    }
+
+    @Test
+    void testGetInput_MutationBetweenLoadAndGetIsNeverServed() {
+        // Arrange: o dashboard lê a versão, carrega a linha e só depois a mutação commita
+        long versionBeforeLoad = statsCache.version(characterId);
+        CharacterStatInput staleRow = input(50);
+        statsCache.invalidate(characterId);
+
+        // Act
+        CharacterStats stale = statsCache.get(staleRow, versionBeforeLoad);
+        CharacterStats fresh = statsCache.get(input(80), statsCache.version(characterId));
+
+        // Assert
+        assertEquals(125.0, stale.getMeleeDamage(), 0.01);
+        assertEquals(200.0, fresh.getMeleeDamage(), 0.01);
+        verifyNoInteractions(characterRepository);
+    }
+
+    @Test
+    void testGetInput_HitIgnoresCallerRow() {
+        // Arrange
+        CharacterStats first = statsCache.get(input(50), statsCache.version(characterId));
+
+        // Act
+        CharacterStats second = statsCache.get(input(50), statsCache.version(characterId));
+
+        // Assert
+        assertSame(first, second);
+    }
+
+    @Test
+    void testInvalidate_BumpsAgainAfterCommit() {
+        // Arrange: mutação dentro de uma transação ainda aberta
+        when(characterRepository.findByIdForStats(characterId))
+                .thenReturn(Optional.of(character(50)))
+                .thenReturn(Optional.of(character(80)));
+        TransactionSynchronizationManager.initSynchronization();
+        statsCache.invalidate(characterId);
+
+        // Uma leitura antes do commit enxerga e cacheia o estado antigo
+        assertEquals(125.0, statsCache.get(characterId).orElseThrow().getMeleeDamage(), 0.01);
+
+        // Act
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        TransactionSynchronizationManager.clearSynchronization();
+        CharacterStats stats = statsCache.get(characterId).orElseThrow();
+
+        // Assert
+        assertEquals(200.0, stats.getMeleeDamage(), 0.01);
+        verify(characterRepository, times(2)).findByIdForStats(characterId);
+    }
+
+    @Test
+    void testInvalidateAll_ExpiresEveryCharacter() {
+        // Arrange
+        UUID otherId = UUID.randomUUID();
+        when(characterRepository.findByIdForStats(characterId)).thenReturn(Optional.of(character(50)));
+        when(characterRepository.findByIdForStats(otherId)).thenReturn(Optional.of(character(60)));
+        statsCache.get(characterId);
+        statsCache.get(otherId);
+
+        // Act
+        statsCache.invalidateAll();
+        statsCache.get(characterId);
+        statsCache.get(otherId);
+
+        // Assert
+        verify(characterRepository, times(2)).findByIdForStats(characterId);
+        verify(characterRepository, times(2)).findByIdForStats(otherId);
+    }
+
+    // ==================== MÉTODOS AUXILIARES ====================
+
+    private CharacterStatInput input(int str) {
+        return new CharacterStatInput(characterId, str, 10, 10, 10, 10, 10, BigDecimal.ONE, null);
+    }
+
+    private Character character(int str) {
+        return Character.builder()
+                .id(characterId)
+                .name("Goku")
+                .race(Race.builder().name("Human").raceClassModifier(BigDecimal.ONE).build())
+                .attributes(CharacterAttribute.builder()
+                        .str(str).dex(10).con(10).wil(10).mnd(10).spi(10)
+                        .build())
+                .build();
+    }
+}
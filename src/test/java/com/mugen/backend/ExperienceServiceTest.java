@@ -2,6 +2,7 @@ package com.mugen.backend;
 
 import com.mugen.backend.dto.tp.GainExpRequest;
 import com.mugen.backend.entity.character.Character;
+import com.mugen.backend.leaderboard.LeaderboardService;
 import com.mugen.backend.repository.CharacterRepository;
 import com.mugen.backend.service.ExperienceService;
 import com.mugen.backend.service.ExperienceService.LevelProgress;
@@ -23,6 +24,8 @@ class ExperienceServiceTest {
 
     @Mock
     private CharacterRepository characterRepository;
+    @Mock
+    private LeaderboardService leaderboardService;
 
     @InjectMocks
     private ExperienceService experienceService;
@@ -85,6 +88,7 @@ class ExperienceServiceTest {
         assertEquals(50L, updated.getExp());
         assertEquals(0, updated.getTp());
         verify(characterRepository, times(1)).save(testCharacter);
+        verify(leaderboardService, times(1)).update(testCharacter);
     }
 
     @Test
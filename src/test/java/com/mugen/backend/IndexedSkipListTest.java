@@ -0,0 +1,66 @@
+package com.mugen.backend;
+
+import com.mugen.backend.leaderboard.IndexedSkipList;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class IndexedSkipListTest {
+
+    @Test
+    void testAdd_KeepsOrderAndRejectsDuplicates() {
+        IndexedSkipList<Integer> list = new IndexedSkipList<>(Comparator.naturalOrder());
+
+        assertTrue(list.add(30));
+        assertTrue(list.add(10));
+        assertTrue(list.add(20));
+        assertFalse(list.add(20));
+
+        assertEquals(3, list.size());
+        assertEquals(List.of(10, 20, 30), list.range(0, 10));
+        assertEquals(1, list.indexOf(20));
+        assertEquals(-1, list.indexOf(25));
+    }
+
+    @Test
+    void testRandomOperations_MatchSortedListReference() {
+        Random random = new Random(42);
+        IndexedSkipList<Integer> list = new IndexedSkipList<>(Comparator.reverseOrder());
+        List<Integer> reference = new ArrayList<>();
+
+        for (int op = 0; op < 5_000; op++) {
+            int value = random.nextInt(1_000);
+            if (random.nextInt(3) == 0) {
+                assertEquals(reference.remove(Integer.valueOf(value)), list.remove(value));
+            } else if (!reference.contains(value)) {
+                assertTrue(list.add(value));
+                reference.add(value);
+            }
+        }
+        reference.sort(Collections.reverseOrder());
+
+        assertEquals(reference.size(), list.size());
+        assertEquals(reference, list.range(0, reference.size()));
+        IntStream.range(0, reference.size()).forEach(i -> {
+            assertEquals(reference.get(i), list.get(i));
+            assertEquals(i, list.indexOf(reference.get(i)));
+        });
+        assertEquals(reference.subList(10, 15), list.range(10, 5));
+    }
+
+    @Test
+    void testGet_OutOfBoundsThrows() {
+        IndexedSkipList<Integer> list = new IndexedSkipList<>(Comparator.naturalOrder());
+        list.add(1);
+
+        assertThrows(IndexOutOfBoundsException.class, () -> list.get(1));
+        assertTrue(list.range(5, 3).isEmpty());
+    }
+}
@@ -0,0 +1,123 @@
+package com.mugen.backend;
+
+import com.mugen.backend.dto.leaderboard.LeaderboardEntry;
+import com.mugen.backend.dto.leaderboard.LeaderboardPosition;
+import com.mugen.backend.entity.Race;
+import com.mugen.backend.entity.character.Character;
+import com.mugen.backend.exception.CharacterNotFoundException;
+import com.mugen.backend.leaderboard.LeaderboardService;
+import com.mugen.backend.repository.CharacterRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class LeaderboardServiceTest {
+
+    private final CharacterRepository characterRepository = mock(CharacterRepository.class);
+    private final UUID gokuId = UUID.randomUUID();
+    private final UUID vegetaId = UUID.randomUUID();
+    private final UUID piccoloId = UUID.randomUUID();
+
+    private LeaderboardService leaderboardService;
+
+    @BeforeEach
+    void setUp() {
+        leaderboardService = new LeaderboardService(characterRepository);
+    }
+
+    @Test
+    void testRebuild_RanksScannedCharacters() {
+        // Arrange
+        when(characterRepository.streamLeaderboardEntries()).thenReturn(Stream.of(
+                new LeaderboardEntry(gokuId, "Goku", 1, 10, 500L),
+                new LeaderboardEntry(vegetaId, "Vegeta", 1, 12, 100L)));
+
+        // Act
+        leaderboardService.rebuild();
+
+        // Assert
+        List<LeaderboardPosition> top = leaderboardService.top(null, 10);
+        assertEquals(2, top.size());
+        assertEquals(1, leaderboardService.rankOf(vegetaId, false).rank());
+        assertEquals(2, leaderboardService.rankOf(gokuId, false).rank());
+    }
+
+    @Test
+    void testRebuild_KeepsUpdatesMadeDuringScan() {
+        // Arrange: Goku sobe de level enquanto a varredura (já com o valor antigo) ainda roda
+        when(characterRepository.streamLeaderboardEntries()).thenReturn(Stream.of(
+                        new LeaderboardEntry(gokuId, "Goku", 1, 10, 500L),
+                        new LeaderboardEntry(vegetaId, "Vegeta", 1, 12, 100L))
+                .peek(entry -> {
+                    if (entry.characterId().equals(vegetaId)) {
+                        leaderboardService.update(character(gokuId, "Goku", 20, true));
+                        leaderboardService.update(character(piccoloId, "Piccolo", 15, true));
+                    }
+                }));
+
+        // Act
+        leaderboardService.rebuild();
+
+        // Assert
+        assertEquals(3, leaderboardService.size());
+        assertEquals(1, leaderboardService.rankOf(gokuId, false).rank());
+        assertEquals(20, leaderboardService.rankOf(gokuId, false).level());
+        assertEquals(2, leaderboardService.rankOf(piccoloId, false).rank());
+        assertEquals(3, leaderboardService.rankOf(vegetaId, false).rank());
+    }
+
+    @Test
+    void testRebuild_KeepsRemovalsMadeDuringScan() {
+        // Arrange: Vegeta é desativado depois de a varredura já tê-lo lido
+        when(characterRepository.streamLeaderboardEntries()).thenReturn(Stream.of(
+                        new LeaderboardEntry(vegetaId, "Vegeta", 1, 12, 100L),
+                        new LeaderboardEntry(gokuId, "Goku", 1, 10, 500L))
+                .peek(entry -> {
+                    if (entry.characterId().equals(gokuId)) {
+                        leaderboardService.update(character(vegetaId, "Vegeta", 12, false));
+                    }
+                }));
+
+        // Act
+        leaderboardService.rebuild();
+
+        // Assert
+        assertEquals(1, leaderboardService.size());
+        assertThrows(CharacterNotFoundException.class, () -> leaderboardService.rankOf(vegetaId, false));
+    }
+
+    @Test
+    void testUpdate_AfterRebuildIsNotJournaled() {
+        // Arrange
+        when(characterRepository.streamLeaderboardEntries())
+                .thenReturn(Stream.of(new LeaderboardEntry(gokuId, "Goku", 1, 10, 500L)))
+                .thenReturn(Stream.of(new LeaderboardEntry(gokuId, "Goku", 1, 30, 900L)));
+        leaderboardService.rebuild();
+        leaderboardService.update(character(gokuId, "Goku", 20, true));
+
+        // Act: o segundo rebuild lê o estado mais novo do banco e não reaplica a mudança antiga
+        leaderboardService.rebuild();
+
+        // Assert
+        assertEquals(30, leaderboardService.rankOf(gokuId, false).level());
+    }
+
+    // ==================== MÉTODOS AUXILIARES ====================
+
+    private Character character(UUID id, String name, int level, boolean active) {
+        return Character.builder()
+                .id(id)
+                .name(name)
+                .race(Race.builder().id(1).name("Saiyajin").build())
+                .level(level)
+                .exp(0L)
+                .isActive(active)
+                .build();
+    }
+}
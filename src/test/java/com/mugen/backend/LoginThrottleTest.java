@@ -0,0 +1,85 @@
+package com.mugen.backend;
+
+import com.mugen.backend.auth.LoginThrottle;
+import com.mugen.backend.config.LoginThrottleProperties;
+import com.mugen.backend.exception.TooManyLoginAttemptsException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LoginThrottleTest {
+
+    private static final String EMAIL = "player@mugen.com";
+    private static final String IP = "10.0.0.1";
+
+    private final AtomicLong clock = new AtomicLong(1_000_000L);
+    private LoginThrottle throttle;
+
+    @BeforeEach
+    void setUp() {
+        LoginThrottleProperties properties = new LoginThrottleProperties();
+        properties.setWindowSeconds(60);
+        properties.setMaxFailuresPerEmail(3);
+        properties.setMaxFailuresPerIp(10);
+        properties.setBaseCooldownSeconds(30);
+        properties.setMaxCooldownSeconds(120);
+        throttle = new LoginThrottle(properties, new SimpleMeterRegistry(), clock::get);
+    }
+
+    @Test
+    void testBlocksEmail_AfterThresholdExceeded() {
+        for (int i = 0; i < 3; i++) {
+            throttle.recordFailure(EMAIL, IP);
+        }
+        assertDoesNotThrow(() -> throttle.checkAllowed(EMAIL, IP));
+
+        throttle.recordFailure(EMAIL, IP);
+
+        TooManyLoginAttemptsException ex = assertThrows(TooManyLoginAttemptsException.class,
+                () -> throttle.checkAllowed(EMAIL, IP));
+        assertEquals(30, ex.getRetryAfterSeconds());
+        assertDoesNotThrow(() -> throttle.checkAllowed("other@mugen.com", "10.0.0.2"));
+    }
+
+    @Test
+    void testCooldown_DoublesOnRepeatedLockouts() {
+        for (int i = 0; i < 4; i++) {
+            throttle.recordFailure(EMAIL, IP);
+        }
+        clock.addAndGet(30_000);
+        assertDoesNotThrow(() -> throttle.checkAllowed(EMAIL, IP));
+
+        throttle.recordFailure(EMAIL, IP);
+
+        TooManyLoginAttemptsException ex = assertThrows(TooManyLoginAttemptsException.class,
+                () -> throttle.checkAllowed(EMAIL, IP));
+        assertEquals(60, ex.getRetryAfterSeconds());
+    }
+
+    @Test
+    void testSuccess_ResetsEmailButNotIp() {
+        for (int i = 0; i < 11; i++) {
+            throttle.recordFailure("user" + i + "@mugen.com", IP);
+        }
+        throttle.recordSuccess("user0@mugen.com");
+
+        assertThrows(TooManyLoginAttemptsException.class, () -> throttle.checkAllowed("new@mugen.com", IP));
+        assertEquals(1, throttle.snapshot(1).size());
+    }
+
+    @Test
+    void testOldFailures_SlideOutOfWindow() {
+        for (int i = 0; i < 3; i++) {
+            throttle.recordFailure(EMAIL, IP);
+        }
+        clock.addAndGet(120_000);
+
+        throttle.recordFailure(EMAIL, IP);
+
+        assertDoesNotThrow(() -> throttle.checkAllowed(EMAIL, IP));
+    }
+}
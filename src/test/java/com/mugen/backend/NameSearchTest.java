@@ -0,0 +1,31 @@
+package com.mugen.backend;
+
+import com.mugen.backend.service.NameSearch;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class NameSearchTest {
+
+    @Test
+    void testOf_NormalizesTermAndBuildsPrefixPattern() {
+        NameSearch search = NameSearch.of("  GoKu ", 20);
+
+        assertEquals("goku", search.term());
+        assertEquals("goku%", search.prefixPattern());
+        assertEquals(20, search.limit());
+    }
+
+    @Test
+    void testOf_EscapesLikeWildcards() {
+        assertEquals("100\\%\\_a\\\\%", NameSearch.of("100%_a\\", 10).prefixPattern());
+    }
+
+    @Test
+    void testOf_ClampsLimitAndRejectsShortTerms() {
+        assertEquals(NameSearch.MAX_LIMIT, NameSearch.of("vegeta", 1000).limit());
+        assertEquals(1, NameSearch.of("vegeta", 0).limit());
+        assertThrows(IllegalArgumentException.class, () -> NameSearch.of("a", 10));
+        assertThrows(IllegalArgumentException.class, () -> NameSearch.of(null, 10));
+    }
+}
@@ -0,0 +1,162 @@
+package com.mugen.backend;
+
+import com.mugen.backend.config.RetryConfig;
+import com.mugen.backend.config.RetryOnConflict;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.EnableTransactionManagement;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * @RetryOnConflict com o advice real (RetryConfig + @Transactional), sem banco:
+ * o PlatformTransactionManager é um mock que só conta transações
+ */
+@SpringJUnitConfig(RetryOnConflictTest.TestConfig.class)
+@TestPropertySource(properties = {
+        "concurrency.retry.max-attempts=3",
+        "concurrency.retry.initial-backoff-ms=1",
+        "concurrency.retry.max-backoff-ms=2"
+})
+class RetryOnConflictTest {
+
+    @Autowired
+    private ConflictingOperation operation;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        operation.reset();
+        meterRegistry.clear();
+        reset(transactionManager);
+        when(transactionManager.getTransaction(any())).thenAnswer(invocation -> new SimpleTransactionStatus());
+    }
+
+    @Test
+    void testRetryOnConflict_RecoversInFreshTransaction() {
+        // Arrange
+        operation.failFirst(1);
+
+        // Act
+        String result = operation.update();
+
+        // Assert: cada tentativa abriu e fechou a própria transação
+        assertEquals("updated", result);
+        assertEquals(2, operation.attempts());
+        verify(transactionManager, times(2)).getTransaction(any());
+        verify(transactionManager, times(1)).rollback(any());
+        verify(transactionManager, times(1)).commit(any());
+        assertEquals(1.0, counter("mugen.concurrency.conflicts", null));
+        assertEquals(1.0, counter("mugen.concurrency.retry", "recovered"));
+    }
+
+    @Test
+    void testRetryOnConflict_ExhaustedRethrowsConflict() {
+        // Arrange
+        operation.failFirst(Integer.MAX_VALUE);
+
+        // Act & Assert
+        assertThrows(OptimisticLockingFailureException.class, () -> operation.update());
+        assertEquals(3, operation.attempts());
+        verify(transactionManager, times(3)).rollback(any());
+        verify(transactionManager, never()).commit(any());
+        assertEquals(3.0, counter("mugen.concurrency.conflicts", null));
+        assertEquals(1.0, counter("mugen.concurrency.retry", "exhausted"));
+    }
+
+    @Test
+    void testRetryOnConflict_NoConflictRunsOnce() {
+        // Act
+        String result = operation.update();
+
+        // Assert
+        assertEquals("updated", result);
+        assertEquals(1, operation.attempts());
+        verify(transactionManager, times(1)).commit(any());
+        assertNull(meterRegistry.find("mugen.concurrency.retry").counter());
+    }
+
+    // ==================== MÉTODOS AUXILIARES ====================
+
+    private double counter(String name, String outcome) {
+        Counter counter = outcome == null
+                ? meterRegistry.find(name).counter()
+                : meterRegistry.find(name).tag("outcome", outcome).counter();
+        assertNotNull(counter, name + " not registered");
+        return counter.count();
+    }
+
+    @Configuration
+    @EnableTransactionManagement
+    @Import(RetryConfig.class)
+    static class TestConfig {
+
+        @Bean
+        MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+
+        @Bean
+        PlatformTransactionManager transactionManager() {
+            return mock(PlatformTransactionManager.class);
+        }
+
+        @Bean
+        ConflictingOperation conflictingOperation() {
+            return new ConflictingOperation();
+        }
+    }
+
+    /**
+     * Simula um UPDATE com @Version que perde a corrida nas primeiras N tentativas
+     */
+    static class ConflictingOperation {
+
+        private final AtomicInteger attempts = new AtomicInteger();
+        private volatile int conflicts;
+
+        @RetryOnConflict
+        @Transactional
+        public String update() {
+            if (attempts.incrementAndGet() <= conflicts) {
+                throw new OptimisticLockingFailureException("Row was updated by another transaction");
+            }
+            return "updated";
+        }
+
+        void failFirst(int conflicts) {
+            this.conflicts = conflicts;
+        }
+
+        int attempts() {
+            return attempts.get();
+        }
+
+        void reset() {
+            attempts.set(0);
+            conflicts = 0;
+        }
+    }
+}
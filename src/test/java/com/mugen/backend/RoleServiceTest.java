@@ -2,6 +2,7 @@ package com.mugen.backend;
 
 import com.mugen.backend.entity.Role;
 import com.mugen.backend.repository.RoleRepository;
+import com.mugen.backend.security.PrincipalCache;
 import com.mugen.backend.service.RoleService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -28,6 +29,9 @@ class RoleServiceTest {
     @Mock
     private RoleRepository roleRepository;
 
+    @Mock
+    private PrincipalCache principalCache;
+
     @InjectMocks
     private RoleService roleService;
 
@@ -0,0 +1,103 @@
+package com.mugen.backend;
+
+import com.mugen.backend.formula.FormulaCompiler;
+import com.mugen.backend.formula.FormulaParser;
+import com.mugen.backend.formula.StatFormulas;
+import com.mugen.backend.formula.StatFormulas.Stat;
+import com.mugen.backend.service.StatKernel;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.lang.invoke.MethodHandle;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class StatFormulasTest {
+
+    @AfterEach
+    void tearDown() {
+        // Kernel é global: volta para as fórmulas padrão
+        StatFormulas.install(Map.of());
+    }
+
+    @Test
+    void testCompile_MatchesInterpreter() throws Throwable {
+        String expression = "max(str, dex) * 2 ^ 2 - -floor(con / 3) + sqrt(spi) * race / transform";
+        double[] vars = {50, 40, 45, 55, 35, 64, 1.2, 2.0};
+
+        MethodHandle compiled = FormulaCompiler.compile(expression);
+        double result = (double) compiled.invokeExact(vars[0], vars[1], vars[2], vars[3], vars[4], vars[5], vars[6], vars[7]);
+
+        // 50 * 4 + 15 + 8 * 1.2 / 2
+        assertEquals(219.8, result, 1e-9);
+        assertEquals(FormulaCompiler.evaluate(FormulaParser.parse(expression), vars), result, 1e-9);
+    }
+
+    @Test
+    void testParse_RejectsInvalidFormulas() {
+        assertThrows(IllegalArgumentException.class, () -> FormulaParser.parse("str * luck"));
+        assertThrows(IllegalArgumentException.class, () -> FormulaParser.parse("str * (con + 1"));
+        assertThrows(IllegalArgumentException.class, () -> FormulaParser.parse("min(str)"));
+        assertThrows(IllegalArgumentException.class, () -> FormulaParser.parse("str; System.exit(0)"));
+        assertThrows(IllegalArgumentException.class, () -> FormulaParser.parse(" "));
+    }
+
+    @Test
+    void testDefaults_MatchPreviousHardCodedFormulas() {
+        double[] out = compute(1.2, 2.0);
+
+        assertEquals(300.0, out[StatKernel.MELEE_DAMAGE], 0.01);      // 50 * 2.5 * 1.2 * 2
+        assertEquals(686.4, out[StatKernel.KI_POWER], 0.01);          // 55 * 5.2 * 1.2 * 2
+        assertEquals(180.0, out[StatKernel.SPEED], 0.01);             // 100 + 40 * 2
+        assertEquals(97.2, out[StatKernel.PHYSICAL_DEFENSE], 0.01);   // 45 * 1.8 * 1.2
+        assertEquals(900.0, out[StatKernel.MAX_HP], 0.01);            // 45 * 20
+        assertEquals(157.5, out[StatKernel.ACTION_TIME], 0.01);       // 45 * 3.5
+    }
+
+    @Test
+    void testInstall_SwapsKernelAndKeepsDefaultsForMissingStats() {
+        StatFormulas.install(Map.of(Stat.MAX_HP, "con * 25 + 100"));
+
+        double[] out = compute(1.2, 1.0);
+
+        assertEquals(1225.0, out[StatKernel.MAX_HP], 0.01);          // 45 * 25 + 100
+        assertEquals(150.0, out[StatKernel.MELEE_DAMAGE], 0.01);     // padrão
+    }
+
+    @Test
+    void testInstall_InvalidFormulaKeepsCurrentKernel() {
+        StatFormulas.install(Map.of(Stat.MAX_HP, "con * 25"));
+
+        assertThrows(IllegalArgumentException.class,
+                () -> StatFormulas.install(Map.of(Stat.MAX_HP, "con * 30", Stat.MAX_KI, "spi *")));
+
+        double[] out = compute(1.2, 1.0);
+        assertEquals(1125.0, out[StatKernel.MAX_HP], 0.01);          // troca inteira rejeitada
+        assertEquals("con * 25", StatFormulas.active().get(Stat.MAX_HP));
+    }
+
+    @Test
+    void testValidate_RejectsNonFiniteResults() {
+        // Divisão por atributo zerado → Infinity; raiz de negativo → NaN
+        assertThrows(IllegalArgumentException.class, () -> StatFormulas.validate(Stat.MAX_HP, "100 / str"));
+        assertThrows(IllegalArgumentException.class, () -> StatFormulas.validate(Stat.MAX_HP, "sqrt(str - dex)"));
+        assertThrows(IllegalArgumentException.class, () -> StatFormulas.validate(Stat.MAX_HP, "0 / (con - 50)"));
+
+        assertDoesNotThrow(() -> StatFormulas.validate(Stat.MAX_HP, "100 / (str + 1)"));
+        assertDoesNotThrow(() -> StatFormulas.validate(Stat.MAX_HP, "sqrt(max(str - dex, 0))"));
+    }
+
+    @Test
+    void testInstall_RejectsNonFiniteFormula() {
+        assertThrows(IllegalArgumentException.class,
+                () -> StatFormulas.install(Map.of(Stat.ACTION_TIME, "con * 3.5 / (race - 1)")));
+        assertEquals(Stat.ACTION_TIME.defaultExpression(), StatFormulas.active().get(Stat.ACTION_TIME));
+    }
+
+    private static double[] compute(double race, double transform) {
+        double[] out = new double[StatKernel.STAT_COUNT];
+        StatKernel.compute(StatKernel.attributes(50, 40, 45, 55, 35, 60), 0, race, transform, out, 0);
+        return out;
+    }
+}
@@ -0,0 +1,264 @@
+package com.mugen.backend;
+
+import com.mugen.backend.dto.character.CharacterStatInput;
+import com.mugen.backend.dto.character.CharacterStats;
+import com.mugen.backend.entity.Race;
+import com.mugen.backend.entity.Transformation;
+import com.mugen.backend.entity.character.Character;
+import com.mugen.backend.entity.character.CharacterAttribute;
+import com.mugen.backend.formula.FormulaCompiler;
+import com.mugen.backend.formula.FormulaParser;
+import com.mugen.backend.formula.StatFormulas;
+import com.mugen.backend.service.CharacterStatService;
+import com.mugen.backend.service.StatKernel;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Microbenchmark do cálculo de stats (ns/op e bytes alocados por op via GCProfiler)
+ *
+ * legacy* reproduz o código anterior ao StatKernel (Double/Integer boxeados nos helpers
+ * e boost calculado mutando a entidade e rodando calculateStats duas vezes).
+ * handWritten* são as fórmulas padrão fixas no código, baseline do kernel compilado (StatFormulas);
+ * interpretedKernel percorre a árvore das mesmas fórmulas a cada chamada (o que a compilação evita).
+ * Como rodar: ver loadtest/README.md
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class StatKernelBenchmark {
+
+    private static final int PAGE_SIZE = 50;
+
+    private final CharacterStatService statService = new CharacterStatService();
+
+    private Character character;
+    private Transformation transformation;
+    private List<CharacterStatInput> page;
+
+    private int[] attributes;
+    private double[] raceModifiers;
+    private double[] transformationMultipliers;
+    private double[] out;
+
+    private FormulaParser.Node[] formulas;
+    private double[] variables;
+
+    @Setup
+    public void setUp() {
+        Race race = Race.builder().name("Saiyan").raceClassModifier(new BigDecimal("1.2")).build();
+        transformation = Transformation.builder().name("Super Saiyan").multiplier(new BigDecimal("50")).build();
+        character = Character.builder()
+                .name("Goku")
+                .race(race)
+                .attributes(CharacterAttribute.builder().str(50).dex(40).con(45).wil(55).mnd(35).spi(60).build())
+                .build();
+
+        Random random = new Random(42);
+        page = new ArrayList<>(PAGE_SIZE);
+        attributes = new int[PAGE_SIZE * StatKernel.ATTRIBUTE_COUNT];
+        raceModifiers = new double[PAGE_SIZE];
+        transformationMultipliers = new double[PAGE_SIZE];
+        out = new double[PAGE_SIZE * StatKernel.STAT_COUNT];
+        for (int i = 0; i < PAGE_SIZE; i++) {
+            int[] attrs = new int[StatKernel.ATTRIBUTE_COUNT];
+            for (int a = 0; a < attrs.length; a++) {
+                attrs[a] = 1 + random.nextInt(120);
+                attributes[i * StatKernel.ATTRIBUTE_COUNT + a] = attrs[a];
+            }
+            BigDecimal multiplier = i % 3 == 0 ? new BigDecimal("2") : null;
+            page.add(new CharacterStatInput(UUID.randomUUID(), attrs[0], attrs[1], attrs[2], attrs[3], attrs[4], attrs[5],
+                    new BigDecimal("1.2"), multiplier));
+            raceModifiers[i] = 1.2;
+            transformationMultipliers[i] = multiplier != null ? 2.0 : 1.0;
+        }
+
+        StatFormulas.Stat[] stats = StatFormulas.Stat.values();
+        formulas = new FormulaParser.Node[stats.length];
+        for (StatFormulas.Stat stat : stats) {
+            formulas[stat.ordinal()] = FormulaParser.parse(StatFormulas.active().get(stat));
+        }
+        variables = new double[FormulaParser.VARIABLES.size()];
+    }
+
+    // ==================== UM PERSONAGEM ====================
+
+    @Benchmark
+    public CharacterStats legacyCalculateStats() {
+        return legacyCalculateStats(character);
+    }
+
+    @Benchmark
+    public CharacterStats calculateStats() {
+        return statService.calculateStats(character);
+    }
+
+    @Benchmark
+    public void kernel(Blackhole blackhole) {
+        StatKernel.compute(attributes, 0, 1.2, 1.0, out, 0);
+        blackhole.consume(out);
+    }
+
+    @Benchmark
+    public void handWrittenKernel(Blackhole blackhole) {
+        handWrittenCompute(attributes, 0, 1.2, 1.0, out, 0);
+        blackhole.consume(out);
+    }
+
+    @Benchmark
+    public void interpretedKernel(Blackhole blackhole) {
+        for (int i = 0; i < StatKernel.ATTRIBUTE_COUNT; i++) {
+            variables[i] = attributes[i];
+        }
+        variables[StatKernel.ATTRIBUTE_COUNT] = 1.2;
+        variables[StatKernel.ATTRIBUTE_COUNT + 1] = 1.0;
+        for (int stat = 0; stat < formulas.length; stat++) {
+            out[stat] = FormulaCompiler.evaluate(formulas[stat], variables);
+        }
+        blackhole.consume(out);
+    }
+
+    // ==================== BOOST DE TRANSFORMAÇÃO ====================
+
+    @Benchmark
+    public CharacterStats legacyTransformationBoost() {
+        Transformation current = character.getActiveTransformation();
+        character.setActiveTransformation(null);
+        CharacterStats base = legacyCalculateStats(character);
+        character.setActiveTransformation(transformation);
+        CharacterStats boosted = legacyCalculateStats(character);
+        character.setActiveTransformation(current);
+        return CharacterStats.builder()
+                .meleeDamage(boosted.getMeleeDamage() - base.getMeleeDamage())
+                .kiPower(boosted.getKiPower() - base.getKiPower())
+                .speed(boosted.getSpeed() - base.getSpeed())
+                .physicalDefense(boosted.getPhysicalDefense() - base.getPhysicalDefense())
+                .kiDefense(boosted.getKiDefense() - base.getKiDefense())
+                .mentalDefense(boosted.getMentalDefense() - base.getMentalDefense())
+                .transformationMultiplier(transformation.getMultiplier())
+                .build();
+    }
+
+    @Benchmark
+    public CharacterStats transformationBoost() {
+        return statService.calculateTransformationBoost(character, transformation);
+    }
+
+    // ==================== PÁGINA (50 PERSONAGENS) ====================
+
+    @Benchmark
+    public List<CharacterStats> batchCalculateStats() {
+        return statService.calculateStats(page);
+    }
+
+    @Benchmark
+    public void kernelBatch(Blackhole blackhole) {
+        StatKernel.computeBatch(attributes, raceModifiers, transformationMultipliers, PAGE_SIZE, out);
+        blackhole.consume(out);
+    }
+
+    @Benchmark
+    public void handWrittenKernelBatch(Blackhole blackhole) {
+        for (int i = 0; i < PAGE_SIZE; i++) {
+            handWrittenCompute(attributes, i * StatKernel.ATTRIBUTE_COUNT, raceModifiers[i], transformationMultipliers[i],
+                    out, i * StatKernel.STAT_COUNT);
+        }
+        blackhole.consume(out);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(StatKernelBenchmark.class.getSimpleName())
+                .addProfiler(GCProfiler.class)
+                .build()).run();
+    }
+
+    // ==================== CÓDIGO ANTERIOR (BASELINE) ====================
+
+    /**
+     * Fórmulas padrão escritas à mão (antes de virem da tabela config): o kernel compilado deve empatar com isto
+     */
+    private static void handWrittenCompute(int[] attributes, int attributeOffset, double race, double transform,
+                                           double[] out, int offset) {
+        int str = attributes[attributeOffset + StatKernel.STR];
+        int dex = attributes[attributeOffset + StatKernel.DEX];
+        int con = attributes[attributeOffset + StatKernel.CON];
+        int wil = attributes[attributeOffset + StatKernel.WIL];
+        int mnd = attributes[attributeOffset + StatKernel.MND];
+        int spi = attributes[attributeOffset + StatKernel.SPI];
+
+        out[offset + StatKernel.MELEE_DAMAGE] = str * 2.5 * race * transform;
+        out[offset + StatKernel.KI_POWER] = wil * 5.2 * race * transform;
+        out[offset + StatKernel.SPEED] = 100 + dex * transform;
+        out[offset + StatKernel.PHYSICAL_DEFENSE] = con * 1.8 * race;
+        out[offset + StatKernel.KI_DEFENSE] = spi * 2.0 * race;
+        out[offset + StatKernel.MENTAL_DEFENSE] = mnd * 1.5 * race;
+        out[offset + StatKernel.MAX_HP] = con * 20;
+        out[offset + StatKernel.MAX_KI] = spi * 40;
+        out[offset + StatKernel.ACTION_TIME] = con * 3.5;
+    }
+
+    private static CharacterStats legacyCalculateStats(Character character) {
+        CharacterAttribute attr = character.getAttributes();
+        double raceModifier = character.getRace().getRaceClassModifier().doubleValue();
+        double multiplier = character.getActiveTransformation() != null
+                ? character.getActiveTransformation().getMultiplier().doubleValue()
+                : 1.0;
+
+        return CharacterStats.builder()
+                .meleeDamage(legacyMelee(attr.getStr(), raceModifier, multiplier))
+                .kiPower(legacyKi(attr.getWil(), raceModifier, multiplier))
+                .speed(legacySpeed(attr.getDex(), multiplier))
+                .physicalDefense(legacyScaled(attr.getCon(), 1.8, raceModifier))
+                .kiDefense(legacyScaled(attr.getSpi(), 2.0, raceModifier))
+                .mentalDefense(legacyScaled(attr.getMnd(), 1.5, raceModifier))
+                .maxHp(legacyTimes(attr.getCon(), 20))
+                .maxKi(legacyTimes(attr.getSpi(), 40))
+                .actionTime(legacyScaled(attr.getCon(), 3.5, 1.0))
+                .raceModifier(character.getRace().getRaceClassModifier())
+                .transformationMultiplier(character.getActiveTransformation() != null
+                        ? character.getActiveTransformation().getMultiplier()
+                        : BigDecimal.ONE)
+                .baseStr(attr.getStr())
+                .baseDex(attr.getDex())
+                .baseCon(attr.getCon())
+                .baseWil(attr.getWil())
+                .baseMnd(attr.getMnd())
+                .baseSpi(attr.getSpi())
+                .build();
+    }
+
+    private static Double legacyMelee(Integer str, double raceModifier, double multiplier) {
+        return str * 2.5 * raceModifier * multiplier;
+    }
+
+    private static Double legacyKi(Integer wil, double raceModifier, double multiplier) {
+        return wil * 5.2 * raceModifier * multiplier;
+    }
+
+    private static Double legacySpeed(Integer dex, double multiplier) {
+        return 100 + (dex * 1.0) * multiplier;
+    }
+
+    private static Double legacyScaled(Integer value, double factor, double modifier) {
+        return value * factor * modifier;
+    }
+
+    private static Integer legacyTimes(Integer value, int factor) {
+        return value * factor;
+    }
+}
@@ -1,15 +1,29 @@
 package com.mugen.backend;
 
+import com.mugen.backend.dto.tp.AttributeAllocation;
+import com.mugen.backend.entity.TPTransaction;
+import com.mugen.backend.entity.character.Character;
+import com.mugen.backend.entity.character.CharacterAttribute;
+import com.mugen.backend.exception.InsufficientTPException;
 import com.mugen.backend.exception.MaxAttributeExceededException;
+import com.mugen.backend.repository.CharacterRepository;
+import com.mugen.backend.repository.TPTransactionRepository;
+import com.mugen.backend.service.CharacterStatsCache;
+import com.mugen.backend.service.TPCostTable;
 import com.mugen.backend.service.TPService;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 
-import static org.junit.jupiter.api.Assertions.assertEquals;
-import static org.junit.jupiter.api.Assertions.assertThrows;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
 
 class TPServiceTest {
 
-    private final TPService tpService = new TPService(null, null, null);
+    private final TPService tpService = new TPService(null, null, null, null);
 
     @Test
     void testCalculateAttributeCost_Tier1() {
@@ -51,4 +65,88 @@ class TPServiceTest {
             tpService.calculateAttributeCost(118, 5); // Ultrapassaria 120
         });
     }
+
+    @Test
+    void testCalculateAttributeCost_MatchesPerPointSum() {
+        for (int current = 0; current <= TPCostTable.MAX_ATTRIBUTE_VALUE; current++) {
+            int expected = 0;
+            for (int points = 0; current + points <= TPCostTable.MAX_ATTRIBUTE_VALUE; points++) {
+                assertEquals(expected, tpService.calculateAttributeCost(current, points));
+                expected += TPCostTable.pointCost(current + points + 1);
+            }
+        }
+    }
+
+    // ========== Alocação em vários atributos ==========
+
+    @Test
+    void testQuoteAttributes_BreakdownAndTotal() {
+        CharacterRepository characterRepository = mock(CharacterRepository.class);
+        Character character = character(48, 79, 20);
+        when(characterRepository.findByIdWithAttributes(character.getId())).thenReturn(Optional.of(character));
+        TPService service = new TPService(null, characterRepository, null, null);
+
+        AttributeAllocation quote = service.quoteAttributes(character.getId(), Map.of("CON", 2, "STR", 5));
+
+        // STR 48→53: 1+1+2+2+2 = 8; CON 79→81: 2+3 = 5
+        assertEquals(new AttributeAllocation.Line(48, 53, 5, 8), quote.attributes().get("STR"));
+        assertEquals(new AttributeAllocation.Line(79, 81, 2, 5), quote.attributes().get("CON"));
+        assertEquals(13, quote.totalCost());
+        assertEquals(7, quote.remainingTP());
+        assertTrue(quote.affordable());
+        assertFalse(quote.applied());
+        assertEquals(48, character.getAttributes().getStr()); // nada muda
+    }
+
+    @Test
+    void testAllocateAttributes_OneTransactionWithBreakdown() {
+        TPTransactionRepository tpTransactionRepository = mock(TPTransactionRepository.class);
+        CharacterRepository characterRepository = mock(CharacterRepository.class);
+        CharacterStatsCache statsCache = mock(CharacterStatsCache.class);
+        Character character = character(48, 79, 20);
+        when(characterRepository.findByIdWithAttributes(character.getId())).thenReturn(Optional.of(character));
+        TPService service = new TPService(tpTransactionRepository, characterRepository, null, statsCache);
+
+        AttributeAllocation result = service.allocateAttributes(character.getId(), Map.of("STR", 5, "CON", 2), null);
+
+        ArgumentCaptor<TPTransaction> captor = ArgumentCaptor.forClass(TPTransaction.class);
+        verify(tpTransactionRepository, times(1)).save(captor.capture());
+        TPTransaction transaction = captor.getValue();
+        assertEquals(-13, transaction.getAmount());
+        assertEquals(7, transaction.getBalanceAfter());
+        assertEquals("ATTRIBUTE_STR_+5_CON_+2", transaction.getReason());
+        assertTrue(((Map<?, ?>) transaction.getMetadata().get("attributes")).containsKey("CON"));
+
+        assertTrue(result.applied());
+        assertEquals(53, character.getAttributes().getStr());
+        assertEquals(81, character.getAttributes().getCon());
+        assertEquals(7, character.getTp());
+        verify(characterRepository, times(1)).save(character);
+        verify(statsCache).invalidate(character.getId());
+    }
+
+    @Test
+    void testAllocateAttributes_InsufficientTPChangesNothing() {
+        TPTransactionRepository tpTransactionRepository = mock(TPTransactionRepository.class);
+        CharacterRepository characterRepository = mock(CharacterRepository.class);
+        Character character = character(48, 79, 10);
+        when(characterRepository.findByIdWithAttributes(character.getId())).thenReturn(Optional.of(character));
+        TPService service = new TPService(tpTransactionRepository, characterRepository, null, null);
+
+        assertThrows(InsufficientTPException.class,
+                () -> service.allocateAttributes(character.getId(), Map.of("STR", 5, "CON", 2), null));
+
+        verifyNoInteractions(tpTransactionRepository);
+        assertEquals(48, character.getAttributes().getStr());
+        assertEquals(10, character.getTp());
+    }
+
+    private static Character character(int str, int con, int tp) {
+        return Character.builder()
+                .id(UUID.randomUUID())
+                .name("Goku")
+                .tp(tp)
+                .attributes(CharacterAttribute.builder().str(str).dex(10).con(con).wil(10).mnd(10).spi(10).build())
+                .build();
+    }
 }
@@ -0,0 +1,51 @@
+package com.mugen.backend;
+
+import com.mugen.backend.security.TokenBucket;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TokenBucketTest {
+
+    private final AtomicLong clock = new AtomicLong(1_000_000_000L);
+
+    @Test
+    void testBurst_UpToCapacityThenRejects() {
+        TokenBucket bucket = new TokenBucket(3, 1.0, clock::get);
+
+        assertEquals(2, bucket.tryConsume().remaining());
+        assertEquals(1, bucket.tryConsume().remaining());
+        assertEquals(0, bucket.tryConsume().remaining());
+
+        TokenBucket.Decision rejected = bucket.tryConsume();
+        assertFalse(rejected.allowed());
+        assertEquals(1, rejected.retryAfterSeconds());
+    }
+
+    @Test
+    void testRefill_OneTokenPerInterval() {
+        TokenBucket bucket = new TokenBucket(2, 2.0, clock::get); // 1 ficha a cada 500ms
+
+        assertTrue(bucket.tryConsume().allowed());
+        assertTrue(bucket.tryConsume().allowed());
+        assertFalse(bucket.tryConsume().allowed());
+
+        clock.addAndGet(TimeUnit.MILLISECONDS.toNanos(500));
+        assertTrue(bucket.tryConsume().allowed());
+        assertFalse(bucket.tryConsume().allowed());
+    }
+
+    @Test
+    void testIdle_DoesNotAccumulateBeyondCapacity() {
+        TokenBucket bucket = new TokenBucket(2, 1.0, clock::get);
+
+        clock.addAndGet(TimeUnit.HOURS.toNanos(1));
+
+        assertTrue(bucket.tryConsume().allowed());
+        assertTrue(bucket.tryConsume().allowed());
+        assertFalse(bucket.tryConsume().allowed());
+    }
+}
@@ -0,0 +1,69 @@
+package com.mugen.backend;
+
+import com.mugen.backend.repository.RevokedTokenRepository;
+import com.mugen.backend.security.JwtPrincipal;
+import com.mugen.backend.security.TokenRevocationService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+
+class TokenRevocationServiceTest {
+
+    private final TokenRevocationService revocationService =
+            new TokenRevocationService(mock(RevokedTokenRepository.class), new SimpleMeterRegistry(), 3_600_000L, 30_000L);
+
+    @Test
+    void testRevokeAllForUser_RejectsOlderTokens() {
+        UUID userId = UUID.randomUUID();
+        Instant before = Instant.now();
+
+        revocationService.revokeAllForUser(userId, "DEACTIVATED");
+
+        // iat tem precisão de segundos
+        long oldToken = before.truncatedTo(ChronoUnit.SECONDS).minusSeconds(1).toEpochMilli();
+        assertTrue(revocationService.isRevoked(principal(userId, oldToken)));
+    }
+
+    @Test
+    void testRevokeAllForUser_RejectsTokenIssuedInSameSecond() {
+        UUID userId = UUID.randomUUID();
+        Instant before = Instant.now();
+
+        revocationService.revokeAllForUser(userId, "DELETED");
+        Instant after = Instant.now();
+
+        // Emitidos no mesmo segundo da revogação (antes ou depois dela dentro do segundo)
+        assertTrue(revocationService.isRevoked(principal(userId, before.truncatedTo(ChronoUnit.SECONDS).toEpochMilli())));
+        assertTrue(revocationService.isRevoked(principal(userId, after.truncatedTo(ChronoUnit.SECONDS).toEpochMilli())));
+    }
+
+    @Test
+    void testRevokeAllForUser_AcceptsTokenIssuedInLaterSecond() {
+        UUID userId = UUID.randomUUID();
+
+        revocationService.revokeAllForUser(userId, "DEACTIVATED");
+        Instant after = Instant.now();
+
+        long laterLogin = after.truncatedTo(ChronoUnit.SECONDS).plusSeconds(1).toEpochMilli();
+        assertFalse(revocationService.isRevoked(principal(userId, laterLogin)));
+    }
+
+    @Test
+    void testIsRevoked_OtherUserUnaffected() {
+        revocationService.revokeAllForUser(UUID.randomUUID(), "DELETED");
+
+        assertFalse(revocationService.isRevoked(principal(UUID.randomUUID(), Instant.now().toEpochMilli())));
+    }
+
+    private static JwtPrincipal principal(UUID userId, long issuedAtMillis) {
+        return new JwtPrincipal(userId.toString(), Set.of("ROLE_PLAYER"), null, issuedAtMillis,
+                issuedAtMillis + 3_600_000L);
+    }
+}
@@ -3,6 +3,8 @@ package com.mugen.backend;
 import com.mugen.backend.entity.Role;
 import com.mugen.backend.entity.User;
 import com.mugen.backend.repository.UserRepository;
+import com.mugen.backend.security.PrincipalCache;
+import com.mugen.backend.security.TokenRevocationService;
 import com.mugen.backend.service.RoleService;
 import com.mugen.backend.service.UserService;
 import org.junit.jupiter.api.BeforeEach;
@@ -29,6 +31,12 @@ class UserServiceTest {
     @Mock
     private RoleService roleService;
 
+    @Mock
+    private PrincipalCache principalCache;
+
+    @Mock
+    private TokenRevocationService tokenRevocationService;
+
     @InjectMocks
     private UserService userService;
 
@@ -138,6 +146,7 @@ class UserServiceTest {
 
         assertTrue(promotedUser.getRoles().contains(masterRole));
         verify(userRepository, times(1)).save(testUser);
+        verify(principalCache).invalidate(testUserId, testUser.getEmail());
     }
 
     @Test
@@ -159,6 +168,7 @@ class UserServiceTest {
 
         assertFalse(deactivatedUser.getIsActive());
         verify(userRepository, times(1)).save(testUser);
+        verify(tokenRevocationService).revokeAllForUser(testUserId, "DEACTIVATED");
     }
 
     @Test
@@ -0,0 +1,56 @@
+package com.mugen.backend;
+
+import com.mugen.backend.entity.id.Uuid7;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class Uuid7Test {
+
+    @Test
+    void testNext_SetsVersionAndVariant() {
+        UUID uuid = Uuid7.next();
+
+        assertEquals(7, uuid.version());
+        assertEquals(2, uuid.variant());
+    }
+
+    @Test
+    void testNext_EmbedsCurrentTimestamp() {
+        long before = System.currentTimeMillis();
+        UUID uuid = Uuid7.next();
+        long after = System.currentTimeMillis();
+
+        long timestamp = Uuid7.timestampMillis(uuid);
+        assertTrue(timestamp >= before);
+        // O contador pode adiantar alguns ms quando muitos ids são gerados no mesmo ms
+        assertTrue(timestamp <= after + 100);
+    }
+
+    @Test
+    void testNext_IsStrictlyIncreasingAndUnique() {
+        Set<UUID> seen = new HashSet<>();
+        UUID previous = Uuid7.next();
+        seen.add(previous);
+
+        for (int i = 0; i < 20_000; i++) {
+            UUID current = Uuid7.next();
+            assertTrue(current.compareTo(previous) > 0, "ids devem crescer: " + previous + " -> " + current);
+            assertTrue(seen.add(current));
+            previous = current;
+        }
+    }
+
+    @Test
+    void testNext_StringFormSortsLikeDatabase() {
+        // Postgres compara bytes sem sinal; a forma textual ordena igual
+        UUID first = Uuid7.next();
+        UUID second = Uuid7.next();
+
+        assertTrue(first.toString().compareTo(second.toString()) < 0);
+    }
+}
@@ -0,0 +1,77 @@
+package com.mugen.backend;
+
+import com.mugen.backend.entity.Role;
+import com.mugen.backend.entity.User;
+import com.mugen.backend.security.JwtPrincipal;
+import com.mugen.backend.security.JwtTokenProvider;
+import com.mugen.backend.security.VerifiedTokenCache;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.HashSet;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class VerifiedTokenCacheTest {
+
+    private JwtTokenProvider jwtTokenProvider;
+    private SimpleMeterRegistry meterRegistry;
+    private VerifiedTokenCache cache;
+
+    @BeforeEach
+    void setUp() {
+        jwtTokenProvider = new JwtTokenProvider();
+        ReflectionTestUtils.setField(jwtTokenProvider, "jwtSecret", "test-secret-key-for-jwt-cache-with-32-plus-chars");
+        ReflectionTestUtils.setField(jwtTokenProvider, "jwtExpirationMs", 60_000L);
+
+        meterRegistry = new SimpleMeterRegistry();
+        cache = new VerifiedTokenCache(jwtTokenProvider, meterRegistry, 100);
+    }
+
+    @Test
+    void testVerify_ReturnsSubjectAndRolesTogether() {
+        UUID userId = UUID.randomUUID();
+        String token = jwtTokenProvider.generateToken(user(userId));
+
+        Optional<JwtPrincipal> principal = jwtTokenProvider.verify(token);
+
+        assertTrue(principal.isPresent());
+        assertEquals(userId.toString(), principal.get().userId());
+        assertEquals(Set.of("ROLE_PLAYER"), principal.get().roles());
+        assertTrue(principal.get().expiresAtMillis() > System.currentTimeMillis());
+    }
+
+    @Test
+    void testResolve_SecondCallIsCacheHit() {
+        String token = jwtTokenProvider.generateToken(user(UUID.randomUUID()));
+
+        cache.resolve(token);
+        cache.resolve(token);
+
+        assertEquals(1.0, meterRegistry.get("cache.gets").tag("result", "hit").functionCounter().count());
+        assertEquals(1.0, meterRegistry.get("cache.gets").tag("result", "miss").functionCounter().count());
+        assertEquals(1, cache.size());
+    }
+
+    @Test
+    void testResolve_InvalidTokenIsNotCached() {
+        assertTrue(cache.resolve("not-a-jwt").isEmpty());
+        assertTrue(cache.resolve("not-a-jwt").isEmpty());
+        assertEquals(0, cache.size());
+    }
+
+    private User user(UUID id) {
+        Role role = Role.builder().id(1).name("PLAYER").build();
+        return User.builder()
+                .id(id)
+                .email("player@mugen.com")
+                .displayName("Player")
+                .roles(new HashSet<>(Set.of(role)))
+                .build();
+    }
+}